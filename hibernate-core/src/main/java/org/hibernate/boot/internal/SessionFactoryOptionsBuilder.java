@@ -14,6 +14,8 @@
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -62,6 +64,7 @@
 import org.hibernate.jpa.internal.util.CacheModeHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderCoalescingImpl;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.NullPrecedence;
@@ -94,8 +97,10 @@
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
+import static org.hibernate.cfg.QuerySettings.ALWAYS_BIND_PAGINATION;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
+import static org.hibernate.cfg.QuerySettings.PARALLEL_ROW_MATERIALIZATION_BATCH_SIZE;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
 import static org.hibernate.cfg.QuerySettings.XML_FUNCTIONS_ENABLED;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
@@ -108,6 +113,7 @@
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 import static org.hibernate.jpa.internal.util.CacheModeHelper.interpretCacheMode;
 import static org.hibernate.type.format.jackson.JacksonIntegration.getJsonJacksonFormatMapperOrNull;
@@ -163,6 +169,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	// persistence behavior
 	private CustomEntityDirtinessStrategy customEntityDirtinessStrategy;
+	private boolean shortCircuitDirtyCheckEnabled;
+	private int parallelDirtyCheckThreshold;
+	private Executor parallelDirtyCheckExecutor;
+	private int loadedStateDigestThreshold;
 	private final List<EntityNameResolver> entityNameResolvers = new ArrayList<>();
 	private EntityNotFoundDelegate entityNotFoundDelegate;
 	private boolean identifierRollbackEnabled;
@@ -171,6 +181,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private boolean adaptiveBatchFetchEnabled;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
 	private Nulls defaultNullPrecedence;
@@ -212,6 +223,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
+	private boolean coalesceConcurrentLoadsEnabled;
+	private int coalesceConcurrentLoadsTimeout;
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
@@ -224,6 +237,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private final long adaptiveFetchSizeMemoryBudget;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -231,6 +245,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TimeZone jdbcTimeZone;
 	private final ValueHandlingMode criteriaValueHandlingMode;
 	private final boolean criteriaCopyTreeEnabled;
+	private final boolean criteriaPlanCacheEnabled;
 	private final boolean nativeJdbcParametersIgnored;
 	private final ImmutableEntityUpdateQueryHandlingMode immutableEntityUpdateQueryHandlingMode;
 	// These two settings cannot be modified from the builder,
@@ -246,8 +261,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final boolean alwaysBindPaginationEnabled;
+	private final int parallelRowMaterializationBatchSize;
+	private final Executor parallelRowMaterializationExecutor;
 
 	private final boolean portableIntegerDivisionEnabled;
+	private final boolean simpleHqlInterpretationEnabled;
 	private final boolean jsonFunctionsEnabled;
 	private final boolean xmlFunctionsEnabled;
 
@@ -337,6 +356,13 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				strategySelector.resolveDefaultableStrategy( CustomEntityDirtinessStrategy.class,
 						settings.get( CUSTOM_ENTITY_DIRTINESS_STRATEGY ),
 						DefaultCustomEntityDirtinessStrategy.INSTANCE );
+		shortCircuitDirtyCheckEnabled = getBoolean( SHORT_CIRCUIT_DIRTY_CHECK, settings );
+		parallelDirtyCheckThreshold = getInt( PARALLEL_DIRTY_CHECK_THRESHOLD, settings, 0 );
+		parallelDirtyCheckExecutor =
+				strategySelector.resolveDefaultableStrategy( Executor.class,
+						settings.get( PARALLEL_DIRTY_CHECK_EXECUTOR ),
+						ForkJoinPool.commonPool() );
+		loadedStateDigestThreshold = getInt( LOADED_STATE_DIGEST_THRESHOLD, settings, 0 );
 
 		entityNotFoundDelegate = StandardEntityNotFoundDelegate.INSTANCE;
 
@@ -365,6 +391,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
+		adaptiveBatchFetchEnabled = getBoolean( ADAPTIVE_BATCH_FETCH, settings );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
@@ -425,6 +452,10 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 							settings.get( QUERY_CACHE_FACTORY ), StandardTimestampsCacheFactory.INSTANCE );
 			minimalPutsEnabled =
 					configurationService.getSetting( USE_MINIMAL_PUTS, BOOLEAN, regionFactory.isMinimalPutsEnabledByDefault() );
+			coalesceConcurrentLoadsEnabled =
+					configurationService.getSetting( COALESCE_CONCURRENT_LOADS, BOOLEAN, false );
+			coalesceConcurrentLoadsTimeout =
+					getInt( COALESCE_CONCURRENT_LOADS_TIMEOUT, settings, SingleIdEntityLoaderCoalescingImpl.DEFAULT_TIMEOUT_MILLIS );
 			structuredCacheEntriesEnabled =
 					configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
 			directReferenceCacheEntriesEnabled =
@@ -439,6 +470,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
+			coalesceConcurrentLoadsEnabled = false;
+			coalesceConcurrentLoadsTimeout = SingleIdEntityLoaderCoalescingImpl.DEFAULT_TIMEOUT_MILLIS;
 			structuredCacheEntriesEnabled = false;
 			directReferenceCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
@@ -473,6 +506,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				getBoolean( USE_GET_GENERATED_KEYS, settings, meta.supportsGetGeneratedKeys() );
 
 		jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, settings );
+		adaptiveFetchSizeMemoryBudget = getLong( ADAPTIVE_FETCH_SIZE_MEMORY_BUDGET, settings, 0 );
 
 		connectionHandlingMode = interpretConnectionHandlingMode( settings, serviceRegistry );
 
@@ -491,6 +525,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 
 		criteriaValueHandlingMode = ValueHandlingMode.interpret( settings.get( CRITERIA_VALUE_HANDLING_MODE ) );
 		criteriaCopyTreeEnabled = getBoolean( AvailableSettings.CRITERIA_COPY_TREE, settings, jpaBootstrap );
+		criteriaPlanCacheEnabled = getBoolean( CRITERIA_PLAN_CACHE_ENABLED, settings, false );
 
 		nativeJdbcParametersIgnored =
 				getBoolean( AvailableSettings.NATIVE_IGNORE_JDBC_PARAMETERS, settings, false );
@@ -508,8 +543,15 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		defaultSchema = getString( DEFAULT_SCHEMA, settings );
 
 		inClauseParameterPaddingEnabled = getBoolean( IN_CLAUSE_PARAMETER_PADDING, settings );
+		alwaysBindPaginationEnabled = getBoolean( ALWAYS_BIND_PAGINATION, settings );
+		parallelRowMaterializationBatchSize = getInt( PARALLEL_ROW_MATERIALIZATION_BATCH_SIZE, settings, 0 );
+		parallelRowMaterializationExecutor =
+				strategySelector.resolveDefaultableStrategy( Executor.class,
+						settings.get( PARALLEL_ROW_MATERIALIZATION_EXECUTOR ),
+						ForkJoinPool.commonPool() );
 
 		portableIntegerDivisionEnabled = getBoolean( PORTABLE_INTEGER_DIVISION, settings );
+		simpleHqlInterpretationEnabled = getBoolean( SIMPLE_HQL_INTERPRETATION, settings );
 
 		jsonFunctionsEnabled = getBoolean( JSON_FUNCTIONS_ENABLED, settings );
 		xmlFunctionsEnabled = getBoolean( XML_FUNCTIONS_ENABLED, settings );
@@ -954,6 +996,11 @@ public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1029,6 +1076,16 @@ public boolean isMinimalPutsEnabled() {
 		return minimalPutsEnabled;
 	}
 
+	@Override
+	public boolean isCoalesceConcurrentLoadsEnabled() {
+		return coalesceConcurrentLoadsEnabled;
+	}
+
+	@Override
+	public int getCoalesceConcurrentLoadsTimeout() {
+		return coalesceConcurrentLoadsTimeout;
+	}
+
 	@Override
 	public boolean isStructuredCacheEntriesEnabled() {
 		return structuredCacheEntriesEnabled;
@@ -1074,6 +1131,11 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public long getAdaptiveFetchSizeMemoryBudget() {
+		return adaptiveFetchSizeMemoryBudget;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1099,6 +1161,26 @@ public CustomEntityDirtinessStrategy getCustomEntityDirtinessStrategy() {
 		return customEntityDirtinessStrategy;
 	}
 
+	@Override
+	public boolean isShortCircuitDirtyCheckEnabled() {
+		return shortCircuitDirtyCheckEnabled;
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
+	@Override
+	public Executor getParallelDirtyCheckExecutor() {
+		return parallelDirtyCheckExecutor;
+	}
+
+	@Override
+	public int getLoadedStateDigestThreshold() {
+		return loadedStateDigestThreshold;
+	}
+
 	@Override
 	public EntityNameResolver[] getEntityNameResolvers() {
 		return entityNameResolvers.toArray(new EntityNameResolver[0]);
@@ -1134,6 +1216,11 @@ public boolean isCriteriaCopyTreeEnabled() {
 		return criteriaCopyTreeEnabled;
 	}
 
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return criteriaPlanCacheEnabled;
+	}
+
 	@Override
 	public boolean getNativeJdbcParametersIgnored() {
 		return nativeJdbcParametersIgnored;
@@ -1164,6 +1251,21 @@ public boolean inClauseParameterPaddingEnabled() {
 		return inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean isAlwaysBindPaginationEnabled() {
+		return alwaysBindPaginationEnabled;
+	}
+
+	@Override
+	public int getParallelRowMaterializationBatchSize() {
+		return parallelRowMaterializationBatchSize;
+	}
+
+	@Override
+	public Executor getParallelRowMaterializationExecutor() {
+		return parallelRowMaterializationExecutor;
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return jsonFunctionsEnabled;
@@ -1179,6 +1281,11 @@ public boolean isPortableIntegerDivisionEnabled() {
 		return portableIntegerDivisionEnabled;
 	}
 
+	@Override
+	public boolean isSimpleHqlInterpretationEnabled() {
+		return simpleHqlInterpretationEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -6,6 +6,7 @@
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -189,6 +190,11 @@ public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -279,6 +285,16 @@ public boolean isMinimalPutsEnabled() {
 		return delegate.isMinimalPutsEnabled();
 	}
 
+	@Override
+	public boolean isCoalesceConcurrentLoadsEnabled() {
+		return delegate.isCoalesceConcurrentLoadsEnabled();
+	}
+
+	@Override
+	public int getCoalesceConcurrentLoadsTimeout() {
+		return delegate.getCoalesceConcurrentLoadsTimeout();
+	}
+
 	@Override
 	public boolean isStructuredCacheEntriesEnabled() {
 		return delegate.isStructuredCacheEntriesEnabled();
@@ -324,6 +340,11 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public long getAdaptiveFetchSizeMemoryBudget() {
+		return delegate.getAdaptiveFetchSizeMemoryBudget();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -344,6 +365,26 @@ public CustomEntityDirtinessStrategy getCustomEntityDirtinessStrategy() {
 		return delegate.getCustomEntityDirtinessStrategy();
 	}
 
+	@Override
+	public boolean isShortCircuitDirtyCheckEnabled() {
+		return delegate.isShortCircuitDirtyCheckEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
+	@Override
+	public Executor getParallelDirtyCheckExecutor() {
+		return delegate.getParallelDirtyCheckExecutor();
+	}
+
+	@Override
+	public int getLoadedStateDigestThreshold() {
+		return delegate.getLoadedStateDigestThreshold();
+	}
+
 	@Override
 	public EntityNameResolver[] getEntityNameResolvers() {
 		return delegate.getEntityNameResolvers();
@@ -399,6 +440,11 @@ public boolean isCriteriaCopyTreeEnabled() {
 		return delegate.isCriteriaCopyTreeEnabled();
 	}
 
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return delegate.isCriteriaPlanCacheEnabled();
+	}
+
 	public boolean getNativeJdbcParametersIgnored() {
 		return delegate.getNativeJdbcParametersIgnored();
 	}
@@ -433,6 +479,21 @@ public boolean inClauseParameterPaddingEnabled() {
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean isAlwaysBindPaginationEnabled() {
+		return delegate.isAlwaysBindPaginationEnabled();
+	}
+
+	@Override
+	public int getParallelRowMaterializationBatchSize() {
+		return delegate.getParallelRowMaterializationBatchSize();
+	}
+
+	@Override
+	public Executor getParallelRowMaterializationExecutor() {
+		return delegate.getParallelRowMaterializationExecutor();
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return delegate.isJsonFunctionsEnabled();
@@ -448,6 +509,11 @@ public boolean isPortableIntegerDivisionEnabled() {
 		return delegate.isPortableIntegerDivisionEnabled();
 	}
 
+	@Override
+	public boolean isSimpleHqlInterpretationEnabled() {
+		return delegate.isSimpleHqlInterpretationEnabled();
+	}
+
 	@Override
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
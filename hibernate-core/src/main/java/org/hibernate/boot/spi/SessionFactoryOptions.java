@@ -6,6 +6,8 @@
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -29,6 +31,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderCoalescingImpl;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.spi.QueryEngineOptions;
@@ -202,6 +205,13 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 */
+	default boolean isAdaptiveBatchFetchEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.FetchSettings#MAX_FETCH_DEPTH
 	 */
@@ -275,6 +285,20 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isMinimalPutsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#COALESCE_CONCURRENT_LOADS
+	 */
+	default boolean isCoalesceConcurrentLoadsEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#COALESCE_CONCURRENT_LOADS_TIMEOUT
+	 */
+	default int getCoalesceConcurrentLoadsTimeout() {
+		return SingleIdEntityLoaderCoalescingImpl.DEFAULT_TIMEOUT_MILLIS;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#USE_STRUCTURED_CACHE
 	 */
@@ -317,6 +341,13 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_MEMORY_BUDGET
+	 */
+	default long getAdaptiveFetchSizeMemoryBudget() {
+		return 0L;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 */
@@ -337,6 +368,34 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	CustomEntityDirtinessStrategy getCustomEntityDirtinessStrategy();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SHORT_CIRCUIT_DIRTY_CHECK
+	 */
+	default boolean isShortCircuitDirtyCheckEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 */
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_EXECUTOR
+	 */
+	default Executor getParallelDirtyCheckExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#LOADED_STATE_DIGEST_THRESHOLD
+	 */
+	default int getLoadedStateDigestThreshold() {
+		return 0;
+	}
+
 	EntityNameResolver[] getEntityNameResolvers();
 
 	/**
@@ -399,6 +458,13 @@ default boolean isCriteriaCopyTreeEnabled() {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+	 */
+	default boolean isCriteriaPlanCacheEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#NATIVE_IGNORE_JDBC_PARAMETERS
 	 */
@@ -442,6 +508,27 @@ default boolean inClauseParameterPaddingEnabled() {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#ALWAYS_BIND_PAGINATION
+	 */
+	default boolean isAlwaysBindPaginationEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_ROW_MATERIALIZATION_BATCH_SIZE
+	 */
+	default int getParallelRowMaterializationBatchSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_ROW_MATERIALIZATION_EXECUTOR
+	 */
+	default Executor getParallelRowMaterializationExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#JSON_FUNCTIONS_ENABLED
 	 */
@@ -470,6 +557,17 @@ default boolean isPortableIntegerDivisionEnabled() {
 		return false;
 	}
 
+	/**
+	 * Should very simple HQL queries be interpreted without the help of
+	 * the ANTLR parser?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SIMPLE_HQL_INTERPRETATION
+	 */
+	@Override
+	default boolean isSimpleHqlInterpretationEnabled() {
+		return false;
+	}
+
 	/**
 	 * The number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that should be stored by {@link org.hibernate.stat.Statistics}.
@@ -186,6 +186,101 @@
 	 */
 	String CUSTOM_ENTITY_DIRTINESS_STRATEGY = "hibernate.entity_dirtiness_strategy";
 
+	/**
+	 * When enabled, the dirty check performed at flush time skips the attribute-by-attribute
+	 * comparison of an entity which is not bytecode enhanced for dirty tracking when every
+	 * dirty-checkable attribute of {@linkplain org.hibernate.type.Type#isMutable() immutable}
+	 * type still holds the very same instance as the snapshot taken when the entity was
+	 * loaded, and every attribute of mutable basic type, for example, a {@code java.util.Date},
+	 * still matches its snapshot, or its {@linkplain #LOADED_STATE_DIGEST_THRESHOLD digest}.
+	 * Such an entity cannot be dirty, and so its comparison is skipped, which is counted by
+	 * {@link org.hibernate.stat.Statistics#getEntityDirtyCheckSkipCount()}.
+	 * <p>
+	 * Entities with a modified attribute of mutable type which is not a basic type, for
+	 * example, an embeddable, are compared attribute by attribute.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String SHORT_CIRCUIT_DIRTY_CHECK = "hibernate.short_circuit_dirty_check";
+
+	/**
+	 * When set to a positive value, a flush of a persistence context holding at least
+	 * the given number of entities dirty checks these entities in parallel, on the
+	 * {@linkplain #PARALLEL_DIRTY_CHECK_EXECUTOR configured executor}, before
+	 * processing them one by one as usual. Interceptors, listeners and callbacks are
+	 * still invoked sequentially, and in the usual order, by the thread of the session.
+	 * <p>
+	 * The attribute values are read by the thread of the session, once for all entities,
+	 * before any of them is processed. An attribute value replaced by an interceptor or
+	 * listener while another entity is processed is therefore not detected. The parallel
+	 * phase only compares attributes of immutable
+	 * {@linkplain org.hibernate.type.BasicType basic type}, and only for entities which
+	 * are not bytecode enhanced. Attributes of mutable type, which may be modified in place
+	 * while other entities are processed, are compared sequentially. The dirty check of
+	 * any other entity is performed sequentially. Enabling this setting requires that the
+	 * equality of the attribute values is thread-safe.
+	 *
+	 * @settingDefault {@code 0}, which disables parallel dirty checking
+	 *
+	 * @since 7.0
+	 */
+	String PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.parallel_dirty_check_threshold";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} on which the entities of a
+	 * persistence context are {@linkplain #PARALLEL_DIRTY_CHECK_THRESHOLD dirty checked
+	 * in parallel}, either:
+	 * <ul>
+	 *     <li>an instance of {@code Executor},
+	 *     <li>a {@link Class} representing a class that implements {@code Executor}, or
+	 *     <li>the name of a class that implements {@code Executor}.
+	 * </ul>
+	 * <p>
+	 * The lifecycle of the executor is not managed by Hibernate.
+	 *
+	 * @settingDefault The {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}
+	 *
+	 * @since 7.0
+	 */
+	String PARALLEL_DIRTY_CHECK_EXECUTOR = "hibernate.parallel_dirty_check_executor";
+
+	/**
+	 * When set to a positive value, the loaded state of an entity read from the database
+	 * holds a SHA-256 digest of each {@code byte[]}, {@code char[]}, JSON or XML attribute
+	 * value whose size, in bytes or characters, is at least the given value, instead of a
+	 * deep copy of the value. This lowers the memory held by a persistence context reading
+	 * large values, at the cost of hashing these values when they are loaded and when they
+	 * are dirty checked.
+	 * <p>
+	 * Values are not hashed for entities loaded in read-only mode, since they keep no
+	 * loaded state. Digests are never taken of natural id and version attributes, nor
+	 * of the attributes of entities which are bytecode enhanced, cached in the
+	 * second-level cache, have partitioned columns, or use
+	 * {@linkplain org.hibernate.annotations.OptimisticLockType#ALL all} or
+	 * {@linkplain org.hibernate.annotations.OptimisticLockType#DIRTY dirty} optimistic
+	 * locking.
+	 * <p>
+	 * <em>Enabling this setting changes the contract of interceptors and event listeners.</em>
+	 * For an attribute whose value was digested, the previous state they receive holds
+	 * an {@link org.hibernate.engine.internal.LoadedValueDigest} instead of the previous
+	 * value of the attribute. This affects
+	 * {@link org.hibernate.Interceptor#onFlushDirty},
+	 * {@link org.hibernate.event.spi.PreUpdateEvent#getOldState()},
+	 * {@link org.hibernate.event.spi.PostUpdateEvent#getOldState()}, and
+	 * {@link org.hibernate.engine.spi.EntityEntry#getLoadedState()}. Listeners which
+	 * read the previous values, for example for auditing, must not be used together with
+	 * this setting. The deleted state passed to delete listeners holds the values read
+	 * from the database, at the cost of an additional query when an entity whose loaded
+	 * state holds a digest is removed.
+	 *
+	 * @settingDefault {@code 0}, which disables digests
+	 *
+	 * @since 7.0
+	 */
+	String LOADED_STATE_DIGEST_THRESHOLD = "hibernate.loaded_state_digest_threshold";
+
 	/**
 	 * Event listener configuration properties follow the pattern
 	 * {@code hibernate.event.listener.eventType packageName.ClassName1, packageName.ClassName2}
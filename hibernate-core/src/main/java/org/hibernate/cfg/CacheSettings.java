@@ -175,6 +175,37 @@ public interface CacheSettings {
 	 */
 	String USE_MINIMAL_PUTS = "hibernate.cache.use_minimal_puts";
 
+	/**
+	 * When enabled, concurrent loads of the same cacheable entity by its identifier
+	 * are coalesced across sessions: while one session loads the entity from the
+	 * database, any other session loading the same entity waits for that load to
+	 * complete, and then reads the state the first session put into the second-level
+	 * cache, instead of executing the same SQL query again.
+	 * <p>
+	 * Only the cached state is shared, never the entity instance. A session waits
+	 * at most {@value #COALESCE_CONCURRENT_LOADS_TIMEOUT} for the load of another
+	 * session, and then loads the entity itself. Loads which lock the entity, or
+	 * which do not both read from and write to the second-level cache, are never
+	 * coalesced.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String COALESCE_CONCURRENT_LOADS = "hibernate.cache.coalesce_concurrent_loads";
+
+	/**
+	 * The maximum time, in milliseconds, a session waits for the load of another
+	 * session when {@value #COALESCE_CONCURRENT_LOADS} is enabled, before it loads
+	 * the entity itself. A value of {@code 0} disables waiting, so that concurrent
+	 * loads are only coalesced when the other load has already completed.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 7.0
+	 */
+	String COALESCE_CONCURRENT_LOADS_TIMEOUT = "hibernate.cache.coalesce_concurrent_loads_timeout";
+
 	/**
 	 * Enables the use of structured second-level cache entries. This makes the cache
 	 * entries human-readable, but carries a performance cost.
@@ -31,6 +31,26 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the size of each batch used to fetch an entity or collection
+	 * role via a single {@linkplain org.hibernate.type.SqlTypes#ARRAY array}
+	 * parameter is adapted to the number of keys which were actually pending in the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue} by previous batch loads of
+	 * the same role, instead of always being the {@linkplain BatchSize#size()
+	 * configured batch size}.
+	 * <p>
+	 * The batch size grows when pending keys are left behind by a batch load,
+	 * but never beyond the {@linkplain org.hibernate.dialect.Dialect#getInExpressionCountLimit()
+	 * limits of the dialect}, and shrinks back when fewer keys are pending, but
+	 * never below the configured batch size. Batch fetching must still be enabled for the
+	 * role, either explicitly, or via {@value #DEFAULT_BATCH_FETCH_SIZE}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_BATCH_FETCH = "hibernate.adaptive_batch_fetch";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -404,6 +404,27 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Enables adaptive fetch sizes for queries which do not specify an explicit
+	 * {@linkplain org.hibernate.query.SelectionQuery#setFetchSize(int) fetch size},
+	 * and specifies the approximate amount of memory, in bytes, which may be used
+	 * to hold the rows fetched from the database in a single round trip.
+	 * <p>
+	 * When enabled, Hibernate records the number of rows read by each execution
+	 * of a query plan, and chooses the fetch size of the next execution of that
+	 * plan so that the results are likely retrieved in a single round trip,
+	 * unless the rows, as estimated from the types of the selected columns,
+	 * would exceed the given budget.
+	 * <p>
+	 * If {@code 0}, the fetch size is not adapted, and the
+	 * {@value #STATEMENT_FETCH_SIZE} or the driver default is used.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_FETCH_SIZE_MEMORY_BUDGET = "hibernate.jdbc.adaptive_fetch_size_memory_budget";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
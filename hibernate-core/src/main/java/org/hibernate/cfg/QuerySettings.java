@@ -47,6 +47,18 @@ public interface QuerySettings {
 	 */
 	String PORTABLE_INTEGER_DIVISION = "hibernate.query.hql.portable_integer_division";
 
+	/**
+	 * When enabled, specifies that very simple HQL queries of the form
+	 * {@code from Entity e where e.attribute = :param order by e.attribute}
+	 * are interpreted directly, without the help of the ANTLR parser. The
+	 * interpretation is identical to the one produced by the parser.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String SIMPLE_HQL_INTERPRETATION = "hibernate.query.hql.simple_interpretation";
+
 	/**
 	 * Specifies a {@link org.hibernate.query.hql.HqlTranslator} to use for HQL query
 	 * translation.
@@ -82,6 +94,21 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads used to parse the named HQL queries when they are
+	 * {@linkplain #QUERY_STARTUP_CHECKING checked during startup}.
+	 * <p>
+	 * Since the interpretations of the checked queries are added to the
+	 * {@link org.hibernate.query.spi.QueryInterpretationCache}, the first execution
+	 * of a named query does not need to parse it, as long as the cache is large
+	 * enough to hold all named queries. See {@value #QUERY_PLAN_CACHE_HQL_MAX_SIZE}.
+	 *
+	 * @settingDefault {@code 1} - named queries are parsed sequentially.
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -156,6 +183,28 @@ public interface QuerySettings {
 	 */
 	String CRITERIA_COPY_TREE = "hibernate.criteria.copy_tree";
 
+	/**
+	 * When enabled, the plan of a criteria query is cached by a structural
+	 * fingerprint of the query, and reused by other criteria queries of the same
+	 * shape, independently of the values of their parameters. Values bound via
+	 * {@link org.hibernate.query.criteria.ValueHandlingMode#BIND} are parameters,
+	 * and so do not affect the fingerprint, while inlined literals do.
+	 * <p>
+	 * The fingerprint is derived from the HQL rendering of the query, which must be
+	 * computed for every execution of a criteria query. Queries containing nodes whose
+	 * rendering does not determine their meaning, for example, custom
+	 * {@link org.hibernate.query.sqm.tree.SqmVisitableNode} implementations, should
+	 * not be used with this setting.
+	 * <p>
+	 * By default, the plan of a criteria query is only reused when the very same
+	 * criteria query object is executed again.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String CRITERIA_PLAN_CACHE_ENABLED = "hibernate.criteria.plan_cache_enabled";
+
 	/**
 	 * When enabled, ordinal parameters (represented by the {@code ?} placeholder) in
 	 * native queries will be ignored.
@@ -236,6 +285,66 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, a query with a {@linkplain org.hibernate.query.spi.Limit limit}
+	 * always renders both the offset and the maximum number of rows as JDBC
+	 * parameters, whether or not both values were specified. Missing values are
+	 * bound as {@code 0} and {@link Integer#MAX_VALUE}.
+	 * <p>
+	 * By default, the offset is only rendered if a first result was specified,
+	 * and the fetch clause is only rendered if a maximum number of results was
+	 * specified, so that the pages of a query might execute distinct SQL statements.
+	 * With this setting enabled, all pages of a query share the same SQL statement,
+	 * and therefore the same query plan and the same server-side prepared statement.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String ALWAYS_BIND_PAGINATION = "hibernate.query.always_bind_pagination";
+
+	/**
+	 * When set to a positive value, the rows of a query result list which consists
+	 * purely of scalar values (that is, no entities, embeddables or collections)
+	 * are materialized in parallel, in batches of the given number of rows.
+	 * <p>
+	 * The values of each row are still read from the JDBC {@code ResultSet} by
+	 * the thread executing the query, but the conversion of those values, the
+	 * instantiation of result classes, and the application of any
+	 * {@link org.hibernate.query.TupleTransformer} happen on the
+	 * {@linkplain #PARALLEL_ROW_MATERIALIZATION_EXECUTOR configured executor}.
+	 * The order of the results is preserved.
+	 * <p>
+	 * Enabling this setting requires that all attribute converters, user types,
+	 * and tuple transformers used by such queries are thread-safe, since they
+	 * are called concurrently, by threads other than the one executing the query.
+	 *
+	 * @settingDefault {@code 0}, which disables parallel materialization
+	 *
+	 * @since 7.0
+	 */
+	String PARALLEL_ROW_MATERIALIZATION_BATCH_SIZE = "hibernate.query.parallel_row_materialization_batch_size";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} on which the rows of a
+	 * query result are {@linkplain #PARALLEL_ROW_MATERIALIZATION_BATCH_SIZE
+	 * materialized in parallel}, either:
+	 * <ul>
+	 *     <li>an instance of {@code Executor},
+	 *     <li>a {@link Class} representing a class that implements {@code Executor}, or
+	 *     <li>the name of a class that implements {@code Executor}.
+	 * </ul>
+	 * <p>
+	 * The attribute converters, user types, and tuple transformers of the query
+	 * are called by the threads of this executor, and so must be thread-safe.
+	 * The lifecycle of the executor is not managed by Hibernate.
+	 *
+	 * @settingDefault The {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}
+	 *
+	 * @since 7.0
+	 */
+	String PARALLEL_ROW_MATERIALIZATION_EXECUTOR = "hibernate.query.parallel_row_materialization_executor";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -270,6 +379,40 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The maximum number of {@linkplain org.hibernate.query.spi.HqlInterpretation
+	 * HQL interpretations} maintained by the
+	 * {@link org.hibernate.query.spi.QueryInterpretationCache}.
+	 * <p>
+	 * Defaults to the value of {@value #QUERY_PLAN_CACHE_MAX_SIZE}.
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_PLAN_CACHE_HQL_MAX_SIZE = "hibernate.query.plan_cache_hql_max_size";
+
+	/**
+	 * The maximum number of native query parameter interpretations maintained
+	 * by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
+	 * <p>
+	 * Defaults to the value of {@value #QUERY_PLAN_CACHE_MAX_SIZE}.
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_PLAN_CACHE_NATIVE_PARAMETER_MAX_SIZE = "hibernate.query.plan_cache_native_parameter_max_size";
+
+	/**
+	 * Specifies a {@link org.hibernate.query.spi.BoundedCacheFactory} used to create
+	 * the caches maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
+	 * May be an instance, a {@link Class}, or the name of a class.
+	 * <p>
+	 * By default, caches with a frequency-based admission policy are used.
+	 *
+	 * @see org.hibernate.query.spi.BoundedCacheFactory
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_PLAN_CACHE_FACTORY = "hibernate.query.plan_cache_factory";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -0,0 +1,555 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The {@link EntityHolder}s of a persistence context, by {@link EntityKey}.
+ * <p>
+ * Holders are kept in one open-addressing table per entity hierarchy, keyed directly
+ * by the identifier, so that no map entry is allocated per managed entity, and so that
+ * a holder can be {@linkplain #get(EntityPersister, Object) looked up} without
+ * instantiating an {@code EntityKey}. The table of a hierarchy with a {@code long},
+ * {@code int} or {@code short} identifier stores the identifiers as primitive
+ * {@code long}s, and compares them without calling {@link Type#isEqual}. Like
+ * {@link Type#isEqual}, it only matches an identifier of the Java type of the
+ * identifier of the hierarchy, so that, for example, an {@code Integer} never
+ * matches a {@code Long} identifier.
+ * <p>
+ * Iterators over this map are fail-fast, like those of {@link HashMap}, and support
+ * {@linkplain Iterator#remove removal}.
+ *
+ * @since 7.0
+ */
+final class EntityHolderMap<V extends EntityHolder> extends AbstractMap<EntityKey, V> {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final HashMap<String, HolderTable<V>> tablesByRootEntityName = new HashMap<>();
+	private @Nullable HolderTable<V> lastTable;
+	private int size;
+	// the number of structural modifications, for fail-fast iteration
+	private int modCount;
+	private @Nullable EntrySet entrySet;
+
+	EntityHolderMap() {
+	}
+
+	/**
+	 * Create a map of the given holders, with the table of each entity hierarchy
+	 * sized for the holders of the hierarchy.
+	 */
+	EntityHolderMap(V[] holders) {
+		final HashMap<String, Integer> counts = new HashMap<>();
+		for ( V holder : holders ) {
+			counts.merge( holder.getEntityKey().getPersister().getRootEntityName(), 1, Integer::sum );
+		}
+		for ( V holder : holders ) {
+			final EntityPersister persister = holder.getEntityKey().getPersister();
+			final String rootEntityName = persister.getRootEntityName();
+			HolderTable<V> table = getTable( rootEntityName );
+			if ( table == null ) {
+				table = new HolderTable<>( rootEntityName, persister, counts.get( rootEntityName ) );
+				tablesByRootEntityName.put( rootEntityName, table );
+				lastTable = table;
+			}
+			if ( table.put( holder.getEntityKey().getIdentifier(), holder, true ) == null ) {
+				size++;
+			}
+		}
+	}
+
+	/**
+	 * Get the holder of the entity of the given type and with the given identifier.
+	 */
+	@Nullable V get(EntityPersister persister, Object id) {
+		final HolderTable<V> table = getTable( persister.getRootEntityName() );
+		return table == null ? null : table.get( id );
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final HolderTable<V> table = getTable( entityKey.getPersister().getRootEntityName() );
+			return table == null ? null : table.get( entityKey.getIdentifier() );
+		}
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public @Nullable V put(EntityKey key, V holder) {
+		assert holder.getEntityKey().equals( key );
+		final V previous = getOrCreateTable( key.getPersister() ).put( key.getIdentifier(), holder, true );
+		if ( previous == null ) {
+			size++;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(EntityKey key, V holder) {
+		assert holder.getEntityKey().equals( key );
+		final V previous = getOrCreateTable( key.getPersister() ).put( key.getIdentifier(), holder, false );
+		if ( previous == null ) {
+			size++;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final HolderTable<V> table = getTable( entityKey.getPersister().getRootEntityName() );
+			if ( table != null ) {
+				final V removed = table.remove( entityKey.getIdentifier() );
+				if ( removed != null ) {
+					size--;
+					modCount++;
+				}
+				return removed;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		tablesByRootEntityName.clear();
+		lastTable = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private @Nullable HolderTable<V> getTable(String rootEntityName) {
+		final HolderTable<V> last = lastTable;
+		if ( last != null && last.rootEntityName.equals( rootEntityName ) ) {
+			return last;
+		}
+		final HolderTable<V> table = tablesByRootEntityName.get( rootEntityName );
+		if ( table != null ) {
+			lastTable = table;
+		}
+		return table;
+	}
+
+	private HolderTable<V> getOrCreateTable(EntityPersister persister) {
+		final String rootEntityName = persister.getRootEntityName();
+		HolderTable<V> table = getTable( rootEntityName );
+		if ( table == null ) {
+			table = new HolderTable<>( rootEntityName, persister, 0 );
+			tablesByRootEntityName.put( rootEntityName, table );
+			lastTable = table;
+		}
+		return table;
+	}
+
+	/**
+	 * An open-addressing hash table with linear probing, holding the holders of
+	 * the entities of a single hierarchy by their identifier.
+	 */
+	private static final class HolderTable<V extends EntityHolder> {
+		private final String rootEntityName;
+		private final @Nullable Type identifierType;
+		private final SessionFactoryImplementor factory;
+		private final boolean integralIds;
+		// the Java type of the identifiers, when integralIds
+		private final @Nullable Class<?> integralIdClass;
+
+		// the identifiers, when integralIds
+		private long[] longIds;
+		// the hash codes of the identifiers, otherwise
+		private int[] hashes;
+		private Object[] holders;
+		private int size;
+
+		private HolderTable(String rootEntityName, EntityPersister persister, int expectedSize) {
+			this.rootEntityName = rootEntityName;
+			this.identifierType = persister.getIdentifierType().getTypeForEqualsHashCode();
+			this.factory = persister.getFactory();
+			this.integralIdClass = integralIdClass( identifierType );
+			this.integralIds = integralIdClass != null;
+			int capacity = INITIAL_CAPACITY;
+			while ( expectedSize * 3 > capacity * 2 ) {
+				capacity *= 2;
+			}
+			allocate( capacity );
+		}
+
+		private static @Nullable Class<?> integralIdClass(@Nullable Type identifierType) {
+			if ( identifierType instanceof BasicType<?> basicType ) {
+				final JavaType<?> javaType = basicType.getJavaTypeDescriptor();
+				if ( javaType instanceof LongJavaType
+						|| javaType instanceof IntegerJavaType
+						|| javaType instanceof ShortJavaType ) {
+					return javaType.getJavaTypeClass();
+				}
+			}
+			return null;
+		}
+
+		private void allocate(int capacity) {
+			holders = new Object[capacity];
+			if ( integralIds ) {
+				longIds = new long[capacity];
+			}
+			else {
+				hashes = new int[capacity];
+			}
+		}
+
+		@Nullable V get(Object id) {
+			final int slot = slotOf( id );
+			return slot < 0 ? null : holder( slot );
+		}
+
+		private int slotOf(Object id) {
+			if ( integralIds ) {
+				return integralIdClass.isInstance( id ) ? slotOf( ( (Number) id ).longValue() ) : -1;
+			}
+			else {
+				return slotOf( id, hash( id ) );
+			}
+		}
+
+		@Nullable V put(Object id, V holder, boolean replace) {
+			if ( integralIds ) {
+				final long longId = ( (Number) id ).longValue();
+				final int slot = slotOf( longId );
+				if ( slot >= 0 ) {
+					return replace( slot, holder, replace );
+				}
+				ensureCapacity();
+				final int free = freeSlot( hash( longId ) );
+				longIds[free] = longId;
+				holders[free] = holder;
+			}
+			else {
+				final int hash = hash( id );
+				final int slot = slotOf( id, hash );
+				if ( slot >= 0 ) {
+					return replace( slot, holder, replace );
+				}
+				ensureCapacity();
+				final int free = freeSlot( hash );
+				hashes[free] = hash;
+				holders[free] = holder;
+			}
+			size++;
+			return null;
+		}
+
+		private V replace(int slot, V holder, boolean replace) {
+			final V existing = holder( slot );
+			if ( replace ) {
+				holders[slot] = holder;
+			}
+			return existing;
+		}
+
+		@Nullable V remove(Object id) {
+			final int slot = slotOf( id );
+			if ( slot < 0 ) {
+				return null;
+			}
+			final V removed = holder( slot );
+			delete( slot );
+			size--;
+			return removed;
+		}
+
+		private int slotOf(long id) {
+			final int mask = holders.length - 1;
+			int slot = hash( id ) & mask;
+			while ( holders[slot] != null ) {
+				if ( longIds[slot] == id ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		private int slotOf(Object id, int hash) {
+			final int mask = holders.length - 1;
+			int slot = hash & mask;
+			while ( holders[slot] != null ) {
+				if ( hashes[slot] == hash && isEqual( id, holder( slot ).getEntityKey().getIdentifier() ) ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		private int freeSlot(int hash) {
+			final int mask = holders.length - 1;
+			int slot = hash & mask;
+			while ( holders[slot] != null ) {
+				slot = ( slot + 1 ) & mask;
+			}
+			return slot;
+		}
+
+		/**
+		 * Remove the holder in the given slot on behalf of an {@link EntryIterator},
+		 * which visits the slots in descending order.
+		 *
+		 * @param wrapped The holders shifted from a slot the iterator has not yet
+		 * visited into one it has already visited, to which they are added
+		 */
+		void removeAt(int slot, List<V> wrapped) {
+			final int mask = holders.length - 1;
+			int hole = slot;
+			int next = slot;
+			while ( true ) {
+				next = ( next + 1 ) & mask;
+				if ( holders[next] == null ) {
+					break;
+				}
+				final int home = hashAt( next ) & mask;
+				final boolean stays = hole <= next
+						? hole < home && home <= next
+						: hole < home || home <= next;
+				if ( !stays ) {
+					if ( next < slot && hole >= slot ) {
+						// the probe sequence wrapped around the end of the table
+						wrapped.add( holder( next ) );
+					}
+					move( next, hole );
+					hole = next;
+				}
+			}
+			holders[hole] = null;
+			size--;
+		}
+
+		/**
+		 * Empty the given slot, shifting back the following entries of the
+		 * probe sequence, so that no tombstones are needed.
+		 */
+		private void delete(int slot) {
+			final int mask = holders.length - 1;
+			int hole = slot;
+			int next = slot;
+			while ( true ) {
+				next = ( next + 1 ) & mask;
+				if ( holders[next] == null ) {
+					break;
+				}
+				final int home = hashAt( next ) & mask;
+				// move the entry into the hole unless its home slot lies cyclically in (hole, next]
+				final boolean stays = hole <= next
+						? hole < home && home <= next
+						: hole < home || home <= next;
+				if ( !stays ) {
+					move( next, hole );
+					hole = next;
+				}
+			}
+			holders[hole] = null;
+		}
+
+		private void move(int from, int to) {
+			holders[to] = holders[from];
+			if ( integralIds ) {
+				longIds[to] = longIds[from];
+			}
+			else {
+				hashes[to] = hashes[from];
+			}
+		}
+
+		private void ensureCapacity() {
+			// keep the load factor at most 2/3
+			if ( ( size + 1 ) * 3 > holders.length * 2 ) {
+				final Object[] oldHolders = holders;
+				final long[] oldLongIds = longIds;
+				final int[] oldHashes = hashes;
+				allocate( oldHolders.length * 2 );
+				for ( int i = 0; i < oldHolders.length; i++ ) {
+					if ( oldHolders[i] != null ) {
+						if ( integralIds ) {
+							final int slot = freeSlot( hash( oldLongIds[i] ) );
+							longIds[slot] = oldLongIds[i];
+							holders[slot] = oldHolders[i];
+						}
+						else {
+							final int slot = freeSlot( oldHashes[i] );
+							hashes[slot] = oldHashes[i];
+							holders[slot] = oldHolders[i];
+						}
+					}
+				}
+			}
+		}
+
+		private int hashAt(int slot) {
+			return integralIds ? hash( longIds[slot] ) : hashes[slot];
+		}
+
+		private int hash(Object id) {
+			final int hashCode = identifierType == null ? id.hashCode() : identifierType.getHashCode( id, factory );
+			final int hash = hashCode * 0x9E3779B9;
+			return hash ^ ( hash >>> 16 );
+		}
+
+		private static int hash(long id) {
+			final long hash = id * 0x9E3779B97F4A7C15L;
+			return (int) ( hash ^ ( hash >>> 32 ) );
+		}
+
+		private boolean isEqual(Object id, Object other) {
+			return id == other
+				|| ( identifierType == null ? id.equals( other ) : identifierType.isEqual( id, other, factory ) );
+		}
+
+		@SuppressWarnings("unchecked")
+		private V holder(int slot) {
+			return (V) holders[slot];
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, V>> {
+		@Override
+		public Iterator<Entry<EntityKey, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Visits the slots of each table in descending order, so that the backward shift
+	 * of a removal only moves holders into slots already visited. A holder shifted
+	 * around the end of the table is remembered, and returned after the last slot.
+	 */
+	private final class EntryIterator implements Iterator<Entry<EntityKey, V>> {
+		private final Iterator<HolderTable<V>> tables = tablesByRootEntityName.values().iterator();
+		private @Nullable HolderTable<V> table;
+		private int slot;
+		private @Nullable List<V> wrapped;
+		private @Nullable V last;
+		private int lastSlot = -1;
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			while ( true ) {
+				if ( table != null ) {
+					final Object[] holders = table.holders;
+					while ( slot > 0 ) {
+						if ( holders[slot - 1] != null ) {
+							return true;
+						}
+						slot--;
+					}
+					if ( wrapped != null && !wrapped.isEmpty() ) {
+						return true;
+					}
+				}
+				if ( !tables.hasNext() ) {
+					return false;
+				}
+				table = tables.next();
+				slot = table.holders.length;
+				wrapped = null;
+			}
+		}
+
+		@Override
+		public Entry<EntityKey, V> next() {
+			checkForComodification();
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final V holder;
+			if ( slot > 0 ) {
+				lastSlot = --slot;
+				holder = table.holder( lastSlot );
+			}
+			else {
+				lastSlot = -1;
+				holder = wrapped.remove( wrapped.size() - 1 );
+			}
+			last = holder;
+			return new SimpleImmutableEntry<>( holder.getEntityKey(), holder );
+		}
+
+		@Override
+		public void remove() {
+			if ( last == null ) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			if ( lastSlot >= 0 ) {
+				if ( wrapped == null ) {
+					wrapped = new ArrayList<>();
+				}
+				table.removeAt( lastSlot, wrapped );
+			}
+			else {
+				table.remove( last.getEntityKey().getIdentifier() );
+			}
+			size--;
+			expectedModCount = ++modCount;
+			last = null;
+		}
+
+		private void checkForComodification() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+}
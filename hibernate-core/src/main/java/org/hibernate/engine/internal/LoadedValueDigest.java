@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.Internal;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.PrimitiveByteArrayJavaType;
+import org.hibernate.type.descriptor.java.PrimitiveCharacterArrayJavaType;
+import org.hibernate.type.descriptor.java.spi.FormatMapperBasedJavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Stands in for a large value of a mutable attribute in the loaded state of an entity,
+ * in place of a deep copy of the value. It keeps the size of the value and a SHA-256
+ * digest of its content, which is enough to dirty check the attribute.
+ * <p>
+ * Digests are only taken of {@code byte[]} and {@code char[]} values, and of values
+ * of {@linkplain FormatMapperBasedJavaType JSON or XML} mapped attributes, since the
+ * content of these values is exactly what is written to the database.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#LOADED_STATE_DIGEST_THRESHOLD
+ *
+ * @since 7.0
+ */
+@Internal
+public final class LoadedValueDigest implements Serializable {
+	private static final String ALGORITHM = "SHA-256";
+
+	// the number of characters encoded at once when digesting characters
+	private static final int CHUNK_SIZE = 2048;
+
+	// MessageDigest instances are not thread-safe, and costly to obtain
+	private static final ThreadLocal<Digester> DIGESTER = ThreadLocal.withInitial( Digester::new );
+
+	private final int size;
+	private final byte[] digest;
+
+	private LoadedValueDigest(int size, byte[] digest) {
+		this.size = size;
+		this.digest = digest;
+	}
+
+	/**
+	 * Can the values of the given attribute type be replaced by a digest in a loaded state?
+	 */
+	public static boolean isDigestible(@Nullable Type type) {
+		if ( type instanceof BasicType<?> basicType && type.isMutable() ) {
+			final JavaType<?> javaType = basicType.getJavaTypeDescriptor();
+			return javaType instanceof PrimitiveByteArrayJavaType
+				|| javaType instanceof PrimitiveCharacterArrayJavaType
+				|| javaType instanceof FormatMapperBasedJavaType<?>;
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * Take a digest of the given value, if its size is at least the given threshold.
+	 *
+	 * @param value The value of an attribute whose type is {@linkplain #isDigestible digestible}
+	 * @param javaType The Java type of the attribute
+	 * @param threshold The minimum size, in bytes or characters, of a digested value
+	 *
+	 * @return The digest, or {@code null} if the value is too small to be worth a digest
+	 */
+	public static @Nullable LoadedValueDigest digest(@Nullable Object value, JavaType<?> javaType, int threshold) {
+		if ( value == null ) {
+			return null;
+		}
+		final Object content = content( value, javaType );
+		final int size = size( content );
+		return size >= threshold ? new LoadedValueDigest( size, digestOf( content ) ) : null;
+	}
+
+	/**
+	 * Does the given value have the content this digest was taken of?
+	 * <p>
+	 * The digest of the value is only computed if the value has the size this digest
+	 * was taken of. A value with another size certainly has another content.
+	 */
+	public boolean matches(@Nullable Object value, JavaType<?> javaType) {
+		if ( value == null ) {
+			return false;
+		}
+		final Object content = content( value, javaType );
+		return size( content ) == size
+			&& MessageDigest.isEqual( digest, digestOf( content ) );
+	}
+
+	/**
+	 * @return The {@code byte[]} or {@code char[]} value itself, or the
+	 * {@code String} representation of a JSON or XML value
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object content(Object value, JavaType<?> javaType) {
+		if ( value instanceof byte[] || value instanceof char[] ) {
+			return value;
+		}
+		else {
+			return ( (JavaType<Object>) javaType ).toString( value );
+		}
+	}
+
+	private static int size(Object content) {
+		if ( content instanceof byte[] bytes ) {
+			return bytes.length;
+		}
+		else if ( content instanceof char[] chars ) {
+			return chars.length;
+		}
+		else {
+			return ( (String) content ).length();
+		}
+	}
+
+	private static MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance( ALGORITHM );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every implementation of the Java platform supports SHA-256
+			throw new AssertionFailure( "Unable to digest loaded value", e );
+		}
+	}
+
+	private static byte[] digestOf(Object content) {
+		final Digester digester = DIGESTER.get();
+		final MessageDigest messageDigest = digester.messageDigest;
+		messageDigest.reset();
+		if ( content instanceof byte[] bytes ) {
+			messageDigest.update( bytes );
+		}
+		else if ( content instanceof char[] chars ) {
+			digester.update( chars, null, chars.length );
+		}
+		else {
+			final String string = (String) content;
+			digester.update( null, string, string.length() );
+		}
+		return messageDigest.digest();
+	}
+
+	/**
+	 * A {@link MessageDigest} along with a buffer for encoding the characters to digest
+	 * as big-endian UTF-16 code units, a chunk at a time.
+	 */
+	private static final class Digester {
+		private final MessageDigest messageDigest = createMessageDigest();
+		private final byte[] buffer = new byte[CHUNK_SIZE * 2];
+
+		private void update(char @Nullable [] chars, @Nullable String string, int length) {
+			for ( int start = 0; start < length; start += CHUNK_SIZE ) {
+				final int end = Math.min( length, start + CHUNK_SIZE );
+				int position = 0;
+				for ( int i = start; i < end; i++ ) {
+					final char c = chars == null ? string.charAt( i ) : chars[i];
+					buffer[position++] = (byte) ( c >>> 8 );
+					buffer[position++] = (byte) c;
+				}
+				messageDigest.update( buffer, 0, position );
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "LoadedValueDigest(" + size + ")";
+	}
+}
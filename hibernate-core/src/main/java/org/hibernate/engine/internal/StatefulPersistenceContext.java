@@ -114,7 +114,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private EntityHolderMap<EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -180,7 +180,7 @@ public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new EntityHolderMap<>();
 		}
 		return entitiesByKey;
 	}
@@ -434,6 +434,11 @@ public EntityHolder claimEntityHolderIfPossible(
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public @Nullable EntityHolderImpl getEntityHolder(EntityPersister persister, Object id) {
+		return entitiesByKey == null ? null : entitiesByKey.get( persister, id );
+	}
+
 	@Override
 	public boolean containsEntityHolder(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.get( key ) != null;
@@ -1986,7 +1991,7 @@ public static StatefulPersistenceContext deserialize(
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			final EntityHolderImpl[] holders = new EntityHolderImpl[count];
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
@@ -2009,8 +2014,10 @@ public static StatefulPersistenceContext deserialize(
 					}
 				}
 				holder.setEntityEntry( rtn.entityEntryContext.getEntityEntry( entity ) );
-				rtn.entitiesByKey.put( ek, holder );
+				holders[i] = holder;
 			}
+			// presize the table of each entity hierarchy
+			rtn.entitiesByKey = new EntityHolderMap<>( holders );
 
 			count = ois.readInt();
 			if ( traceEnabled ) {
@@ -8,8 +8,8 @@
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -1094,9 +1094,12 @@ private TransactionCompletionProcesses(
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
+	 * The algorithm first discovers the direct dependencies of every insert action, and groups all inserts
+	 * by the entity name. The dependencies between the inserts of different groups then determine the
+	 * dependencies between the groups, and the groups are scheduled one by one, as long as all the
+	 * dependencies of the groups are fulfilled. The inserts of a group are scheduled in their original order,
+	 * unless the group depends on itself, in which case they are sorted by their dependencies.
+	 * Every step takes time linear in the number of inserts and of their dependencies.
 	 * </p>
 	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
 	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
@@ -1108,19 +1111,24 @@ private static class InsertActionSorter implements ExecutableList.Sorter<Abstrac
 		 */
 		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
 
+		private static final int UNVISITED = 0;
+		private static final int VISITING = 1;
+		private static final int VISITED = 2;
+
 		private static class InsertInfo {
 			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
-			// Child dependencies of i.e. one-to-many or inverse one-to-one
-			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
-
-			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
+			private final EntityInsertGroup group;
+			// Inserts in this list must be executed before this insert
+			private @Nullable List<InsertInfo> incomingDependencies;
+			// The state and the position within the incoming dependencies,
+			// when sorting the inserts of a self-referencing group
+			private int state = UNVISITED;
+			private int dependencyPosition;
+			private boolean scheduled;
+
+			public InsertInfo(AbstractEntityInsertAction insertAction, EntityInsertGroup group) {
 				this.insertAction = insertAction;
-				this.index = index;
+				this.group = group;
 			}
 
 			public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
@@ -1131,35 +1139,13 @@ public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertIn
 				}
 			}
 
-			public void propagateChildDependencies() {
-				if ( outgoingDependencies != null ) {
-					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
-						}
-						childDependency.transitiveIncomingDependencies.add( this );
-					}
-				}
-			}
-
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
-					}
-					visited.clear();
-				}
-			}
-
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
+			private void addIncomingDependency(InsertInfo insertInfo) {
+				// a row may reference itself
+				if ( insertInfo != this ) {
+					if ( incomingDependencies == null ) {
+						incomingDependencies = new ArrayList<>();
 					}
+					incomingDependencies.add( insertInfo );
 				}
 			}
 
@@ -1173,17 +1159,12 @@ private void addDirectDependency(Type type, @Nullable Object value, IdentityHash
 						if ( entityType.isOneToOne()
 								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
+								// Child dependency of i.e. inverse one-to-one
+								insertInfo.addIncomingDependency( this );
 							}
 						}
 						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
+							addIncomingDependency( insertInfo );
 						}
 					}
 				}
@@ -1202,10 +1183,7 @@ else if ( type instanceof CollectionType collectionType ) {
 							final Object element = elementsIterator.next();
 							final InsertInfo insertInfo = insertInfosByEntity.get( element );
 							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
+								insertInfo.addIncomingDependency( this );
 							}
 						}
 					}
@@ -1222,22 +1200,20 @@ else if ( type instanceof ComponentType compositeType ) {
 				}
 			}
 
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
+			/**
+			 * The next incoming dependency of this insert within its own group, if any.
+			 */
+			private @Nullable InsertInfo nextDependencyWithinGroup() {
+				final List<InsertInfo> dependencies = incomingDependencies;
+				if ( dependencies != null ) {
+					while ( dependencyPosition < dependencies.size() ) {
+						final InsertInfo dependency = dependencies.get( dependencyPosition++ );
+						if ( dependency.group == group ) {
+							return dependency;
+						}
+					}
 				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
-			}
-
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
+				return null;
 			}
 
 			@Override
@@ -1261,10 +1237,18 @@ public void sort(List<AbstractEntityInsertAction> insertions) {
 			// A map of all insert infos keyed by the entity instance
 			// This is needed to discover insert infos for direct dependencies
 			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
+			// The insert infos grouped into EntityInsertGroup keyed by entity name
+			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
 			// Construct insert infos and build a map for that, keyed by entity instance
 			for (int i = 0; i < insertInfoCount; i++) {
 				final AbstractEntityInsertAction insertAction = insertions.get(i);
-				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
+				final String entityName = insertAction.getPersister().getEntityName();
+				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
+				if (entityInsertGroup == null) {
+					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
+				}
+				final InsertInfo insertInfo = new InsertInfo(insertAction, entityInsertGroup);
+				entityInsertGroup.insertInfos.add(insertInfo);
 				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
 				insertInfos[i] = insertInfo;
 			}
@@ -1272,119 +1256,124 @@ public void sort(List<AbstractEntityInsertAction> insertions) {
 			for (int i = 0; i < insertInfoCount; i++) {
 				insertInfos[i].buildDirectDependencies(insertInfosByEntity);
 			}
-			// Then we can propagate child dependencies to the insert infos incoming dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].propagateChildDependencies();
-			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
+			// Then we can derive the dependencies between the EntityInsertGroups
 			for (int i = 0; i < insertInfoCount; i++) {
 				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
-
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
+				final List<InsertInfo> dependencies = insertInfo.incomingDependencies;
+				if (dependencies != null) {
+					for (InsertInfo dependency : dependencies) {
+						insertInfo.group.addIncomingDependency(dependency.group);
+					}
 				}
-				entityInsertGroup.add(insertInfo);
 			}
 			// Now we can go through the EntityInsertGroups and schedule all the ones
-			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
+			// for which we have already scheduled all the dependent groups
+			final List<AbstractEntityInsertAction> scheduledInsertions = new ArrayList<>(insertInfoCount);
+			boolean scheduledAny;
 			do {
-				lastScheduleSize = scheduledEntityNames.size();
+				scheduledAny = false;
 				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
 				while (iterator.hasNext()) {
 					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
+					if (insertGroup.unscheduledDependencyCount == 0) {
+						// a group which can't be sorted is left in the original order
+						if (insertGroup.schedule(scheduledInsertions)) {
+							scheduledAny = true;
+						}
 						iterator.remove();
 					}
 				}
 				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
+			} while (scheduledAny);
+			if ( scheduledInsertions.size() != insertInfoCount ) {
 				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
 					"This might indicate a circular entity relationship.");
-			}
-			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
-		}
-
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
-				}
-			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
+				for (InsertInfo insertInfo : insertInfos) {
+					if (!insertInfo.scheduled) {
+						scheduledInsertions.add(insertInfo.insertAction);
+					}
 				}
 			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
+			insertions.clear();
+			insertions.addAll(scheduledInsertions);
 		}
 
 		public static class EntityInsertGroup {
 			private final String entityName;
 			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
+			private final Set<EntityInsertGroup> incomingDependencies = new HashSet<>();
+			private final List<EntityInsertGroup> outgoingDependencies = new ArrayList<>();
+			private int unscheduledDependencyCount;
+			private boolean selfReferencing;
 
 			public EntityInsertGroup(String entityName) {
 				this.entityName = entityName;
 			}
 
-			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
+			private void addIncomingDependency(EntityInsertGroup dependency) {
+				if ( dependency == this ) {
+					selfReferencing = true;
+				}
+				else if ( incomingDependencies.add( dependency ) ) {
+					dependency.outgoingDependencies.add( this );
+					unscheduledDependencyCount++;
+				}
+			}
+
+			/**
+			 * Schedule the inserts of this group after the given scheduled inserts.
+			 *
+			 * @return {@code false} if the inserts of this group depend on each other circularly,
+			 * and could not be scheduled
+			 */
+			private boolean schedule(List<AbstractEntityInsertAction> scheduledInsertions) {
+				final @Nullable List<InsertInfo> sortedInsertInfos = selfReferencing ? sortByDependencies() : insertInfos;
+				if ( sortedInsertInfos == null ) {
+					return false;
+				}
+				for ( InsertInfo insertInfo : sortedInsertInfos ) {
+					insertInfo.scheduled = true;
+					scheduledInsertions.add( insertInfo.insertAction );
+				}
+				for ( EntityInsertGroup dependent : outgoingDependencies ) {
+					dependent.unscheduledDependencyCount--;
+				}
+				return true;
+			}
+
+			/**
+			 * Sort the inserts of this self-referencing group by a depth-first traversal of
+			 * their dependencies within the group, which keeps the original order of inserts
+			 * which are already in a valid order.
+			 *
+			 * @return The sorted inserts, or {@code null} if they depend on each other circularly
+			 */
+			private @Nullable List<InsertInfo> sortByDependencies() {
+				final List<InsertInfo> sortedInsertInfos = new ArrayList<>( insertInfos.size() );
+				final ArrayDeque<InsertInfo> stack = new ArrayDeque<>();
+				for ( InsertInfo root : insertInfos ) {
+					if ( root.state == UNVISITED ) {
+						root.state = VISITING;
+						stack.push( root );
+						while ( !stack.isEmpty() ) {
+							final InsertInfo current = stack.getFirst();
+							final InsertInfo dependency = current.nextDependencyWithinGroup();
+							if ( dependency == null ) {
+								stack.pop();
+								current.state = VISITED;
+								sortedInsertInfos.add( current );
+							}
+							else if ( dependency.state == VISITING ) {
+								return null;
+							}
+							else if ( dependency.state == UNVISITED ) {
+								dependency.state = VISITING;
+								stack.push( dependency );
+							}
+						}
 					}
 				}
+				return sortedInsertInfos;
 			}
 
 			@Override
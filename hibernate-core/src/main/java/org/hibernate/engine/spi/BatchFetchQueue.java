@@ -189,6 +189,21 @@ public boolean containsEntityKey(EntityKey key) {
 		return false;
 	}
 
+	/**
+	 * The number of keys of the given entity which are currently queued for
+	 * batch fetching, including any key which is cached in the second-level
+	 * cache.
+	 *
+	 * @since 7.0
+	 */
+	public int countBatchLoadableEntityKeys(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		return set == null ? 0 : set.size();
+	}
+
 	/**
 	 * A "collector" form of {@link #getBatchLoadableEntityIds}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -359,6 +374,22 @@ public void removeBatchLoadableCollection(CollectionEntry ce) {
 	}
 
 
+	/**
+	 * The number of uninitialized collections of the given role which are currently
+	 * queued for batch fetching, including any collection which is cached in the
+	 * second-level cache.
+	 *
+	 * @since 7.0
+	 */
+	public int countBatchLoadableCollections(PluralAttributeMapping pluralAttributeMapping) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+				batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+		return map == null ? 0 : map.size();
+	}
+
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}. Useful
 	 * in cases where we want a specially created array/container - allows
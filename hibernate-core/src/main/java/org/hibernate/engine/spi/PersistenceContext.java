@@ -520,6 +520,17 @@ EntityHolder claimEntityHolderIfPossible(
 
 	@Nullable EntityHolder getEntityHolder(EntityKey key);
 
+	/**
+	 * Get the holder of the entity of the given type with the given identifier,
+	 * without the need to instantiate an {@link EntityKey} for the lookup.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable EntityHolder getEntityHolder(EntityPersister persister, Object id) {
+		return getEntityHolder( getSession().generateEntityKey( id, persister ) );
+	}
+
 	boolean containsEntityHolder(EntityKey key);
 
 	@Nullable EntityHolder removeEntityHolder(EntityKey key);
@@ -17,6 +17,7 @@
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.internal.ForeignKeys;
+import org.hibernate.engine.internal.LoadedValueDigest;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Nullability.NullabilityCheckType;
 import org.hibernate.engine.spi.CascadingActions;
@@ -372,9 +373,10 @@ protected final void deleteEntity(
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final Object version = entityEntry.getVersion();
 
-		final Object[] currentState = entityEntry.getLoadedState() == null
+		final Object[] loadedState = entityEntry.getLoadedState();
+		final Object[] currentState = loadedState == null
 				? persister.getValues(entity) //i.e. the entity came in from update()
-				: entityEntry.getLoadedState();
+				: withoutDigests( loadedState, persister, entityEntry.getId(), session );
 
 		final Object[] deletedState = createDeletedState( persister, entity, currentState, session );
 		entityEntry.setDeletedState( deletedState );
@@ -438,6 +440,33 @@ protected final void deleteEntity(
 		//persistenceContext.removeDatabaseSnapshot(key);
 	}
 
+	/**
+	 * Replace any {@link LoadedValueDigest} in the loaded state by the value of its
+	 * attribute in the database snapshot, since the deleted state is passed to delete
+	 * listeners, and may be written to the database.
+	 */
+	private static Object[] withoutDigests(
+			Object[] loadedState,
+			EntityPersister persister,
+			Object id,
+			EventSource session) {
+		Object[] state = loadedState;
+		Object[] snapshot = null;
+		for ( int i = 0; i < loadedState.length; i++ ) {
+			if ( loadedState[i] instanceof LoadedValueDigest ) {
+				if ( snapshot == null ) {
+					snapshot = session.getPersistenceContextInternal().getDatabaseSnapshot( id, persister );
+					if ( snapshot == null ) {
+						throw new StaleObjectStateException( persister.getEntityName(), id );
+					}
+					state = loadedState.clone();
+				}
+				state[i] = snapshot[i];
+			}
+		}
+		return state;
+	}
+
 	private Object[] createDeletedState(
 			EntityPersister persister,
 			Object parent,
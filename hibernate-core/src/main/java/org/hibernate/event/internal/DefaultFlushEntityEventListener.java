@@ -132,7 +132,7 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty, session );
 
 		event.setPropertyValues( values );
 
@@ -161,7 +161,9 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty, SessionImplementor session) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
 		if ( entry.getStatus() == Status.DELETED ) {
 			//grab its state saved at deletion
 			return entry.getDeletedState();
@@ -174,8 +176,9 @@ private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirt
 			else {
 				final EntityPersister persister = entry.getPersister();
 				checkId( entity, persister, entry.getId(), entry.getStatus(), session );
-				// grab its current state
-				final Object[] values = persister.getValues( entity );
+				// grab its current state, unless it was already read by ParallelDirtyCheck
+				final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+				final Object[] values = precomputedValues == null ? persister.getValues( entity ) : precomputedValues;
 				checkNaturalId( persister, entity, entry, values, loadedState, session );
 				return values;
 			}
@@ -481,7 +484,23 @@ private static int[] performDirtyCheck(FlushEntityEvent event) {
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				final int[] precomputedDirtyProperties = event.consumePrecomputedDirtyCheck( values );
+				if ( precomputedDirtyProperties != null ) {
+					// the attributes of immutable type were already compared by
+					// ParallelDirtyCheck, those of mutable type are compared now
+					dirtyProperties = persister.completeDirtyCheck(
+							precomputedDirtyProperties,
+							values,
+							loadedState,
+							entity,
+							session
+					);
+				}
+				else {
+					dirtyProperties = isUnmodified( event, persister, values, loadedState )
+							? null
+							: persister.findDirty( values, loadedState, entity, session );
+				}
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -525,6 +544,29 @@ else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
 		return dirtyProperties;
 	}
 
+	/**
+	 * Short-circuit the attribute-by-attribute dirty check of an entity whose
+	 * snapshot still holds the very same instances as its loaded state.
+	 */
+	private static boolean isUnmodified(
+			FlushEntityEvent event,
+			EntityPersister persister,
+			Object[] values,
+			Object[] loadedState) {
+		final SessionFactoryImplementor factory = event.getFactory();
+		if ( factory.getSessionFactoryOptions().isShortCircuitDirtyCheckEnabled()
+				&& persister.isUnmodified( values, loadedState ) ) {
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.skipEntityDirtyCheck( persister.getEntityName() );
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	/**
 	 * Attempt to get the dirty properties from either the Interceptor,
 	 * the bytecode enhancement, or a custom dirtiness strategy.
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Dirty checks the entities of a persistence context in parallel, on the
+ * {@linkplain org.hibernate.boot.spi.SessionFactoryOptions#getParallelDirtyCheckExecutor
+ * configured executor}, ahead of their flush.
+ * <p>
+ * The current state of the entities is read on the flushing thread, since reading
+ * it may call getters of the entity, or initialize lazy associations. Only the
+ * comparison of the current state of an entity with its loaded state happens in
+ * parallel, only for attributes of immutable type, and only when it does not
+ * require the session. The state read and the result are then
+ * {@linkplain FlushEntityEvent#setPrecomputedDirtyCheck supplied} to the sequential
+ * flush of the entity, which uses the state instead of reading it again, and uses
+ * the result only if no interceptor or custom dirtiness strategy decides the dirty
+ * check. The attributes of mutable type, whose values may be modified in place by
+ * the flush of another entity, are then
+ * {@linkplain EntityPersister#completeDirtyCheck compared} sequentially.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_EXECUTOR
+ *
+ * @since 7.0
+ */
+final class ParallelDirtyCheck {
+	private final Object[][] propertyValues;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(Map.Entry<Object, EntityEntry>[] entityEntries, Executor executor) {
+		final int count = entityEntries.length;
+		propertyValues = new Object[count][];
+		dirtyProperties = new int[count][];
+		for ( int i = 0; i < count; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			if ( isCheckable( entity, entry ) ) {
+				propertyValues[i] = entry.getPersister().getValues( entity );
+			}
+		}
+		final int chunkCount = Math.min( count, Runtime.getRuntime().availableProcessors() * 4 );
+		final CompletableFuture<?>[] chunks = new CompletableFuture<?>[chunkCount];
+		for ( int chunk = 0; chunk < chunkCount; chunk++ ) {
+			final int start = (int) ( (long) count * chunk / chunkCount );
+			final int end = (int) ( (long) count * ( chunk + 1 ) / chunkCount );
+			chunks[chunk] = CompletableFuture.runAsync( () -> {
+				for ( int i = start; i < end; i++ ) {
+					dirtyCheck( i, entityEntries[i].getValue() );
+				}
+			}, executor );
+		}
+		join( CompletableFuture.allOf( chunks ) );
+	}
+
+	private static void join(CompletableFuture<?> future) {
+		try {
+			future.join();
+		}
+		catch (CompletionException e) {
+			// rethrow the failure of a type or comparison as is
+			if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( e.getCause() instanceof Error error ) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Dirty check the given entities in parallel, if the persistence context is
+	 * large enough for that to be worthwhile.
+	 *
+	 * @return The results of the dirty check, or {@code null} if the entities
+	 * were not dirty checked
+	 */
+	static ParallelDirtyCheck dirtyCheck(EventSource session, Map.Entry<Object, EntityEntry>[] entityEntries) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final int threshold = options.getParallelDirtyCheckThreshold();
+		return threshold > 0 && entityEntries.length >= threshold
+				? new ParallelDirtyCheck( entityEntries, options.getParallelDirtyCheckExecutor() )
+				: null;
+	}
+
+	private void dirtyCheck(int index, EntityEntry entry) {
+		final Object[] values = propertyValues[index];
+		if ( values != null ) {
+			dirtyProperties[index] = entry.getPersister().findDirtyWithoutSession( values, entry.getLoadedState() );
+		}
+	}
+
+	private static boolean isCheckable(Object entity, EntityEntry entry) {
+		return entry.getStatus() == Status.MANAGED
+			&& entry.getLoadedState() != null
+			&& entry.isModifiableEntity()
+			// enhanced entities track their own dirtiness
+			&& !isSelfDirtinessTracker( entity )
+			&& !isPersistentAttributeInterceptable( entity );
+	}
+
+	/**
+	 * Supply the result of the dirty check of the entity at the given index
+	 * to the event which flushes the entity.
+	 */
+	void applyTo(int index, FlushEntityEvent event) {
+		final int[] dirty = dirtyProperties[index];
+		if ( dirty != null ) {
+			event.setPrecomputedDirtyCheck( propertyValues[index], dirty );
+		}
+	}
+}
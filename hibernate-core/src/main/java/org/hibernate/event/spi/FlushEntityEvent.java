@@ -4,6 +4,7 @@
  */
 package org.hibernate.event.spi;
 
+import org.hibernate.Internal;
 import org.hibernate.engine.spi.EntityEntry;
 
 /**
@@ -21,6 +22,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private EntityEntry entityEntry;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 		super(source);
@@ -77,6 +80,60 @@ public Object getEntity() {
 		return entity;
 	}
 
+	/**
+	 * Supply the property values of the entity, read ahead of the flush of the entity,
+	 * along with the dirty properties computed for them. The property values are then
+	 * used by the flush of the entity instead of reading them again.
+	 *
+	 * @param propertyValues The property values which were dirty checked
+	 * @param dirtyProperties The dirty properties of immutable type, or an empty array if
+	 * none of them was dirty, as determined by
+	 * {@link org.hibernate.persister.entity.EntityPersister#findDirtyWithoutSession}
+	 *
+	 * @since 7.0
+	 */
+	@Internal
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+
+	/**
+	 * The property values supplied by {@link #setPrecomputedDirtyCheck}, if any.
+	 *
+	 * @since 7.0
+	 */
+	@Internal
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * Obtain the dirty properties supplied by {@link #setPrecomputedDirtyCheck}, if
+	 * they were computed for the given property values, that is, if the flush of the
+	 * entity used the {@linkplain #getPrecomputedPropertyValues precomputed values}.
+	 * Since the values of properties of mutable type may have been modified in place
+	 * in the meantime, the dirty check must still be
+	 * {@linkplain org.hibernate.persister.entity.EntityPersister#completeDirtyCheck
+	 * completed} for these properties. The precomputed dirty check is discarded, so
+	 * that any subsequent dirty check of the entity is performed as usual.
+	 *
+	 * @param propertyValues The current property values of the entity
+	 *
+	 * @return The dirty properties of immutable type, an empty array if none of them
+	 * was dirty, or {@code null} if no valid precomputed dirty check is available
+	 *
+	 * @since 7.0
+	 */
+	@Internal
+	public int[] consumePrecomputedDirtyCheck(Object[] propertyValues) {
+		final Object[] precomputedValues = precomputedPropertyValues;
+		final int[] dirtyProperties = precomputedDirtyProperties;
+		precomputedPropertyValues = null;
+		precomputedDirtyProperties = null;
+		return precomputedValues == propertyValues ? dirtyProperties : null;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -100,6 +157,8 @@ public void resetAndReuseEventInstance(Object entity, EntityEntry entry) {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
@@ -93,6 +93,7 @@ public final void close() {
 			rowReader.finishUp( rowProcessingState );
 			jdbcValues.finishUp( persistenceContext );
 			getPersistenceContext().getJdbcCoordinator().afterStatementExecution();
+			rowReader.release();
 			closed = true;
 		}
 		// noop if already closed
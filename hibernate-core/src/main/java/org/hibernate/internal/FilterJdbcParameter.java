@@ -6,25 +6,64 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.hibernate.Filter;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperation;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 /**
+ * A {@link JdbcParameter} for the value of a {@linkplain Filter filter} parameter.
+ * <p>
+ * The parameter binds the value the filter parameter had when the statement was
+ * translated, unless the {@link JdbcParameterBindings} of the execution contain a
+ * binding for it. A statement which is reused by executions with differing filter
+ * parameter values, like the statement of a cached query plan, must be executed with
+ * the {@linkplain #bindFilterParameterValues values of the executing session}.
+ *
  * @author Nathan Xu
  */
 public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
+	private final String filterName;
+	private final String parameterName;
+	private final int valueIndex;
+	private final int valueCount;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1, -1 );
+	}
+
+	/**
+	 * @param valueIndex The position of this parameter within a multi-valued
+	 * filter parameter, or {@code -1} for a single-valued filter parameter
+	 * @param valueCount The number of values of a multi-valued filter parameter,
+	 * or {@code -1} for a single-valued filter parameter
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			String filterName,
+			String parameterName,
+			int valueIndex,
+			int valueCount) {
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.valueIndex = valueIndex;
+		this.valueCount = valueCount;
 	}
 
 	@Override
@@ -34,9 +73,10 @@ public JdbcParameterBinder getParameterBinder() {
 
 	@Override
 	public void bindParameterValue(PreparedStatement statement, int startPosition, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) throws SQLException {
+		final JdbcParameterBinding binding = filterName == null ? null : jdbcParameterBindings.getBinding( this );
 		jdbcMapping.getJdbcValueBinder().bind(
 				statement,
-				jdbcMapping.convertToRelationalValue( jdbcParameterValue ),
+				jdbcMapping.convertToRelationalValue( binding == null ? jdbcParameterValue : binding.getBindValue() ),
 				startPosition,
 				executionContext.getSession()
 		);
@@ -52,4 +92,70 @@ public JdbcMappingContainer getExpressionType() {
 	public void accept(SqlAstWalker sqlTreeWalker) {
 		throw new IllegalStateException(  );
 	}
+
+	/**
+	 * Add a binding of each filter parameter of the given operation to the value of the
+	 * corresponding {@linkplain LoadQueryInfluencers#getEnabledFilter enabled filter}.
+	 * A filter parameter keeps the value it was translated with if its filter is not
+	 * enabled, or if its value does not have the shape the operation was rendered for.
+	 */
+	public static void bindFilterParameterValues(
+			JdbcOperation operation,
+			JdbcParameterBindings jdbcParameterBindings,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		if ( loadQueryInfluencers.hasEnabledFilters() ) {
+			// the values of the multi-valued filter parameter being bound
+			List<Object> values = null;
+			for ( JdbcParameterBinder binder : operation.getParameterBinders() ) {
+				if ( binder instanceof FilterJdbcParameter parameter && parameter.filterName != null ) {
+					final Object value;
+					if ( parameter.valueIndex < 0 ) {
+						value = parameter.resolveValue( loadQueryInfluencers );
+					}
+					else {
+						if ( parameter.valueIndex == 0 || values == null ) {
+							values = parameter.resolveValues( loadQueryInfluencers );
+						}
+						value = values.isEmpty() ? null : values.get( parameter.valueIndex );
+					}
+					if ( value != null ) {
+						jdbcParameterBindings.addBinding(
+								parameter,
+								new JdbcParameterBindingImpl( parameter.jdbcMapping, value )
+						);
+					}
+				}
+			}
+		}
+	}
+
+	private Object resolveValue(LoadQueryInfluencers loadQueryInfluencers) {
+		final Object value = filterParameterValue( loadQueryInfluencers );
+		return value == null || isMultiValued( value ) ? null : value;
+	}
+
+	/**
+	 * @return The values of a multi-valued filter parameter, or an empty list
+	 * if they do not fit the number of values the operation was rendered for
+	 */
+	private List<Object> resolveValues(LoadQueryInfluencers loadQueryInfluencers) {
+		final Object value = filterParameterValue( loadQueryInfluencers );
+		if ( value == null || !isMultiValued( value ) ) {
+			return List.of();
+		}
+		final List<Object> values = new ArrayList<>( valueCount );
+		for ( Object element : (Iterable<?>) value ) {
+			values.add( element );
+		}
+		return values.size() == valueCount ? values : List.of();
+	}
+
+	private Object filterParameterValue(LoadQueryInfluencers loadQueryInfluencers) {
+		final Filter filter = loadQueryInfluencers.getEnabledFilter( filterName );
+		return filter == null ? null : filter.getParameterValue( parameterName );
+	}
+
+	private boolean isMultiValued(Object value) {
+		return value instanceof Iterable<?> && !jdbcMapping.getJavaTypeDescriptor().isInstance( value );
+	}
 }
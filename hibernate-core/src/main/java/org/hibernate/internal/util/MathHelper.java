@@ -30,4 +30,26 @@ public static int ceilingPowerOfTwo(int value) {
 	public static int divideRoundingUp(int numerator, int denominator) {
 		return ( numerator + denominator - 1 ) / denominator;
 	}
+
+	/**
+	 * Returns the number of elements an {@code in} list of {@code bindValueCount} elements
+	 * is padded to when {@value org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_PADDING}
+	 * is enabled: the smallest power of two greater than or equal to {@code bindValueCount},
+	 * or, if that exceeds a positive {@code inExprLimit}, the number of {@code in} lists
+	 * rounded up to a power of two, times the limit.
+	 */
+	public static int inClausePaddedSize(int bindValueCount, int inExprLimit) {
+		if ( bindValueCount <= 0 ) {
+			return bindValueCount;
+		}
+		final int ceilingPowerOfTwo = ceilingPowerOfTwo( bindValueCount );
+		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
+			return ceilingPowerOfTwo;
+		}
+		else {
+			final int numberOfInClauses = divideRoundingUp( bindValueCount, inExprLimit );
+			final int numberOfInClausesWithPadding = ceilingPowerOfTwo( numberOfInClauses );
+			return numberOfInClausesWithPadding * inExprLimit;
+		}
+	}
 }
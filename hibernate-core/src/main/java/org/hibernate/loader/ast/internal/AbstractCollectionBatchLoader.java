@@ -127,9 +127,12 @@ protected void finishInitializingKey(Object key, SharedSessionContractImplemento
 
 	}
 
-	@AllowReflection
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		return resolveKeysToInitialize( keyBeingLoaded, getDomainBatchSize(), session );
+	}
+
+	@AllowReflection
+	Object[] resolveKeysToInitialize(Object keyBeingLoaded, int length, SharedSessionContractImplementor session) {
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
 				length
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.dialect.Dialect;
+
+/**
+ * Adapts the size of the batches used to load an entity or collection role to the
+ * number of keys which were pending in the {@link org.hibernate.engine.spi.BatchFetchQueue}
+ * when previous batches of that role were loaded.
+ * <p>
+ * When a full batch leaves pending keys behind, the batch size grows to cover them,
+ * so that they are not loaded by additional round trips. When fewer keys are pending,
+ * the batch size shrinks back, following a moving average of the pending keys, but
+ * never below the configured batch size. The batch size never exceeds the
+ * {@linkplain Dialect#getInExpressionCountLimit() limit} of the dialect, or the
+ * configured batch size, if that is larger.
+ * <p>
+ * Loaders are shared by all sessions, so this state is updated without locking; a
+ * lost update merely delays the adaptation.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ *
+ * @since 7.0
+ */
+final class AdaptiveBatchSize {
+	/**
+	 * The largest batch size used when the dialect does not limit the number of
+	 * elements of an {@code in} list.
+	 */
+	static final int DEFAULT_MAXIMUM_BATCH_SIZE = 1024;
+
+	private static final int MINIMUM_BATCH_SIZE = 2;
+
+	private final int minimumBatchSize;
+	private final int maximumBatchSize;
+
+	private volatile int batchSize;
+	private volatile int averagePendingKeys;
+
+	AdaptiveBatchSize(int domainBatchSize, Dialect dialect) {
+		final int limit = dialect.getInExpressionCountLimit();
+		this.minimumBatchSize = Math.max( MINIMUM_BATCH_SIZE, domainBatchSize );
+		this.maximumBatchSize = Math.max( domainBatchSize, limit > 0 ? limit : DEFAULT_MAXIMUM_BATCH_SIZE );
+		this.batchSize = domainBatchSize;
+	}
+
+	/**
+	 * The number of keys to load by the next batch, given the number of keys which
+	 * are currently pending in the batch fetch queue.
+	 */
+	int getBatchSize(int pendingKeys) {
+		// there is no point in allocating room for more keys than are pending,
+		// plus the key being loaded, which might not be queued
+		return Math.min( batchSize, pendingKeys + 1 );
+	}
+
+	/**
+	 * Record the outcome of loading a batch.
+	 *
+	 * @param pendingKeys The number of keys pending before the batch was loaded
+	 * @param batchSize The number of keys which were requested for the batch
+	 * @param loadedKeys The number of keys which were actually loaded
+	 */
+	void recordBatch(int pendingKeys, int batchSize, int loadedKeys) {
+		final int previousAverage = averagePendingKeys;
+		final int average = previousAverage == 0 ? pendingKeys : ( previousAverage + pendingKeys + 1 ) / 2;
+		averagePendingKeys = average;
+
+		int size = ceilingPowerOfTwo( average );
+		if ( loadedKeys == batchSize && pendingKeys > loadedKeys ) {
+			// the batch was full and keys were left behind
+			size = Math.max( size, ceilingPowerOfTwo( pendingKeys ) );
+		}
+		this.batchSize = Math.min( maximumBatchSize, Math.max( minimumBatchSize, size ) );
+	}
+
+	/**
+	 * The current batch size, ignoring the number of pending keys.
+	 */
+	int getBatchSize() {
+		return batchSize;
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		return value <= 1 ? 1 : Integer.highestOneBit( value - 1 ) << 1;
+	}
+}
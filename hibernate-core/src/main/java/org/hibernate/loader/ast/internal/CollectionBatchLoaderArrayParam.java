@@ -8,6 +8,7 @@
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -33,6 +34,7 @@
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -50,6 +52,7 @@
 	private final JdbcParameter jdbcParameter;
 	private final SelectStatement sqlSelect;
 	private final JdbcOperationQuerySelect jdbcSelectOperation;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	public CollectionBatchLoaderArrayParam(
 			int domainBatchSize,
@@ -57,6 +60,9 @@ public CollectionBatchLoaderArrayParam(
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
 		super( domainBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
+		adaptiveBatchSize = sessionFactory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled()
+				? new AdaptiveBatchSize( domainBatchSize, sessionFactory.getJdbcServices().getDialect() )
+				: null;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -122,7 +128,9 @@ private PersistentCollection<?> loadEmbeddable(
 			);
 		}
 
-		final int length = getDomainBatchSize();
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int pendingKeys = countPendingKeys( batchFetchQueue );
+		final int length = resolveBatchSize( pendingKeys );
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				jdbcParameter.getExpressionType()
 						.getSingleJdbcMapping()
@@ -132,20 +140,20 @@ private PersistentCollection<?> loadEmbeddable(
 				length
 		);
 		final Object[] embeddedKeys = (Object[]) Array.newInstance( keyDomainType, length );
-		session.getPersistenceContextInternal().getBatchFetchQueue()
-				.collectBatchLoadableCollectionKeys(
-						length,
-						(index, key) ->
-								keyDescriptor.forEachJdbcValue( key, (i, value, jdbcMapping) -> {
-									keysToInitialize[index] = value;
-									embeddedKeys[index] = key;
-								}, session )
-						,
-						keyBeingLoaded,
-						getLoadable()
-				);
+		batchFetchQueue.collectBatchLoadableCollectionKeys(
+				length,
+				(index, key) ->
+						keyDescriptor.forEachJdbcValue( key, (i, value, jdbcMapping) -> {
+							keysToInitialize[index] = value;
+							embeddedKeys[index] = key;
+						}, session )
+				,
+				keyBeingLoaded,
+				getLoadable()
+		);
 		// now trim down the array to the number of keys we found
 		final Object[] keys = trimIdBatch( length, keysToInitialize );
+		recordBatch( pendingKeys, length, keys );
 
 		if ( hasSingleId( keys ) ) {
 			return singleKeyLoader.load( keyBeingLoaded, session );
@@ -214,25 +222,47 @@ void finishInitializingKeys(Object[] keys, SharedSessionContractImplementor sess
 	@Override
 	@AllowReflection
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int pendingKeys = countPendingKeys( batchFetchQueue );
+		final int length = resolveBatchSize( pendingKeys );
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
+		final Object[] keys;
 		if( keyDescriptor.isEmbedded()){
 			assert keyDescriptor.getJdbcTypeCount() == 1;
-			final int length = getDomainBatchSize();
 			final Object[] keysToInitialize = (Object[]) Array.newInstance( keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(), length );
-			session.getPersistenceContextInternal().getBatchFetchQueue()
-					.collectBatchLoadableCollectionKeys(
-							length,
-							(index, key) ->
-								keyDescriptor.forEachJdbcValue( key, (i, value, jdbcMapping) -> {
-									keysToInitialize[index] = value;
-								}, session )
-							,
-							keyBeingLoaded,
-							getLoadable()
-					);
+			batchFetchQueue.collectBatchLoadableCollectionKeys(
+					length,
+					(index, key) ->
+						keyDescriptor.forEachJdbcValue( key, (i, value, jdbcMapping) -> {
+							keysToInitialize[index] = value;
+						}, session )
+					,
+					keyBeingLoaded,
+					getLoadable()
+			);
 			// now trim down the array to the number of keys we found
-			return trimIdBatch( length, keysToInitialize );
+			keys = trimIdBatch( length, keysToInitialize );
+		}
+		else {
+			keys = super.resolveKeysToInitialize( keyBeingLoaded, length, session );
+		}
+		recordBatch( pendingKeys, length, keys );
+		return keys;
+	}
+
+	private int countPendingKeys(BatchFetchQueue batchFetchQueue) {
+		return adaptiveBatchSize == null ? 0 : batchFetchQueue.countBatchLoadableCollections( getLoadable() );
+	}
+
+	private int resolveBatchSize(int pendingKeys) {
+		// the SQL does not depend on the number of keys,
+		// so the batch size may vary from one load to the next
+		return adaptiveBatchSize == null ? getDomainBatchSize() : adaptiveBatchSize.getBatchSize( pendingKeys );
+	}
+
+	private void recordBatch(int pendingKeys, int length, Object[] keys) {
+		if ( adaptiveBatchSize != null ) {
+			adaptiveBatchSize.recordBatch( pendingKeys, length, countIds( keys ) + 1 );
 		}
-		return super.resolveKeysToInitialize( keyBeingLoaded, session );
 	}
 }
@@ -9,6 +9,7 @@
 import java.util.Locale;
 
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.build.AllowReflection;
@@ -25,6 +26,7 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 import static org.hibernate.engine.internal.BatchFetchQueueHelper.removeBatchLoadableEntityKey;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
@@ -39,6 +41,7 @@
 		extends AbstractEntityBatchLoader<T>
 		implements SqlArrayMultiKeyLoader {
 	private final int domainBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final BasicEntityIdentifierMapping identifierMapping;
@@ -66,6 +69,9 @@ public EntityBatchLoaderArrayParam(
 		super( entityDescriptor, loadQueryInfluencers );
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSize = sessionFactory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled()
+				? new AdaptiveBatchSize( domainBatchSize, sessionFactory.getJdbcServices().getDialect() )
+				: null;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -108,16 +114,22 @@ public int getDomainBatchSize() {
 	@AllowReflection
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int pendingKeys = adaptiveBatchSize == null ? 0 : batchFetchQueue.countBatchLoadableEntityKeys( getLoadable() );
+		final int batchSize = adaptiveBatchSize == null ? domainBatchSize : adaptiveBatchSize.getBatchSize( pendingKeys );
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
-		session.getPersistenceContextInternal().getBatchFetchQueue()
-				.collectBatchLoadableEntityIds(
-						domainBatchSize,
-						(index, value) -> idsToLoad[index] = value,
-						pkValue,
-						getLoadable()
-				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
+		batchFetchQueue.collectBatchLoadableEntityIds(
+				batchSize,
+				(index, value) -> idsToLoad[index] = value,
+				pkValue,
+				getLoadable()
+		);
+		final Object[] ids = trimIdBatch( batchSize, idsToLoad );
+		if ( adaptiveBatchSize != null ) {
+			adaptiveBatchSize.recordBatch( pendingKeys, batchSize, countIds( ids ) + 1 );
+		}
+		return ids;
 	}
 
 	@Override
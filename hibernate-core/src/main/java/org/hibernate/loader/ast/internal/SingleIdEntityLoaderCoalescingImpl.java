@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.SingleIdEntityLoader;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSecondLevelCache;
+
+/**
+ * A {@link SingleIdEntityLoader} for a cacheable entity which coalesces concurrent
+ * loads of the same identifier by different sessions.
+ * <p>
+ * The first session to load an identifier executes the wrapped loader, which puts
+ * the loaded state into the second-level cache. Sessions loading the same identifier
+ * in the meantime wait for that load to complete, and then assemble their own entity
+ * instance from the second-level cache. When the state cannot be found in the cache,
+ * for example because the entity does not exist, or when the wait times out, the
+ * waiting session executes the wrapped loader itself.
+ * <p>
+ * A thread which is itself executing a load, of any entity type, never waits for the
+ * load of another thread, since that thread might in turn be waiting for its load,
+ * for example when both load associations of the entities they are loading. Such a
+ * thread executes the wrapped loader right away.
+ *
+ * @see org.hibernate.cfg.CacheSettings#COALESCE_CONCURRENT_LOADS
+ *
+ * @since 7.0
+ */
+public class SingleIdEntityLoaderCoalescingImpl<T> implements SingleIdEntityLoader<T> {
+	/**
+	 * The default maximum time a session waits for the load of another session.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#COALESCE_CONCURRENT_LOADS_TIMEOUT
+	 */
+	public static final int DEFAULT_TIMEOUT_MILLIS = 1_000;
+
+	/**
+	 * The number of loads the current thread is executing, or {@code null} if none.
+	 */
+	private static final ThreadLocal<Integer> OWNED_LOAD_COUNT = new ThreadLocal<>();
+
+	private final SingleIdEntityLoader<T> delegate;
+	private final EntityPersister persister;
+	private final long timeoutMillis;
+	private final ConcurrentMap<Object, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+	private final AtomicInteger waitingLoadCount = new AtomicInteger();
+
+	/**
+	 * @param timeoutMillis The maximum time a session waits for the load of another session
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#COALESCE_CONCURRENT_LOADS_TIMEOUT
+	 */
+	public SingleIdEntityLoaderCoalescingImpl(SingleIdEntityLoader<T> delegate, long timeoutMillis) {
+		this.delegate = delegate;
+		this.timeoutMillis = timeoutMillis;
+		this.persister = delegate.getLoadable().getEntityPersister();
+		assert persister.canReadFromCache() && persister.canWriteToCache();
+	}
+
+	@Override
+	public EntityMappingType getLoadable() {
+		return delegate.getLoadable();
+	}
+
+	@Override
+	public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		return load( pkValue, null, lockOptions, readOnly, session );
+	}
+
+	@Override
+	public T load(
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		if ( !isCoalescable( entityInstance, lockOptions, session ) ) {
+			return delegate.load( pkValue, entityInstance, lockOptions, readOnly, session );
+		}
+
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey =
+				cacheAccess.generateCacheKey( pkValue, persister, session.getFactory(), session.getTenantIdentifier() );
+		final InFlightLoad load = new InFlightLoad();
+		final InFlightLoad inFlightLoad = inFlightLoads.putIfAbsent( cacheKey, load );
+		if ( inFlightLoad == null ) {
+			ownLoad();
+			try {
+				return delegate.load( pkValue, null, lockOptions, readOnly, session );
+			}
+			finally {
+				releaseLoad();
+				inFlightLoads.remove( cacheKey, load );
+				load.complete();
+			}
+		}
+		else {
+			// waiting while executing a load of our own might deadlock
+			if ( !ownsLoad() && await( inFlightLoad ) ) {
+				final T entity = loadFromCache( pkValue, readOnly, session );
+				if ( entity != null ) {
+					return entity;
+				}
+			}
+			return delegate.load( pkValue, null, lockOptions, readOnly, session );
+		}
+	}
+
+	private boolean await(InFlightLoad inFlightLoad) {
+		waitingLoadCount.incrementAndGet();
+		try {
+			return inFlightLoad.await( timeoutMillis );
+		}
+		finally {
+			waitingLoadCount.decrementAndGet();
+		}
+	}
+
+	private static void ownLoad() {
+		final Integer count = OWNED_LOAD_COUNT.get();
+		OWNED_LOAD_COUNT.set( count == null ? 1 : count + 1 );
+	}
+
+	private static void releaseLoad() {
+		final int count = OWNED_LOAD_COUNT.get();
+		if ( count == 1 ) {
+			OWNED_LOAD_COUNT.remove();
+		}
+		else {
+			OWNED_LOAD_COUNT.set( count - 1 );
+		}
+	}
+
+	private static boolean ownsLoad() {
+		return OWNED_LOAD_COUNT.get() != null;
+	}
+
+	private static boolean isCoalescable(
+			Object entityInstance,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return entityInstance == null
+			&& lockOptions.getLockMode().lessThan( LockMode.READ )
+			&& session.getCacheMode().isGetEnabled()
+			&& session.getCacheMode().isPutEnabled();
+	}
+
+	private T loadFromCache(Object pkValue, Boolean readOnly, SharedSessionContractImplementor session) {
+		final EntityKey entityKey = session.generateEntityKey( pkValue, persister );
+		final Object entity = session.isEventSource()
+				? session.asEventSource().loadFromSecondLevelCache( persister, entityKey, null, LockMode.NONE )
+				: loadFromSecondLevelCache( session, null, LockMode.NONE, persister, entityKey );
+		if ( entity != null && readOnly != null ) {
+			session.getPersistenceContextInternal().setReadOnly( entity, readOnly );
+		}
+		//noinspection unchecked
+		return (T) entity;
+	}
+
+	@Override
+	public Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+		return delegate.loadDatabaseSnapshot( id, session );
+	}
+
+	/**
+	 * The number of loads currently being executed.
+	 */
+	int getInFlightLoadCount() {
+		return inFlightLoads.size();
+	}
+
+	/**
+	 * The number of sessions currently waiting for the load of another session.
+	 */
+	int getWaitingLoadCount() {
+		return waitingLoadCount.get();
+	}
+
+	private static class InFlightLoad {
+		private final CountDownLatch latch = new CountDownLatch( 1 );
+
+		boolean await(long timeoutMillis) {
+			try {
+				return latch.await( timeoutMillis, TimeUnit.MILLISECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		void complete() {
+			latch.countDown();
+		}
+	}
+}
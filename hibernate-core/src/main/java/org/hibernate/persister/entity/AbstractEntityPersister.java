@@ -47,6 +47,7 @@
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.ImmutableEntityEntryFactory;
+import org.hibernate.engine.internal.LoadedValueDigest;
 import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -99,6 +100,7 @@
 import org.hibernate.loader.ast.internal.MultiIdEntityLoaderArrayParam;
 import org.hibernate.loader.ast.internal.MultiIdEntityLoaderStandard;
 import org.hibernate.loader.ast.internal.SingleIdArrayLoadPlan;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderCoalescingImpl;
 import org.hibernate.loader.ast.internal.SingleIdEntityLoaderProvidedQueryImpl;
 import org.hibernate.loader.ast.internal.SingleIdEntityLoaderStandardImpl;
 import org.hibernate.loader.ast.internal.SingleUniqueKeyEntityLoaderStandard;
@@ -284,6 +286,7 @@
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedType;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfPersistentAttributeInterceptable;
@@ -331,6 +334,8 @@
 	private final NavigableRole navigableRole;
 	private final SessionFactoryImplementor factory;
 	private final EntityEntryFactory entityEntryFactory;
+	private final int loadedStateDigestThreshold;
+	private final boolean @Nullable [] loadedStateDigestible;
 
 	private final String sqlAliasStem;
 	private final String jpaEntityName;
@@ -495,7 +500,6 @@ public AbstractEntityPersister(
 		}
 
 		entityMetamodel = creationContext.createEntityMetamodel( persistentClass, this );
-
 		entityEntryFactory = entityMetamodel.isMutable()
 				? MutableEntityEntryFactory.INSTANCE
 				: ImmutableEntityEntryFactory.INSTANCE;
@@ -531,6 +535,9 @@ public AbstractEntityPersister(
 		hasPartitionedSelectionMapping = persistentClass.hasPartitionedSelectionMapping();
 		hasCollectionNotReferencingPK = persistentClass.hasCollectionNotReferencingPK();
 
+		loadedStateDigestThreshold = factory.getSessionFactoryOptions().getLoadedStateDigestThreshold();
+		loadedStateDigestible = loadedStateDigestThreshold > 0 ? determineLoadedStateDigestible() : null;
+
 		propertyMapping = new EntityPropertyMapping( this );
 
 		// IDENTIFIER
@@ -809,7 +816,14 @@ protected SingleIdEntityLoader<?> buildSingleIdEntityLoader() {
 			final NamedQueryMemento<?> memento = getNamedQueryMemento( null );
 			return new SingleIdEntityLoaderProvidedQueryImpl<>( this, memento );
 		}
-		return buildSingleIdEntityLoader( new LoadQueryInfluencers( factory ) );
+		final SingleIdEntityLoader<?> loader = buildSingleIdEntityLoader( new LoadQueryInfluencers( factory ) );
+		return canReadFromCache() && canWriteToCache()
+				&& factory.getSessionFactoryOptions().isCoalesceConcurrentLoadsEnabled()
+				? new SingleIdEntityLoaderCoalescingImpl<>(
+						loader,
+						factory.getSessionFactoryOptions().getCoalesceConcurrentLoadsTimeout()
+				)
+				: loader;
 	}
 
 	private SingleIdEntityLoader<?> buildSingleIdEntityLoader(LoadQueryInfluencers loadQueryInfluencers) {
@@ -3656,6 +3670,91 @@ public int[] findDirty(Object[] currentState, Object[] previousState, Object ent
 		}
 	}
 
+	@Override
+	public boolean isUnmodified(Object[] currentState, Object[] previousState) {
+		return DirtyHelper.isUnmodified(
+				entityMetamodel.getDirtyCheckablePropertyTypes(),
+				currentState,
+				previousState
+		);
+	}
+
+	@Override
+	public int @Nullable [] findDirtyWithoutSession(Object[] currentState, Object[] previousState) {
+		return DirtyHelper.findDirtyWithoutSession(
+				entityMetamodel.getDirtyCheckablePropertyTypes(),
+				currentState,
+				previousState,
+				propertyColumnUpdateable
+		);
+	}
+
+	@Override
+	public int[] completeDirtyCheck(
+			int[] precomputedDirtyProperties,
+			Object[] currentState,
+			Object[] previousState,
+			Object entity,
+			SharedSessionContractImplementor session) {
+		final int[] props = DirtyHelper.completeDirtyCheck(
+				precomputedDirtyProperties,
+				entityMetamodel.getDirtyCheckablePropertyTypes(),
+				currentState,
+				previousState,
+				propertyColumnUpdateable,
+				session
+		);
+		if ( props == null ) {
+			return null;
+		}
+		else {
+			logDirtyProperties( props );
+			return props;
+		}
+	}
+
+	@Override
+	public @Nullable Object digestLoadedValue(int attributeIndex, @Nullable Object value) {
+		return loadedStateDigestible != null && loadedStateDigestible[attributeIndex]
+				? LoadedValueDigest.digest(
+						value,
+						( (BasicType<?>) entityMetamodel.getPropertyTypes()[attributeIndex] ).getJavaTypeDescriptor(),
+						loadedStateDigestThreshold
+				)
+				: null;
+	}
+
+	/**
+	 * Determine which attributes may hold a {@link LoadedValueDigest} in a loaded state.
+	 * A digest must never be read as the actual previous value of an attribute, so this
+	 * excludes the attributes whose previous values end up in the SQL, the entities whose
+	 * loaded state is also the state put in the second-level cache, and the enhanced
+	 * entities, whose loaded state may be flushed as their current state.
+	 *
+	 * @return The digestible attributes, or {@code null} if there are none
+	 */
+	private boolean @Nullable [] determineLoadedStateDigestible() {
+		final OptimisticLockStyle optimisticLockStyle = entityMetamodel.getOptimisticLockStyle();
+		if ( canWriteToCache || hasPartitionedSelectionMapping || isManagedType( getMappedClass() )
+				|| optimisticLockStyle == OptimisticLockStyle.ALL
+				|| optimisticLockStyle == OptimisticLockStyle.DIRTY ) {
+			return null;
+		}
+		final @Nullable Type[] types = entityMetamodel.getDirtyCheckablePropertyTypes();
+		final int[] naturalIdProperties = entityMetamodel.getNaturalIdentifierProperties();
+		final boolean[] digestible = new boolean[types.length];
+		boolean anyDigestible = false;
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( i != entityMetamodel.getVersionPropertyIndex()
+					&& ( naturalIdProperties == null || !contains( naturalIdProperties, i ) )
+					&& LoadedValueDigest.isDigestible( types[i] ) ) {
+				digestible[i] = true;
+				anyDigestible = true;
+			}
+		}
+		return anyDigestible ? digestible : null;
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -3886,7 +3985,7 @@ public Boolean isTransient(Object entity, SharedSessionContractImplementor sessi
 						// check if we're currently loading this entity instance, the version
 						// will be null but the entity cannot be considered transient
 						final EntityHolder holder =
-								persistenceContext.getEntityHolder( new EntityKey( id, this ) );
+								persistenceContext.getEntityHolder( this, id );
 						if ( holder != null && holder.isEventuallyInitialized() && holder.getEntity() == entity ) {
 							return false;
 						}
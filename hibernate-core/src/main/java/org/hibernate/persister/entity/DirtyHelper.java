@@ -6,9 +6,11 @@
 
 import org.hibernate.Internal;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.internal.LoadedValueDigest;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -124,11 +126,214 @@ private static boolean isDirty(
 		else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return true;
 		}
+		else if ( previousState[i] instanceof LoadedValueDigest digest ) {
+			return !matches( digest, currentState[i], propertyType );
+		}
 		else {
 			return propertyType.isDirty( previousState[i], currentState[i], includeColumns[i], session );
 		}
 	}
 
+	private static boolean matches(LoadedValueDigest digest, Object currentValue, Type propertyType) {
+		return currentValue == digest
+			|| digest.matches( currentValue, ( (BasicType<?>) propertyType ).getJavaTypeDescriptor() );
+	}
+
+	/**
+	 * Determine, without accessing the session, whether the given field values are certainly
+	 * unmodified with respect to the baseline state. Every dirty-checkable field of immutable
+	 * type must hold the very same instance as in the baseline state, which is checked first.
+	 * Every field of {@linkplain Type#isMutable mutable} type must then match its baseline,
+	 * which is the snapshot of the field taken when the entity was loaded: either a deep copy,
+	 * or a {@link LoadedValueDigest}. Fields of mutable type which are not of
+	 * {@linkplain BasicType basic type} cannot be compared without the session.
+	 *
+	 * @param propertyTypes The property types that are dirty checkable. null entry for non-dirty checkable properties
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 *
+	 * @return {@code true} if no field is modified, {@code false} if some field is modified,
+	 * or if this could not be determined
+	 */
+	public static boolean isUnmodified(
+			@Nullable Type[] propertyTypes,
+			final Object[] currentState,
+			final Object[] previousState) {
+		final int span = propertyTypes.length;
+		boolean hasMutableProperties = false;
+		boolean hasDigests = false;
+		for ( int i = 0; i < span; i++ ) {
+			final Type propertyType = propertyTypes[i];
+			final Object previous = previousState[i];
+			if ( propertyType != null && currentState[i] != previous ) {
+				if ( previous instanceof LoadedValueDigest ) {
+					hasDigests = true;
+				}
+				else if ( propertyType.isMutable() ) {
+					hasMutableProperties = true;
+				}
+				else {
+					return false;
+				}
+			}
+		}
+		// digests are the most costly to match, and so are matched last
+		return ( !hasMutableProperties || areUnmodified( propertyTypes, currentState, previousState, false ) )
+			&& ( !hasDigests || areUnmodified( propertyTypes, currentState, previousState, true ) );
+	}
+
+	private static boolean areUnmodified(
+			@Nullable Type[] propertyTypes,
+			Object[] currentState,
+			Object[] previousState,
+			boolean digests) {
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			final Type propertyType = propertyTypes[i];
+			final Object current = currentState[i];
+			final Object previous = previousState[i];
+			if ( propertyType != null && current != previous
+					&& previous instanceof LoadedValueDigest == digests
+					&& !isUnmodified( propertyType, current, previous ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isUnmodified(Type propertyType, Object current, Object previous) {
+		if ( current == LazyPropertyInitializer.UNFETCHED_PROPERTY
+				|| previous == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			return false;
+		}
+		else if ( previous instanceof LoadedValueDigest digest ) {
+			return matches( digest, current, propertyType );
+		}
+		else if ( propertyType instanceof BasicType<?> ) {
+			// basic types compare values without accessing the session
+			return propertyType.isEqual( current, previous );
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * Determine which of the given field values are dirty, if that is possible without
+	 * accessing the session, that is, if every dirty-checkable field whose values are
+	 * not the very same instance is of {@linkplain BasicType basic type}. Since the
+	 * session is not accessed, this method may be called concurrently.
+	 * <p>
+	 * Fields of {@linkplain Type#isMutable mutable} type, and fields whose baseline is a
+	 * {@link LoadedValueDigest}, are not compared, since their values may be modified
+	 * in place before the entity is flushed. They are compared by
+	 * {@link #completeDirtyCheck}.
+	 *
+	 * @param propertyTypes The property types that are dirty checkable. null entry for non-dirty checkable properties
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 *
+	 * @return Array containing indices of the dirty properties of immutable type, an empty array
+	 * if none of them is dirty, or null if the dirty check requires the session.
+	 */
+	public static int @Nullable [] findDirtyWithoutSession(
+			@Nullable Type[] propertyTypes,
+			final Object[] currentState,
+			final Object[] previousState,
+			final boolean[][] includeColumns) {
+		int[] results = null;
+		int count = 0;
+		int span = propertyTypes.length;
+
+		for ( int i = 0; i < span; i++ ) {
+			final Type propertyType = propertyTypes[i];
+			final Object current = currentState[i];
+			final Object previous = previousState[i];
+			final boolean dirty;
+			if ( propertyType == null || current == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				dirty = false;
+			}
+			else if ( previous == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				dirty = true;
+			}
+			else if ( isComparedOnFlush( propertyType, previous ) ) {
+				// left to completeDirtyCheck()
+				dirty = false;
+			}
+			else if ( current == previous ) {
+				dirty = false;
+			}
+			else if ( propertyType instanceof BasicType<?> ) {
+				// basic types compare values without accessing the session
+				dirty = propertyType.isDirty( previous, current, includeColumns[i], null );
+			}
+			else {
+				return null;
+			}
+			if ( dirty ) {
+				if ( results == null ) {
+					results = new int[span];
+				}
+				results[count++] = i;
+			}
+		}
+
+		return count == 0 ? ArrayHelper.EMPTY_INT_ARRAY : ArrayHelper.trim( results, count );
+	}
+
+	private static boolean isComparedOnFlush(Type propertyType, Object previous) {
+		return propertyType.isMutable() || previous instanceof LoadedValueDigest;
+	}
+
+	/**
+	 * Complete the dirty check of the given field values started by
+	 * {@link #findDirtyWithoutSession}, by comparing the fields it did not compare.
+	 *
+	 * @param precomputedDirtyProperties The indices of the dirty properties found by
+	 * {@link #findDirtyWithoutSession}, in ascending order
+	 * @param propertyTypes The property types that are dirty checkable. null entry for non-dirty checkable properties
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 * @param session The session from which the dirty check request originated.
+	 *
+	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
+	 */
+	public static int[] completeDirtyCheck(
+			int[] precomputedDirtyProperties,
+			@Nullable Type[] propertyTypes,
+			final Object[] currentState,
+			final Object[] previousState,
+			final boolean[][] includeColumns,
+			final SharedSessionContractImplementor session) {
+		int[] results = null;
+		int count = 0;
+		int span = propertyTypes.length;
+		int next = 0;
+
+		for ( int i = 0; i < span; i++ ) {
+			final boolean dirty;
+			if ( next < precomputedDirtyProperties.length && precomputedDirtyProperties[next] == i ) {
+				next++;
+				dirty = true;
+			}
+			else {
+				final Type propertyType = propertyTypes[i];
+				dirty = propertyType != null
+					&& isComparedOnFlush( propertyType, previousState[i] )
+					&& isDirty( propertyTypes, currentState, previousState, includeColumns, session, i );
+			}
+			if ( dirty ) {
+				if ( results == null ) {
+					results = new int[span];
+				}
+				results[count++] = i;
+			}
+		}
+
+		return count == 0 ? null : ArrayHelper.trim( results, count );
+	}
+
 	/**
 	 * Determine if any of the given field values are modified, returning an array containing
 	 * indices of the modified fields.
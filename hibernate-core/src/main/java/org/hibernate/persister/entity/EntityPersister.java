@@ -412,6 +412,95 @@ default boolean hasOwnedCollections() {
 	 */
 	int[] findDirty(Object[] currentState, Object[] previousState, Object owner, SharedSessionContractImplementor session);
 
+	/**
+	 * Determine, without accessing the session, whether the current snapshot is
+	 * certainly unmodified with respect to the baseline snapshot, that is, whether
+	 * every dirty-checkable attribute of {@linkplain Type#isMutable immutable} type
+	 * holds the very same instance in both snapshots, and every attribute of mutable
+	 * basic type matches the value, or digest, held by the baseline snapshot.
+	 * <p>
+	 * A result of {@code false} does not imply that the state is dirty, and
+	 * {@link #findDirty} must then be used to determine the dirty attributes.
+	 *
+	 * @param currentState The current snapshot
+	 * @param previousState The baseline snapshot
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isUnmodified(Object[] currentState, Object[] previousState) {
+		return false;
+	}
+
+	/**
+	 * Compare the two snapshots to determine if they represent dirty state, like
+	 * {@link #findDirty}, but only if this is possible without accessing any session.
+	 * This method may be called concurrently, from threads other than the thread of
+	 * the session which owns the snapshots.
+	 * <p>
+	 * Attributes of {@linkplain Type#isMutable mutable} type are not compared, since
+	 * their values may still be modified in place before the entity is flushed. The
+	 * dirty check must be completed by {@link #completeDirtyCheck}.
+	 *
+	 * @param currentState The current snapshot
+	 * @param previousState The baseline snapshot
+	 * @return The indices of the dirty properties of immutable type, an empty array if
+	 * none of them was dirty, or {@code null} if the snapshots cannot be compared
+	 * without a session.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int @Nullable [] findDirtyWithoutSession(Object[] currentState, Object[] previousState) {
+		return null;
+	}
+
+	/**
+	 * Complete a dirty check started by {@link #findDirtyWithoutSession}, by comparing
+	 * the attributes of {@linkplain Type#isMutable mutable} type.
+	 *
+	 * @param precomputedDirtyProperties The result of {@link #findDirtyWithoutSession}
+	 * for the very same snapshots
+	 * @param currentState The current snapshot
+	 * @param previousState The baseline snapshot
+	 * @param owner The entity containing the state
+	 * @param session The originating session
+	 * @return The indices of all dirty properties, or null if no properties
+	 * were dirty.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int[] completeDirtyCheck(
+			int[] precomputedDirtyProperties,
+			Object[] currentState,
+			Object[] previousState,
+			Object owner,
+			SharedSessionContractImplementor session) {
+		return findDirty( currentState, previousState, owner, session );
+	}
+
+	/**
+	 * Obtain the digest to keep in the loaded state of an entity in place of a deep
+	 * copy of the given value of the attribute at the given index, if any.
+	 * <p>
+	 * This is only called when the snapshot of a loaded entity is taken, and so
+	 * never for an entity loaded in read-only mode, which has no snapshot.
+	 *
+	 * @param attributeIndex The index of the attribute in the entity state
+	 * @param value The loaded value of the attribute
+	 * @return The {@link org.hibernate.engine.internal.LoadedValueDigest}, or {@code null}
+	 * if the value should be deep copied as usual
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LOADED_STATE_DIGEST_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable Object digestLoadedValue(int attributeIndex, @Nullable Object value) {
+		return null;
+	}
+
 	/**
 	 * Compare the two snapshots to determine if they represent modified state.
 	 *
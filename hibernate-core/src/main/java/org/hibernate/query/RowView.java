@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+
+/**
+ * A view of the current row of a query result, passed to the action given
+ * to {@link SelectionQuery#forEachRow}. The values of the row are accessed
+ * by the zero-based position of the corresponding item in the select list.
+ * <p>
+ * The same instance is passed for every row, and its values are only valid
+ * until the action returns. Each value is assembled when it is accessed,
+ * without materializing the row as a tuple or array. Where the query does
+ * not apply a conversion, the primitive accessors {@link #getInt},
+ * {@link #getLong} and {@link #getDouble} read numeric values without
+ * boxing them.
+ *
+ * @see SelectionQuery#forEachRow
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface RowView {
+	/**
+	 * The number of items in the select list.
+	 */
+	int getColumnCount();
+
+	/**
+	 * The value of the select item at the given position.
+	 */
+	Object get(int position);
+
+	/**
+	 * The value of the select item at the given position, as the given type.
+	 *
+	 * @throws ClassCastException if the value is not of the given type
+	 */
+	default <T> T get(int position, Class<T> type) {
+		return type.cast( get( position ) );
+	}
+
+	/**
+	 * Whether the value of the select item at the given position is null.
+	 */
+	boolean isNull(int position);
+
+	/**
+	 * The numeric value of the select item at the given position as an
+	 * {@code int}, or {@code 0} if the value is null.
+	 */
+	default int getInt(int position) {
+		return (int) getLong( position );
+	}
+
+	/**
+	 * The numeric value of the select item at the given position as a
+	 * {@code long}, or {@code 0} if the value is null.
+	 */
+	long getLong(int position);
+
+	/**
+	 * The numeric value of the select item at the given position as a
+	 * {@code double}, or {@code 0} if the value is null.
+	 */
+	double getDouble(int position);
+}
@@ -11,6 +11,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -207,6 +209,87 @@ default Stream<R> stream() {
 		return list().stream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a {@link Stream}
+	 * which uses a bounded amount of memory, however many results it has.
+	 * <ul>
+	 * <li>Each entity contained in a result is detached from the persistence
+	 *     context as soon as the next result is requested, or the stream is
+	 *     closed. Entities reached from a result via an association are
+	 *     detached along with it only if the association cascades detach.
+	 * <li>The results are read through a {@linkplain ScrollMode#FORWARD_ONLY
+	 *     forward-only} cursor, and, unless a {@linkplain #setFetchSize(int)
+	 *     fetch size} was specified, a fetch size is applied so that the JDBC
+	 *     driver does not read all results at once. Some drivers, for example
+	 *     the PostgreSQL driver, only honor the fetch size inside a transaction.
+	 * </ul>
+	 * <p>
+	 * The client should call {@link Stream#close()} after processing the
+	 * stream so that resources are freed as soon as possible.
+	 *
+	 * @return The results as a {@link Stream}
+	 *
+	 * @implNote The default implementation defined here simply returns
+	 *           {@link #stream()}. Concrete implementations detach results.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Stream<R> getDetachedResultStream() {
+		return stream();
+	}
+
+	/**
+	 * Execute the query and return the query results as a {@link Flow.Publisher},
+	 * which reads results from JDBC only as far as its subscriber signals demand.
+	 * Like the {@linkplain #getDetachedResultStream() detached result stream}, it
+	 * detaches each result once the next result is emitted, and applies a fetch size.
+	 * <p>
+	 * The query is executed when demand is first signalled. Since a session is not
+	 * thread-safe, results are emitted synchronously by the thread which calls
+	 * {@link Flow.Subscription#request(long)}, and that thread must be allowed to
+	 * use the session. The publisher supports a single subscriber.
+	 *
+	 * @return A publisher of the results
+	 *
+	 * @implNote The default implementation defined here throws
+	 *           {@link UnsupportedOperationException}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Flow.Publisher<R> getResultPublisher() {
+		throw new UnsupportedOperationException( "getResultPublisher() is not supported by this query" );
+	}
+
+	/**
+	 * Execute the query and pass a {@linkplain RowView view} of each row of
+	 * the result to the given action. The row is never materialized as a result
+	 * object or tuple, and when the row contains only scalar values, they are
+	 * assembled only when the action accesses them, so that visiting a large
+	 * result of scalar values does not allocate per row.
+	 * <ul>
+	 * <li>The values are those of the select list, before any
+	 *     {@linkplain TupleTransformer transformation} into the result type.
+	 * <li>Rows are visited as they are read from JDBC, exactly as they would be
+	 *     {@linkplain #scroll() scrolled}, without removal of duplicate entities.
+	 *     The entities of a row are fully loaded when the action is called, and
+	 *     rows which only add elements to a fetched collection are combined.
+	 * <li>The results are never read from or put into the query cache.
+	 * </ul>
+	 *
+	 * @param action the action invoked once for each row
+	 *
+	 * @implNote The default implementation defined here throws
+	 *           {@link UnsupportedOperationException}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void forEachRow(Consumer<? super RowView> action) {
+		throw new UnsupportedOperationException( "forEachRow() is not supported by this query" );
+	}
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
@@ -281,6 +364,42 @@ default Stream<R> stream() {
 	@Incubating
 	KeyedResultList<R> getKeyedResultList(KeyedPage<R> page);
 
+	/**
+	 * Execute the query and return the results of the given
+	 * {@linkplain KeyedPage page}, and of every following page,
+	 * as a {@link Stream}, using key-based pagination.
+	 * <ul>
+	 * <li>The first page is obtained as if by calling
+	 *     {@link #getKeyedResultList(KeyedPage)}. Every following
+	 *     page is located using the key of the last result on the
+	 *     previous page, and is only read once all results of the
+	 *     previous page were consumed. All following pages are read
+	 *     by a single query, which is translated only once.
+	 * <li>Before a following page is read, the entities loaded by
+	 *     the previous page are {@linkplain org.hibernate.Session#evict
+	 *     evicted} from the persistence context, so that it does not
+	 *     grow with the number of results. A modification made to such
+	 *     an entity, and not yet flushed, is lost. Entities which were
+	 *     already associated with the persistence context when a page
+	 *     was read stay managed.
+	 * </ul>
+	 *
+	 * @param page the key-based specification of the first page
+	 *
+	 * @return the results of all pages as a {@link Stream}
+	 *
+	 * @implNote The default implementation defined here throws
+	 *           {@link UnsupportedOperationException}.
+	 *
+	 * @since 7.0
+	 *
+	 * @see #getKeyedResultList(KeyedPage)
+	 */
+	@Incubating
+	default Stream<R> getKeyedResultStream(KeyedPage<R> page) {
+		throw new UnsupportedOperationException( "getKeyedResultStream() is not supported by this query" );
+	}
+
 	SelectionQuery<R> setHint(String hintName, Object value);
 
 	/**
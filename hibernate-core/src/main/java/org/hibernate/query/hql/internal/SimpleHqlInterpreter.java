@@ -0,0 +1,473 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.hql.internal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.metamodel.model.domain.JpaMetamodel;
+import org.hibernate.metamodel.model.domain.PersistentAttribute;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.hql.spi.SqmCreationOptions;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.spi.SqmCreationContext;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPolymorphicRootDescriptor;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+
+import jakarta.persistence.criteria.Nulls;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.metamodel.Attribute;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Interprets a very restricted subset of HQL directly, without the help of
+ * the ANTLR-generated lexer and parser, producing exactly the same SQM tree
+ * as {@link SemanticQueryBuilder} would. The recognized queries have the form:
+ * <pre>
+ * from Entity [[as] alias]
+ *     [where path op :param [and path op :param]*]
+ *     [order by path [asc|desc] [, path [asc|desc]]*]
+ * </pre>
+ * where each {@code path} is an unqualified or alias-qualified reference to
+ * a basic attribute of the root entity, and {@code op} is a comparison operator.
+ * <p>
+ * Whenever the query does not match this form, or its interpretation could
+ * possibly differ from the interpretation by {@link SemanticQueryBuilder},
+ * this class gives up, and the query is parsed by ANTLR.
+ * <p>
+ * Direct interpretation is enabled using
+ * {@value org.hibernate.cfg.QuerySettings#SIMPLE_HQL_INTERPRETATION}.
+ */
+final class SimpleHqlInterpreter<R> {
+
+	/**
+	 * The keywords of HQL. We never accept a keyword where the parser might
+	 * interpret it as anything other than an identifier.
+	 */
+	private static final Set<String> KEYWORDS = keywords();
+
+	private static Set<String> keywords() {
+		final Set<String> keywords = new HashSet<>();
+		for ( int i = 0; i <= HqlLexer.VOCABULARY.getMaxTokenType(); i++ ) {
+			final String name = HqlLexer.VOCABULARY.getSymbolicName( i );
+			if ( name != null ) {
+				keywords.add( name.toLowerCase( Locale.ROOT ) );
+			}
+		}
+		return keywords;
+	}
+
+	private enum TokenType {
+		END,
+		IDENTIFIER,
+		DOT,
+		COMMA,
+		PARAMETER,
+		OPERATOR,
+		UNKNOWN
+	}
+
+	/**
+	 * Interpret the given query, if it belongs to the subset of HQL
+	 * handled by this class.
+	 *
+	 * @return the SQM tree, or {@code null} if the query must be parsed
+	 */
+	static <R> @Nullable SqmSelectStatement<R> interpret(
+			String hql,
+			@Nullable Class<R> expectedResultType,
+			SqmCreationOptions creationOptions,
+			SqmCreationContext creationContext) {
+		if ( !creationOptions.isSimpleHqlInterpretationEnabled() ) {
+			return null;
+		}
+		if ( creationOptions.useStrictJpaCompliance() ) {
+			// the implicit 'select' clause is not allowed by JPA
+			return null;
+		}
+		return new SimpleHqlInterpreter<R>( hql, expectedResultType, creationContext ).interpret();
+	}
+
+	private final String hql;
+	private final @Nullable Class<R> expectedResultType;
+	private final JpaMetamodel jpaMetamodel;
+	private final NodeBuilder nodeBuilder;
+
+	private int position;
+	private TokenType tokenType;
+	private String tokenText;
+	private ComparisonOperator operator;
+
+	private EntityDomainType<?> entityDescriptor;
+	private String alias;
+	private SqmRoot<?> root;
+	private SqmSelectStatement<R> statement;
+	private Map<String, SqmNamedParameter<?>> parameters;
+	private String pathText;
+
+	private SimpleHqlInterpreter(
+			String hql,
+			@Nullable Class<R> expectedResultType,
+			SqmCreationContext creationContext) {
+		this.hql = hql;
+		this.expectedResultType = expectedResultType;
+		this.jpaMetamodel = creationContext.getJpaMetamodel();
+		this.nodeBuilder = creationContext.getNodeBuilder();
+	}
+
+	private @Nullable SqmSelectStatement<R> interpret() {
+		nextToken();
+		if ( !isKeyword( "from" ) ) {
+			return null;
+		}
+		nextToken();
+		if ( !interpretRoot() ) {
+			return null;
+		}
+
+		statement = new SqmSelectStatement<>( nodeBuilder );
+		final SqmQuerySpec<R> querySpec = statement.getQuerySpec();
+
+		final SqmFromClause fromClause = new SqmFromClause();
+		root = new SqmRoot<>( entityDescriptor, alias, true, nodeBuilder );
+		fromClause.addRoot( root );
+		querySpec.setFromClause( fromClause );
+
+		// the same 'select' list as SemanticQueryBuilder.buildInferredSelectClause()
+		// infers for a single root entity without joins
+		final SqmSelectClause selectClause = new SqmSelectClause( false, 1, nodeBuilder );
+		selectClause.addSelection( new SqmSelection<>( root, root.getAlias(), nodeBuilder ) );
+		querySpec.setSelectClause( selectClause );
+
+		final SqmWhereClause whereClause = new SqmWhereClause( nodeBuilder );
+		if ( isKeyword( "where" ) ) {
+			nextToken();
+			final SqmPredicate predicate = interpretWhere();
+			if ( predicate == null ) {
+				return null;
+			}
+			whereClause.setPredicate( predicate );
+		}
+		querySpec.setWhereClause( whereClause );
+
+		if ( isKeyword( "order" ) ) {
+			nextToken();
+			final SqmOrderByClause orderByClause = interpretOrderBy();
+			if ( orderByClause == null ) {
+				return null;
+			}
+			querySpec.setOrderByClause( orderByClause );
+		}
+
+		if ( tokenType != TokenType.END ) {
+			return null;
+		}
+
+		querySpec.validateQueryStructureAndFetchOwners();
+		return statement;
+	}
+
+	private boolean interpretRoot() {
+		if ( !isIdentifier() ) {
+			return false;
+		}
+		final StringBuilder entityName = new StringBuilder( tokenText );
+		nextToken();
+		while ( tokenType == TokenType.DOT ) {
+			nextToken();
+			if ( !isIdentifier() ) {
+				return false;
+			}
+			entityName.append( '.' ).append( tokenText );
+			nextToken();
+		}
+
+		if ( isKeyword( "as" ) ) {
+			nextToken();
+			if ( !isIdentifier() ) {
+				return false;
+			}
+			alias = tokenText;
+			nextToken();
+		}
+		else if ( isIdentifier() ) {
+			alias = tokenText;
+			nextToken();
+		}
+
+		entityDescriptor = jpaMetamodel.getHqlEntityReference( entityName.toString() );
+		if ( entityDescriptor == null || entityDescriptor instanceof SqmPolymorphicRootDescriptor ) {
+			return false;
+		}
+		// when a result type is given, we may only infer the
+		// 'select' list if the result type is an entity type
+		return expectedResultType == null || jpaMetamodel.findEntityType( expectedResultType ) != null;
+	}
+
+	private @Nullable SqmPredicate interpretWhere() {
+		final SqmPredicate predicate = interpretComparison();
+		if ( predicate == null || !isKeyword( "and" ) ) {
+			return predicate;
+		}
+		nextToken();
+		final SqmPredicate rhs = interpretComparison();
+		if ( rhs == null ) {
+			return null;
+		}
+		final SqmJunctionPredicate junction =
+				new SqmJunctionPredicate( Predicate.BooleanOperator.AND, predicate, rhs, nodeBuilder );
+		while ( isKeyword( "and" ) ) {
+			nextToken();
+			final SqmPredicate next = interpretComparison();
+			if ( next == null ) {
+				return null;
+			}
+			junction.getPredicates().add( next );
+		}
+		return junction;
+	}
+
+	private @Nullable SqmPredicate interpretComparison() {
+		final SqmPath<?> path = interpretPath();
+		if ( path == null || tokenType != TokenType.OPERATOR ) {
+			return null;
+		}
+		// SemanticQueryBuilder would interpret a path which
+		// looks like the name of an enum value as a literal
+		if ( jpaMetamodel.getEnumTypesForValue( pathText ) != null ) {
+			return null;
+		}
+		final ComparisonOperator comparisonOperator = operator;
+		nextToken();
+		if ( tokenType != TokenType.PARAMETER ) {
+			return null;
+		}
+		final SqmNamedParameter<?> parameter = resolveParameter( tokenText );
+		nextToken();
+		return new SqmComparisonPredicate( path, comparisonOperator, parameter, nodeBuilder );
+	}
+
+	private SqmNamedParameter<?> resolveParameter(String name) {
+		if ( parameters == null ) {
+			parameters = new HashMap<>();
+		}
+		final SqmNamedParameter<?> existingParameter = parameters.get( name );
+		if ( existingParameter != null ) {
+			return existingParameter;
+		}
+		else {
+			final SqmNamedParameter<?> parameter = new SqmNamedParameter<>( name, false, null, nodeBuilder );
+			parameters.put( name, parameter );
+			statement.addParameter( parameter );
+			return parameter;
+		}
+	}
+
+	private @Nullable SqmOrderByClause interpretOrderBy() {
+		if ( !isKeyword( "by" ) ) {
+			return null;
+		}
+		final SqmOrderByClause orderByClause = new SqmOrderByClause();
+		do {
+			nextToken();
+			final SqmPath<?> path = interpretPath();
+			if ( path == null ) {
+				return null;
+			}
+			final SortDirection sortDirection;
+			if ( isKeyword( "asc" ) ) {
+				sortDirection = SortDirection.ASCENDING;
+				nextToken();
+			}
+			else if ( isKeyword( "desc" ) ) {
+				sortDirection = SortDirection.DESCENDING;
+				nextToken();
+			}
+			else {
+				sortDirection = SortDirection.ASCENDING;
+			}
+			orderByClause.addSortSpecification( new SqmSortSpecification( path, sortDirection, Nulls.NONE ) );
+		}
+		while ( tokenType == TokenType.COMMA );
+		return orderByClause;
+	}
+
+	/**
+	 * Interpret a reference to a basic attribute of the root entity,
+	 * either unqualified, or qualified by the alias of the root.
+	 */
+	private @Nullable SqmPath<?> interpretPath() {
+		if ( tokenType != TokenType.IDENTIFIER ) {
+			return null;
+		}
+		final String attributeName;
+		final String identifier = tokenText;
+		nextToken();
+		if ( tokenType == TokenType.DOT ) {
+			if ( !identifier.equals( alias ) ) {
+				return null;
+			}
+			nextToken();
+			// after the dot, a keyword is always interpreted as an identifier
+			if ( tokenType != TokenType.IDENTIFIER ) {
+				return null;
+			}
+			attributeName = tokenText;
+			pathText = identifier + '.' + attributeName;
+			nextToken();
+			if ( tokenType == TokenType.DOT ) {
+				return null;
+			}
+		}
+		else {
+			// an unqualified identifier might be a keyword, or the alias itself
+			if ( isKeyword( identifier ) || identifier.equalsIgnoreCase( alias ) ) {
+				return null;
+			}
+			attributeName = identifier;
+			pathText = identifier;
+		}
+
+		final PersistentAttribute<?, ?> attribute = entityDescriptor.findAttribute( attributeName );
+		if ( attribute == null
+				|| attribute.isCollection()
+				|| attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC ) {
+			return null;
+		}
+		return root.get( attributeName, true );
+	}
+
+	private boolean isIdentifier() {
+		return tokenType == TokenType.IDENTIFIER && !isKeyword( tokenText );
+	}
+
+	private boolean isKeyword(String keyword) {
+		return tokenType == TokenType.IDENTIFIER && tokenText.equalsIgnoreCase( keyword );
+	}
+
+	private static boolean isKeyword(String identifier) {
+		return KEYWORDS.contains( identifier.toLowerCase( Locale.ROOT ) );
+	}
+
+	private void nextToken() {
+		final int length = hql.length();
+		while ( position < length && isWhitespace( hql.charAt( position ) ) ) {
+			position++;
+		}
+		if ( position == length ) {
+			tokenType = TokenType.END;
+			tokenText = "";
+			return;
+		}
+
+		final int start = position;
+		final char character = hql.charAt( position++ );
+		if ( isIdentifierStart( character ) ) {
+			while ( position < length && isIdentifierPart( hql.charAt( position ) ) ) {
+				position++;
+			}
+			tokenType = TokenType.IDENTIFIER;
+		}
+		else if ( character == ':' ) {
+			if ( position == length || !isIdentifierStart( hql.charAt( position ) ) ) {
+				tokenType = TokenType.UNKNOWN;
+			}
+			else {
+				while ( position < length && isIdentifierPart( hql.charAt( position ) ) ) {
+					position++;
+				}
+				tokenType = TokenType.PARAMETER;
+				tokenText = hql.substring( start + 1, position );
+				return;
+			}
+		}
+		else if ( character == '.' ) {
+			tokenType = TokenType.DOT;
+		}
+		else if ( character == ',' ) {
+			tokenType = TokenType.COMMA;
+		}
+		else {
+			final char next = position < length ? hql.charAt( position ) : 0;
+			tokenType = TokenType.OPERATOR;
+			switch ( character ) {
+				case '=':
+					operator = ComparisonOperator.EQUAL;
+					break;
+				case '!':
+				case '^':
+					if ( next == '=' ) {
+						operator = ComparisonOperator.NOT_EQUAL;
+						position++;
+					}
+					else {
+						tokenType = TokenType.UNKNOWN;
+					}
+					break;
+				case '<':
+					if ( next == '>' ) {
+						operator = ComparisonOperator.NOT_EQUAL;
+						position++;
+					}
+					else if ( next == '=' ) {
+						operator = ComparisonOperator.LESS_THAN_OR_EQUAL;
+						position++;
+					}
+					else {
+						operator = ComparisonOperator.LESS_THAN;
+					}
+					break;
+				case '>':
+					if ( next == '=' ) {
+						operator = ComparisonOperator.GREATER_THAN_OR_EQUAL;
+						position++;
+					}
+					else {
+						operator = ComparisonOperator.GREATER_THAN;
+					}
+					break;
+				default:
+					tokenType = TokenType.UNKNOWN;
+			}
+		}
+		tokenText = hql.substring( start, position );
+	}
+
+	private static boolean isWhitespace(char character) {
+		// the same as the WS_CHAR fragment of the lexer
+		return character == ' ' || character == '\t' || character == '\f'
+			|| character == '\r' || character == '\n';
+	}
+
+	private static boolean isIdentifierStart(char character) {
+		// deliberately narrower than the LETTER fragment of the lexer
+		return character >= 'a' && character <= 'z'
+			|| character >= 'A' && character <= 'Z'
+			|| character == '_' || character == '$';
+	}
+
+	private static boolean isIdentifierPart(char character) {
+		return isIdentifierStart( character ) || character >= '0' && character <= '9';
+	}
+}
@@ -57,6 +57,14 @@ public StandardHqlTranslator(
 	public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType) {
 		HqlLogging.QUERY_LOGGER.debugf( "HQL : %s", query );
 
+		// simple queries are interpreted directly, without the overhead of the ANTLR parser
+		final SqmStatement<R> simpleStatement =
+				SimpleHqlInterpreter.interpret( query, expectedResultType, sqmCreationOptions, sqmCreationContext );
+		if ( simpleStatement != null ) {
+			SqmTreePrinter.logTree( simpleStatement );
+			return simpleStatement;
+		}
+
 		final HqlParser.StatementContext hqlParseTree = parseHql( query );
 
 		// then we perform semantic analysis and build the semantic representation...
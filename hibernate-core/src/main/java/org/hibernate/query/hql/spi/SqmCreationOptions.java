@@ -44,4 +44,11 @@ default boolean isXmlFunctionsEnabled() {
 	default boolean isPortableIntegerDivisionEnabled() {
 		return false;
 	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SIMPLE_HQL_INTERPRETATION
+	 */
+	default boolean isSimpleHqlInterpretationEnabled() {
+		return false;
+	}
 }
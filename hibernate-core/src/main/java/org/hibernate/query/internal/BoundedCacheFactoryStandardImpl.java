@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.query.spi.BoundedCache;
+import org.hibernate.query.spi.BoundedCacheFactory;
+
+/**
+ * The default {@link BoundedCacheFactory}, which creates instances
+ * of {@link TinyLfuBoundedCache}.
+ */
+public class BoundedCacheFactoryStandardImpl implements BoundedCacheFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final BoundedCacheFactoryStandardImpl INSTANCE = new BoundedCacheFactoryStandardImpl();
+
+	@Override
+	public <K, V> BoundedCache<K, V> createCache(CacheType cacheType, int maximumSize, Runnable evictionListener) {
+		return new TinyLfuBoundedCache<>( maximumSize, evictionListener );
+	}
+}
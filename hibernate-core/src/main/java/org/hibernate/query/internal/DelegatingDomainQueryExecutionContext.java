@@ -4,6 +4,9 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
@@ -40,6 +43,11 @@ public boolean hasCallbackActions() {
 		return delegate.hasCallbackActions();
 	}
 
+	@Override
+	public Consumer<EntityKey> getLoadedEntityKeyConsumer() {
+		return delegate.getLoadedEntityKeyConsumer();
+	}
+
 	@Override
 	public SharedSessionContractImplementor getSession() {
 		return delegate.getSession();
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.spi.CloseableIterator;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * A {@link CloseableIterator} over query results which detaches the entities
+ * contained in a result from the persistence context as soon as the next result
+ * is requested, or the iterator is closed, so that the persistence context does
+ * not grow with the number of results.
+ * <p>
+ * Entities reached from a result via an association are detached along with the
+ * result only if the association {@linkplain jakarta.persistence.CascadeType#DETACH
+ * cascades detach}. Modifications made to a result are not flushed once it was detached.
+ * <p>
+ * Only entities which were loaded by the iterated query are detached. An entity which
+ * was already associated with the persistence context when the query was executed stays
+ * managed, along with any modifications which have not been flushed yet.
+ *
+ * @since 7.0
+ */
+public class DetachingResultsIterator<T> implements CloseableIterator<T> {
+	private final SharedSessionContractImplementor session;
+	// the keys of the entities loaded by the query which were not detached yet
+	private final Set<EntityKey> loadedEntities = new HashSet<>();
+	private final CloseableIterator<T> results;
+
+	private Object previousResult;
+
+	/**
+	 * @param results Executes the query, passing the keys of the entities it loads
+	 *                to the given consumer, and returns its results
+	 */
+	public DetachingResultsIterator(
+			SharedSessionContractImplementor session,
+			Function<Consumer<EntityKey>, ? extends CloseableIterator<T>> results) {
+		this.session = session;
+		this.results = results.apply( loadedEntities::add );
+	}
+
+	@Override
+	public boolean hasNext() {
+		detachPreviousResult();
+		return results.hasNext();
+	}
+
+	@Override
+	public T next() {
+		final T result = results.next();
+		previousResult = result;
+		return result;
+	}
+
+	@Override
+	public void close() {
+		try {
+			if ( session.isOpen() ) {
+				detachPreviousResult();
+			}
+		}
+		finally {
+			results.close();
+		}
+	}
+
+	private void detachPreviousResult() {
+		final Object result = previousResult;
+		if ( result != null ) {
+			previousResult = null;
+			if ( result instanceof Object[] tuple ) {
+				for ( Object element : tuple ) {
+					detach( element );
+				}
+			}
+			else {
+				detach( result );
+			}
+		}
+	}
+
+	private void detach(Object value) {
+		if ( value != null && session.isSessionImplementor() ) {
+			final EntityKey entityKey = entityKey( value );
+			if ( entityKey != null && loadedEntities.remove( entityKey ) ) {
+				session.asSessionImplementor().evict( value );
+			}
+		}
+	}
+
+	private EntityKey entityKey(Object value) {
+		final LazyInitializer lazyInitializer = extractLazyInitializer( value );
+		if ( lazyInitializer != null ) {
+			return session.generateEntityKey(
+					lazyInitializer.getInternalIdentifier(),
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( lazyInitializer.getEntityName() )
+			);
+		}
+		else {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityEntry entry = persistenceContext.getEntry( value );
+			return entry == null ? null : entry.getEntityKey();
+		}
+	}
+}
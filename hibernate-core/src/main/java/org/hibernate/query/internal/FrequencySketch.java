@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.Arrays;
+
+/**
+ * A probabilistic estimate of how often each key was recently used, in the
+ * form of a count-min sketch of 4-bit counters, sixteen per {@code long}.
+ * When the number of recorded uses reaches ten times the maximum size of the
+ * cache, all counters are halved, so that the sketch forgets old history.
+ * <p>
+ * Not thread-safe: instances are guarded by the eviction lock of the
+ * {@link TinyLfuBoundedCache}.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAX_COUNT = 15;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	FrequencySketch(int maximumSize) {
+		final int tableSize = ceilingPowerOfTwo( Math.max( maximumSize, 8 ) );
+		this.table = new long[tableSize];
+		this.tableMask = tableSize - 1;
+		this.sampleSize = (int) Math.min( 10L * Math.max( maximumSize, 1 ), Integer.MAX_VALUE );
+	}
+
+	/**
+	 * The estimated number of uses of the given key, at most {@value #MAX_COUNT}.
+	 */
+	int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		int frequency = MAX_COUNT;
+		for ( int i = 0; i < SEEDS.length; i++ ) {
+			final long h = indexHash( hash, i );
+			final int count = (int) ( ( table[index( h )] >>> shift( h ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record a use of the given key.
+	 */
+	void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		boolean added = false;
+		for ( int i = 0; i < SEEDS.length; i++ ) {
+			final long h = indexHash( hash, i );
+			final int index = index( h );
+			final int shift = shift( h );
+			if ( ( ( table[index] >>> shift ) & 0xfL ) < MAX_COUNT ) {
+				table[index] += 1L << shift;
+				added = true;
+			}
+		}
+		if ( added && ++size >= sampleSize ) {
+			reset();
+		}
+	}
+
+	void clear() {
+		Arrays.fill( table, 0L );
+		size = 0;
+	}
+
+	private void reset() {
+		for ( int i = 0; i < table.length; i++ ) {
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size = size >>> 1;
+	}
+
+	private static long indexHash(int hash, int i) {
+		long h = ( hash + SEEDS[i] ) * SEEDS[i];
+		h += h >>> 32;
+		return h;
+	}
+
+	private int index(long h) {
+		return (int) h & tableMask;
+	}
+
+	private static int shift(long h) {
+		// one of the sixteen 4-bit counters of the word
+		return (int) ( ( h >>> 40 ) & 0xfL ) << 2;
+	}
+
+	private static int spread(int hash) {
+		hash = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+		hash = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+		return ( hash >>> 16 ) ^ hash;
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		return value >= 1 << 30 ? 1 << 30 : Integer.highestOneBit( value - 1 ) << 1;
+	}
+}
@@ -6,6 +6,12 @@
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import jakarta.persistence.PersistenceException;
@@ -279,7 +285,12 @@ public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetam
 
 	@Override
 	public void validateNamedQueries(QueryEngine queryEngine) {
-		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine );
+		validateNamedQueries( queryEngine, 1 );
+	}
+
+	@Override
+	public void validateNamedQueries(QueryEngine queryEngine, int parallelism) {
+		final Map<String, HibernateException> errors = checkNamedQueries( queryEngine, parallelism );
 		if ( !errors.isEmpty() ) {
 			int i = 0;
 			final StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
@@ -298,31 +309,24 @@ public void validateNamedQueries(QueryEngine queryEngine) {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
+		return checkNamedQueries( queryEngine, 1 );
+	}
 
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+	@Override
+	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, int parallelism) {
+		Map<String,HibernateException> errors = new HashMap<>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
-			final String registrationName = hqlMemento.getRegistrationName();
-			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						queryEngine.getHqlTranslator()
-				);
-			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
-			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
-			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		if ( parallelism > 1 && sqmMementoMap.size() > 1 ) {
+			checkNamedHqlQueriesInParallel( queryEngine, Math.min( parallelism, sqmMementoMap.size() ), errors );
+		}
+		else {
+			for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
+				final HibernateException error = checkNamedHqlQuery( hqlMemento, queryEngine );
+				if ( error != null ) {
+					errors.put( hqlMemento.getRegistrationName(), error );
+				}
 			}
 		}
 
@@ -364,6 +368,91 @@ public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine
 		return errors;
 	}
 
+	/**
+	 * Parse the named HQL queries using a pool of the given number of threads.
+	 * The {@link QueryInterpretationCache} and the {@link org.hibernate.query.hql.HqlTranslator}
+	 * are used concurrently by sessions anyway, and so are safe to use here.
+	 */
+	private void checkNamedHqlQueriesInParallel(
+			QueryEngine queryEngine,
+			int parallelism,
+			Map<String, HibernateException> errors) {
+		final ExecutorService executor = Executors.newFixedThreadPool( parallelism, new CheckingThreadFactory() );
+		try {
+			final Map<String, Future<HibernateException>> results = new HashMap<>();
+			for ( NamedSqmQueryMemento<?> hqlMemento : sqmMementoMap.values() ) {
+				results.put(
+						hqlMemento.getRegistrationName(),
+						executor.submit( () -> checkNamedHqlQuery( hqlMemento, queryEngine ) )
+				);
+			}
+			for ( Map.Entry<String, Future<HibernateException>> entry : results.entrySet() ) {
+				final HibernateException error = entry.getValue().get();
+				if ( error != null ) {
+					errors.put( entry.getKey(), error );
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while checking named HQL queries", e );
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( cause instanceof Error error ) {
+				throw error;
+			}
+			else {
+				throw new HibernateException( "Unable to check named HQL queries", cause );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Parse the named HQL query, adding its interpretation to the {@link QueryInterpretationCache}.
+	 *
+	 * @return the error, or {@code null} if the query is valid
+	 */
+	private static HibernateException checkNamedHqlQuery(NamedSqmQueryMemento<?> hqlMemento, QueryEngine queryEngine) {
+		final String queryString = hqlMemento.getHqlString();
+		try {
+			log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					null,
+					queryEngine.getHqlTranslator()
+			);
+			return null;
+		}
+		catch ( QueryException e ) {
+			return e;
+		}
+		catch ( PathElementException | TerminalPathException e ) {
+			return new UnknownPathException( e.getMessage(), queryString, e );
+		}
+		catch ( EntityTypeException e ) {
+			return new UnknownEntityException( e.getMessage(), e.getReference(), e );
+		}
+	}
+
+	private static class CheckingThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Named Query Checking Thread " + count.incrementAndGet() );
+			return thread;
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
@@ -7,6 +7,7 @@
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
@@ -21,6 +22,7 @@
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.spi.BoundedCacheFactory;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.query.spi.QueryInterpretationCache;
@@ -64,6 +66,7 @@ public class QueryEngineImpl implements QueryEngine {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
 	private final Dialect dialect;
+	private final int namedQueryCheckingParallelism;
 
 	public QueryEngineImpl(
 			MetadataImplementor metadata,
@@ -79,6 +82,8 @@ public QueryEngineImpl(
 		this.sqmTranslatorFactory = resolveSqmTranslatorFactory( options, dialect );
 		this.namedObjectRepository = metadata.buildNamedQueryRepository();
 		this.interpretationCache = buildInterpretationCache( serviceRegistry, properties );
+		this.namedQueryCheckingParallelism =
+				ConfigurationHelper.getInt( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, properties, 1 );
 		this.nativeQueryInterpreter = serviceRegistry.getService( NativeQueryInterpreter.class );
 		this.classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 		// here we have something nasty: we need to pass a reference to the current object to
@@ -185,8 +190,31 @@ private static QueryInterpretationCache buildInterpretationCache(
 			final int size = explicitMaxPlanSize != null
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
-
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			final int hqlSize = ConfigurationHelper.getInt(
+					AvailableSettings.QUERY_PLAN_CACHE_HQL_MAX_SIZE,
+					properties,
+					size
+			);
+			final int nativeParameterSize = ConfigurationHelper.getInt(
+					AvailableSettings.QUERY_PLAN_CACHE_NATIVE_PARAMETER_MAX_SIZE,
+					properties,
+					size
+			);
+			final BoundedCacheFactory cacheFactory =
+					serviceRegistry.requireService( StrategySelector.class )
+							.resolveDefaultableStrategy(
+									BoundedCacheFactory.class,
+									properties.get( AvailableSettings.QUERY_PLAN_CACHE_FACTORY ),
+									BoundedCacheFactoryStandardImpl.INSTANCE
+							);
+
+			return new QueryInterpretationCacheStandardImpl(
+					size,
+					hqlSize,
+					nativeParameterSize,
+					cacheFactory,
+					serviceRegistry
+			);
 		}
 		else {
 			// disabled
@@ -196,7 +224,7 @@ private static QueryInterpretationCache buildInterpretationCache(
 
 	@Override
 	public void validateNamedQueries() {
-		namedObjectRepository.validateNamedQueries( this );
+		namedObjectRepository.validateNamedQueries( this, namedQueryCheckingParallelism );
 	}
 
 	@Override
@@ -8,9 +8,10 @@
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.BoundedCache;
+import org.hibernate.query.spi.BoundedCacheFactory;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
@@ -37,20 +38,62 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedCache<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final BoundedCache<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this(
+				maxQueryPlanCount,
+				maxQueryPlanCount,
+				maxQueryPlanCount,
+				BoundedCacheFactoryStandardImpl.INSTANCE,
+				serviceRegistry
+		);
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			int maxHqlInterpretationCount,
+			int maxNativeQueryParameterCount,
+			BoundedCacheFactory cacheFactory,
+			ServiceRegistry serviceRegistry) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = cacheFactory.createCache(
+				BoundedCacheFactory.CacheType.QUERY_PLAN,
+				maxQueryPlanCount,
+				() -> {
+					final StatisticsImplementor statistics = getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.queryPlanCacheEviction();
+					}
+				}
+		);
+		this.hqlInterpretationCache = cacheFactory.createCache(
+				BoundedCacheFactory.CacheType.HQL_INTERPRETATION,
+				maxHqlInterpretationCount,
+				() -> {
+					final StatisticsImplementor statistics = getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.hqlInterpretationCacheEviction();
+					}
+				}
+		);
+		this.nativeQueryParamCache = cacheFactory.createCache(
+				BoundedCacheFactory.CacheType.NATIVE_QUERY_PARAMETERS,
+				maxNativeQueryParameterCount,
+				() -> {
+					final StatisticsImplementor statistics = getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.nativeQueryParameterCacheEviction();
+					}
+				}
+		);
 		this.serviceRegistry = serviceRegistry;
 	}
 
@@ -99,12 +142,24 @@ public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
-		return null;
+		final NonSelectQueryPlan cached = (NonSelectQueryPlan) queryPlanCache.get( key );
+		if ( cached != null ) {
+			final StatisticsImplementor statistics = getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+		}
+		return cached;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		queryPlanCache.put( key.prepareForStore(), plan );
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+		}
 	}
 
 	@Override
@@ -123,6 +178,7 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 		if ( existing != null ) {
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
+				statistics.hqlInterpretationCacheHit();
 			}
 			return (HqlInterpretation<R>) existing;
 		}
@@ -131,11 +187,15 @@ else if ( expectedResultType != null ) {
 			if ( existingQueryOnly != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
+					statistics.hqlInterpretationCacheHit();
 				}
 				return (HqlInterpretation<R>) existingQueryOnly;
 			}
 		}
 
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.hqlInterpretationCacheMiss();
+		}
 		final HqlInterpretation<R> hqlInterpretation =
 				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
@@ -177,11 +237,23 @@ public ParameterInterpretation resolveNativeQueryParameters(
 			String queryString,
 			Function<String, ParameterInterpretation> creator) {
 		log.tracef( "QueryPlan#resolveNativeQueryParameters(%s)", queryString );
+		final StatisticsImplementor statistics = getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final ParameterInterpretation existing = nativeQueryParamCache.get( queryString );
+		if ( existing != null ) {
+			if ( stats ) {
+				statistics.nativeQueryParameterCacheHit();
+			}
+			return existing;
+		}
 		return nativeQueryParamCache.computeIfAbsent(
 				queryString,
 				s -> {
 					final ParameterInterpretation interpretation = creator.apply( queryString );
 					log.debugf( "Creating and caching NativeQuery ParameterInterpretation - %s", interpretation );
+					if ( stats ) {
+						statistics.nativeQueryParameterCacheMiss();
+					}
 					return interpretation;
 				}
 		);
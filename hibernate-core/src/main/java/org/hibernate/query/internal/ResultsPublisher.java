@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import org.hibernate.query.spi.CloseableIterator;
+
+/**
+ * A {@link Flow.Publisher} of query results, which only reads results from
+ * JDBC when the subscriber signals demand for them.
+ * <p>
+ * Since a session must not be used by several threads concurrently, results
+ * are read and emitted synchronously, by the thread which calls
+ * {@link Flow.Subscription#request(long)}. The query is executed when
+ * demand is first signalled, and the underlying results are closed
+ * as soon as they are exhausted, the subscription is cancelled,
+ * or an error occurs.
+ * <p>
+ * A publisher of query results supports a single subscriber.
+ *
+ * @since 7.0
+ */
+public class ResultsPublisher<T> implements Flow.Publisher<T> {
+	private final Supplier<CloseableIterator<T>> resultsSupplier;
+	private boolean subscribed;
+
+	public ResultsPublisher(Supplier<CloseableIterator<T>> resultsSupplier) {
+		this.resultsSupplier = resultsSupplier;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		if ( subscriber == null ) {
+			throw new NullPointerException( "Subscriber must not be null" );
+		}
+		final ResultsSubscription subscription = new ResultsSubscription( subscriber );
+		if ( subscribed ) {
+			subscriber.onSubscribe( subscription );
+			subscription.fail( new IllegalStateException( "Query results may only be subscribed to once" ) );
+		}
+		else {
+			subscribed = true;
+			subscriber.onSubscribe( subscription );
+		}
+	}
+
+	private class ResultsSubscription implements Flow.Subscription {
+		private final Flow.Subscriber<? super T> subscriber;
+
+		private CloseableIterator<T> results;
+		private long demand;
+		private boolean emitting;
+		private boolean done;
+
+		private ResultsSubscription(Flow.Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( done ) {
+				return;
+			}
+			if ( n <= 0 ) {
+				fail( new IllegalArgumentException( "Requested demand must be positive: " + n ) );
+				return;
+			}
+			demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+			// the subscriber may request more from within onNext()
+			if ( !emitting ) {
+				emitting = true;
+				try {
+					emit();
+				}
+				finally {
+					emitting = false;
+				}
+			}
+		}
+
+		private void emit() {
+			try {
+				if ( results == null ) {
+					results = resultsSupplier.get();
+				}
+				while ( demand > 0 && !done ) {
+					if ( results.hasNext() ) {
+						demand--;
+						subscriber.onNext( results.next() );
+					}
+					else {
+						done = true;
+						results.close();
+						subscriber.onComplete();
+					}
+				}
+			}
+			catch (RuntimeException e) {
+				fail( e );
+			}
+		}
+
+		@Override
+		public void cancel() {
+			if ( !done ) {
+				done = true;
+				close();
+			}
+		}
+
+		private void fail(Throwable failure) {
+			if ( !done ) {
+				done = true;
+				try {
+					close();
+				}
+				finally {
+					subscriber.onError( failure );
+				}
+			}
+		}
+
+		private void close() {
+			if ( results != null ) {
+				results.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,351 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.hibernate.query.spi.BoundedCache;
+
+/**
+ * A {@link BoundedCache} with a W-TinyLFU eviction policy.
+ * <p>
+ * New entries are admitted to a small LRU "window". An entry leaving the
+ * window competes with the least recently used entry of the "probation"
+ * segment of the main cache, and the entry which was used less often
+ * according to a {@link FrequencySketch} is evicted. Entries which are
+ * used while in probation are promoted to the "protected" segment.
+ * <p>
+ * Reads never block: the entries are held in a {@link ConcurrentHashMap},
+ * and a read is recorded in a lossy ring buffer which is drained by the
+ * thread holding the eviction lock. Writes acquire the eviction lock to
+ * maintain the segments.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public final class TinyLfuBoundedCache<K, V> implements BoundedCache<K, V> {
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int DRAIN_MASK = 31;
+
+	private static final byte RETIRED = 0;
+	private static final byte WINDOW = 1;
+	private static final byte PROBATION = 2;
+	private static final byte PROTECTED = 3;
+
+	private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+	private final Runnable evictionListener;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	// guarded by evictionLock
+	private final FrequencySketch sketch;
+	private final Deque<K, V> window = new Deque<>();
+	private final Deque<K, V> probation = new Deque<>();
+	private final Deque<K, V> protectedSegment = new Deque<>();
+
+	public TinyLfuBoundedCache(int maximumSize, Runnable evictionListener) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		this.maximumSize = maximumSize;
+		this.maximumWindowSize = Math.max( 1, maximumSize / 100 );
+		this.maximumProtectedSize = (int) ( ( maximumSize - maximumWindowSize ) * 0.8 );
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+	}
+
+	@Override
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> previous = data.put( key, node );
+		afterWrite( node, previous );
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<K, V> existing = data.get( key );
+		if ( existing != null ) {
+			afterRead( existing );
+			return existing.value;
+		}
+		final Object[] created = new Object[1];
+		final Node<K, V> node = data.computeIfAbsent( key, k -> {
+			final V value = mappingFunction.apply( k );
+			if ( value == null ) {
+				return null;
+			}
+			final Node<K, V> newNode = new Node<>( k, value );
+			created[0] = newNode;
+			return newNode;
+		} );
+		if ( node == null ) {
+			return null;
+		}
+		if ( node == created[0] ) {
+			afterWrite( node, null );
+		}
+		else {
+			afterRead( node );
+		}
+		return node.value;
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			data.clear();
+			for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+				readBuffer.lazySet( i, null );
+			}
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			sketch.clear();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final int index = ThreadLocalRandom.current().nextInt() & READ_BUFFER_MASK;
+		readBuffer.lazySet( index, node );
+		if ( ( index & DRAIN_MASK ) == 0 && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node, Node<K, V> previous) {
+		evictionLock.lock();
+		try {
+			drainReadBuffer();
+			if ( previous != null ) {
+				retire( previous );
+			}
+			sketch.increment( node.key );
+			// the node might have been replaced, or the cache cleared, concurrently
+			if ( node.segment == WINDOW && data.get( node.key ) == node ) {
+				window.addLast( node );
+				evict();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void drainReadBuffer() {
+		for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+			final Node<K, V> node = readBuffer.get( i );
+			if ( node != null ) {
+				readBuffer.lazySet( i, null );
+				onAccess( node );
+			}
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		sketch.increment( node.key );
+		if ( !node.isLinked() ) {
+			return;
+		}
+		switch ( node.segment ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				node.segment = PROTECTED;
+				protectedSegment.addLast( node );
+				while ( protectedSegment.size > maximumProtectedSize ) {
+					final Node<K, V> demoted = protectedSegment.removeFirst();
+					demoted.segment = PROBATION;
+					probation.addLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				protectedSegment.moveToBack( node );
+				break;
+		}
+	}
+
+	private void evict() {
+		while ( window.size > maximumWindowSize ) {
+			final Node<K, V> candidate = window.removeFirst();
+			candidate.segment = PROBATION;
+			probation.addLast( candidate );
+		}
+		while ( window.size + probation.size + protectedSegment.size > maximumSize ) {
+			final Node<K, V> victim = probation.first();
+			if ( victim == null ) {
+				evict( protectedSegment.size > 0 ? protectedSegment.first() : window.first() );
+			}
+			else {
+				// the candidate is the entry which most recently left the window
+				final Node<K, V> candidate = probation.last();
+				if ( candidate == victim || sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+					evict( victim );
+				}
+				else {
+					evict( candidate );
+				}
+			}
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		retire( node );
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.run();
+		}
+	}
+
+	private void retire(Node<K, V> node) {
+		if ( node.isLinked() ) {
+			switch ( node.segment ) {
+				case WINDOW:
+					window.remove( node );
+					break;
+				case PROBATION:
+					probation.remove( node );
+					break;
+				case PROTECTED:
+					protectedSegment.remove( node );
+					break;
+			}
+		}
+		node.segment = RETIRED;
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+
+		// guarded by evictionLock
+		private byte segment = WINDOW;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+		private boolean linked;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		private boolean isLinked() {
+			return linked;
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes in access order,
+	 * with the least recently used node first.
+	 */
+	private static final class Deque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+		private int size;
+
+		private Node<K, V> first() {
+			return first;
+		}
+
+		private Node<K, V> last() {
+			return last;
+		}
+
+		private void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			node.linked = true;
+			size++;
+		}
+
+		private Node<K, V> removeFirst() {
+			final Node<K, V> node = first;
+			remove( node );
+			return node;
+		}
+
+		private void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			node.linked = false;
+			size--;
+		}
+
+		private void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		private void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.previous = null;
+				node.next = null;
+				node.linked = false;
+				node.segment = RETIRED;
+				node = next;
+			}
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+}
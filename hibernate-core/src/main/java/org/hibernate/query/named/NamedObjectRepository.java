@@ -76,11 +76,31 @@ public interface NamedObjectRepository {
 	 */
 	Map<String, HibernateException> checkNamedQueries(QueryEngine queryPlanCache);
 
+	/**
+	 * Perform a validity check on all named queries, using the given number
+	 * of threads to parse the named HQL queries
+	 *
+	 * @since 7.0
+	 */
+	default Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, int parallelism) {
+		return checkNamedQueries( queryEngine );
+	}
+
 	/**
 	 * Validate the named queries and throw an exception if any are broken
 	 */
 	void validateNamedQueries(QueryEngine queryEngine);
 
+	/**
+	 * Validate the named queries, using the given number of threads to parse
+	 * the named HQL queries, and throw an exception if any are broken
+	 *
+	 * @since 7.0
+	 */
+	default void validateNamedQueries(QueryEngine queryEngine, int parallelism) {
+		validateNamedQueries( queryEngine );
+	}
+
 	/**
 	 * Resolve the named query with the given name.
 	 */
@@ -13,6 +13,9 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -26,6 +29,7 @@
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.UnknownProfileException;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
@@ -36,7 +40,11 @@
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.RowView;
 import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.internal.DetachingResultsIterator;
+import org.hibernate.query.internal.QueryOptionsImpl;
+import org.hibernate.query.internal.ResultsPublisher;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
@@ -75,7 +83,14 @@
 	 */
 	public static final String CRITERIA_HQL_STRING = "<criteria>";
 
+	/**
+	 * The fetch size used for {@linkplain #getDetachedResultStream() streaming}
+	 * if neither the query nor the configuration specify a fetch size.
+	 */
+	private static final int STREAMING_FETCH_SIZE = 256;
+
 	private Callback callback;
+	private Consumer<EntityKey> loadedEntityKeyConsumer;
 
 	public AbstractSelectionQuery(SharedSessionContractImplementor session) {
 		super( session );
@@ -260,6 +275,73 @@ public Stream<R> stream() {
 		return StreamSupport.stream( spliterator, false ).onClose( results::close );
 	}
 
+	@Override
+	public Stream<R> getDetachedResultStream() {
+		final DetachingResultsIterator<R> results = detachingResults();
+		final Spliterator<R> spliterator = spliteratorUnknownSize( results, Spliterator.NONNULL );
+		return StreamSupport.stream( spliterator, false ).onClose( results::close );
+	}
+
+	@Override
+	public Flow.Publisher<R> getResultPublisher() {
+		return new ResultsPublisher<>( this::detachingResults );
+	}
+
+	private DetachingResultsIterator<R> detachingResults() {
+		final MutableQueryOptions queryOptions = getQueryOptions();
+		final Integer fetchSize = queryOptions.getFetchSize();
+		if ( fetchSize == null ) {
+			// make sure the driver does not read all results at once
+			final Integer defaultFetchSize = getSessionFactory().getSessionFactoryOptions().getJdbcFetchSize();
+			queryOptions.setFetchSize( defaultFetchSize == null || defaultFetchSize <= 0
+					? STREAMING_FETCH_SIZE
+					: defaultFetchSize );
+		}
+		try {
+			return new DetachingResultsIterator<>(
+					getSession(),
+					loadedEntities -> trackingLoadedEntities(
+							loadedEntities,
+							() -> new ScrollableResultsIterator<>( scroll( ScrollMode.FORWARD_ONLY ) )
+					)
+			);
+		}
+		finally {
+			if ( fetchSize == null && queryOptions instanceof QueryOptionsImpl queryOptionsImpl ) {
+				queryOptionsImpl.setFetchSize( (Integer) null );
+			}
+		}
+	}
+
+	@Override
+	public void forEachRow(Consumer<? super RowView> action) {
+		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
+		boolean success = false;
+		try {
+			doForEachRow( action );
+			success = true;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getQueryOptions().getLockOptions() );
+		}
+		finally {
+			afterQueryHandlingFetchProfiles( success, fetchProfiles );
+		}
+	}
+
+	/**
+	 * Pass a view of each result row to the given action.  Subclasses which
+	 * can execute a {@link org.hibernate.query.spi.SelectQueryPlan} visit the
+	 * rows using a {@link org.hibernate.sql.results.spi.RowViewResultsConsumer},
+	 * which exposes the select items of each row.
+	 */
+	protected void doForEachRow(Consumer<? super RowView> action) {
+		throw new UnsupportedOperationException( "forEachRow() is not supported by this query" );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
@@ -333,6 +415,26 @@ protected void resetCallback() {
 		callback = null;
 	}
 
+	@Override
+	public Consumer<EntityKey> getLoadedEntityKeyConsumer() {
+		return loadedEntityKeyConsumer;
+	}
+
+	/**
+	 * Executes this query, passing the keys of the entities it loads to the given
+	 * consumer. For scrolled results, this includes the entities loaded later, when
+	 * the results are read.
+	 */
+	protected <T> T trackingLoadedEntities(Consumer<EntityKey> loadedEntities, Supplier<T> execution) {
+		loadedEntityKeyConsumer = loadedEntities;
+		try {
+			return execution.get();
+		}
+		finally {
+			loadedEntityKeyConsumer = null;
+		}
+	}
+
 
 	@Override
 	public FlushModeType getFlushMode() {
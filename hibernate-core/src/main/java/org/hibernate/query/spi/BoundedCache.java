@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+
+/**
+ * A concurrent cache holding a bounded number of entries, used by the
+ * {@link QueryInterpretationCache} to hold query plans, HQL interpretations,
+ * and the parameter interpretations of native queries.
+ * <p>
+ * Implementations must be safe for concurrent use, and are expected to
+ * serve reads without blocking.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ *
+ * @see BoundedCacheFactory
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface BoundedCache<K, V> {
+	/**
+	 * The value associated with the given key, or {@code null}
+	 * if there is no such value.
+	 */
+	V get(K key);
+
+	/**
+	 * Associate the given value with the given key, possibly
+	 * evicting some other entry from the cache.
+	 */
+	void put(K key, V value);
+
+	/**
+	 * The value associated with the given key, or, if there is
+	 * no such value, the value produced by the given function,
+	 * which is then added to the cache.
+	 */
+	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	/**
+	 * The current number of entries.
+	 */
+	int size();
+
+	/**
+	 * Remove all entries from the cache.
+	 */
+	void clear();
+}
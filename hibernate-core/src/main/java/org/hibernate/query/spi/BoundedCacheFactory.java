@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Creates the {@linkplain BoundedCache caches} used by the standard
+ * {@link QueryInterpretationCache}.
+ * <p>
+ * A custom implementation may be specified using the configuration
+ * property {@value org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_FACTORY}.
+ * By default, a cache with a frequency-based admission policy,
+ * {@link org.hibernate.query.internal.TinyLfuBoundedCache}, is used.
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface BoundedCacheFactory {
+	/**
+	 * The kinds of caches maintained by the {@link QueryInterpretationCache}.
+	 */
+	enum CacheType {
+		/**
+		 * The cache of {@linkplain QueryPlan query plans}.
+		 */
+		QUERY_PLAN,
+		/**
+		 * The cache of {@linkplain HqlInterpretation HQL interpretations}.
+		 */
+		HQL_INTERPRETATION,
+		/**
+		 * The cache of parameter interpretations of native queries.
+		 */
+		NATIVE_QUERY_PARAMETERS
+	}
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param cacheType The kind of cache
+	 * @param maximumSize The maximum number of entries of the cache
+	 * @param evictionListener Called whenever an entry is evicted from the cache
+	 * because the cache was full, but not when the cache is cleared
+	 */
+	<K, V> BoundedCache<K, V> createCache(CacheType cacheType, int maximumSize, Runnable evictionListener);
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Query;
 import org.hibernate.sql.exec.spi.Callback;
@@ -40,4 +43,13 @@ default boolean hasCallbackActions() {
 	default Class<?> getResultType() {
 		return null;
 	}
+
+	/**
+	 * Receives the keys of the entities loaded by the execution of the query.
+	 *
+	 * @see org.hibernate.sql.exec.spi.ExecutionContext#getLoadedEntityKeyConsumer()
+	 */
+	default Consumer<EntityKey> getLoadedEntityKeyConsumer() {
+		return null;
+	}
 }
@@ -108,6 +108,13 @@ default ImmutableEntityUpdateQueryHandlingMode getImmutableEntityUpdateQueryHand
 	 */
 	boolean isPortableIntegerDivisionEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SIMPLE_HQL_INTERPRETATION
+	 */
+	default boolean isSimpleHqlInterpretationEnabled() {
+		return false;
+	}
+
 	String getSessionFactoryName();
 
 	String getUuid();
@@ -16,6 +16,7 @@
  *
  * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_ENABLED
  * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_FACTORY
  *
  * @author Steve Ebersole
  */
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sql.internal;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.results.ResultBuilder;
+import org.hibernate.query.results.ResultBuilderEntityValued;
+import org.hibernate.query.results.ResultSetMapping;
+import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * Remembers the {@link JdbcValuesMapping} resolved from the {@link java.sql.ResultSetMetaData}
+ * of a native query, so that subsequent executions of the same
+ * {@linkplain NativeSelectQueryPlanImpl query plan} do not need to resolve it again.
+ * Since the plan is cached in the {@link org.hibernate.query.spi.QueryInterpretationCache}
+ * keyed by the SQL and the result set mapping, the resolved mappings are shared by all
+ * executions of the query.
+ * <p>
+ * When the result set mapping only has entity results, the types of the columns come
+ * from the domain model, and the labels from the SQL, so a resolved mapping is reused
+ * for every result set with the same number of columns, and the metadata is not read.
+ * Otherwise, the mapping may depend on the types reported by the JDBC driver, and a
+ * resolved mapping is only reused when the labels and types of the columns match
+ * those it was resolved from. The metadata of every column is then read on each
+ * execution, but the result set mapping is not resolved again.
+ * <p>
+ * Resolved mappings are only reused when they are resolved directly against a
+ * {@link ResultSetAccess}, and when the {@link LoadQueryInfluencers} cannot affect
+ * the domain results. Resolution against the metadata captured for, or read from,
+ * the query result cache always delegates.
+ */
+public class CachingJdbcValuesMappingProducer implements JdbcValuesMappingProducer {
+	// the number of different result sets for which a mapping is remembered
+	private static final int MAX_RESOLVED_MAPPINGS = 16;
+
+	private final JdbcValuesMappingProducer delegate;
+	private final boolean keyedByColumnCount;
+	// keyed by the column count, or by the ColumnSignature
+	private final Map<Object, JdbcValuesMapping> resolvedMappings = new ConcurrentHashMap<>();
+
+	public CachingJdbcValuesMappingProducer(JdbcValuesMappingProducer delegate) {
+		this.delegate = delegate;
+		this.keyedByColumnCount = hasOnlyEntityResults( delegate );
+	}
+
+	private static boolean hasOnlyEntityResults(JdbcValuesMappingProducer producer) {
+		if ( producer instanceof ResultSetMapping resultSetMapping
+				&& resultSetMapping.getNumberOfResultBuilders() > 0 ) {
+			for ( ResultBuilder resultBuilder : resultSetMapping.getResultBuilders() ) {
+				if ( !( resultBuilder instanceof ResultBuilderEntityValued ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public JdbcValuesMapping resolve(
+			JdbcValuesMetadata jdbcResultsMetadata,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SessionFactoryImplementor sessionFactory) {
+		if ( jdbcResultsMetadata instanceof ResultSetAccess resultSetAccess && isCacheable( loadQueryInfluencers ) ) {
+			final Object key = keyedByColumnCount
+					? resultSetAccess.getColumnCount()
+					: ColumnSignature.of( resultSetAccess );
+			final JdbcValuesMapping mapping = resolvedMappings.get( key );
+			if ( mapping != null ) {
+				return mapping;
+			}
+			final JdbcValuesMapping resolved = delegate.resolve( jdbcResultsMetadata, loadQueryInfluencers, sessionFactory );
+			if ( resolvedMappings.size() < MAX_RESOLVED_MAPPINGS ) {
+				resolvedMappings.putIfAbsent( key, resolved );
+			}
+			return resolved;
+		}
+		else {
+			return delegate.resolve( jdbcResultsMetadata, loadQueryInfluencers, sessionFactory );
+		}
+	}
+
+	private static boolean isCacheable(LoadQueryInfluencers loadQueryInfluencers) {
+		return !loadQueryInfluencers.hasEnabledFetchProfiles()
+			&& !loadQueryInfluencers.hasEnabledFilters()
+			&& loadQueryInfluencers.getEffectiveEntityGraph().getGraph() == null;
+	}
+
+	@Override
+	public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
+		delegate.addAffectedTableNames( affectedTableNames, sessionFactory );
+	}
+
+	@Override
+	public JdbcValuesMappingProducer cacheKeyInstance() {
+		return delegate.cacheKeyInstance();
+	}
+
+	/**
+	 * The number of mappings resolved by previous executions.
+	 */
+	public int getResolvedMappingCount() {
+		return resolvedMappings.size();
+	}
+
+	/**
+	 * The labels and types of the columns of a result set, which determine
+	 * the resolved mapping.
+	 */
+	private record ColumnSignature(String[] labels, String[] typeNames, int[] types) {
+		static ColumnSignature of(ResultSetAccess resultSetAccess) {
+			try {
+				final ResultSetMetaData metaData = resultSetAccess.getResultSet().getMetaData();
+				final int columnCount = metaData.getColumnCount();
+				final String[] labels = new String[columnCount];
+				final String[] typeNames = new String[columnCount];
+				// the type code, precision and scale of each column
+				final int[] types = new int[columnCount * 3];
+				for ( int i = 0; i < columnCount; i++ ) {
+					final int position = i + 1;
+					labels[i] = metaData.getColumnLabel( position );
+					typeNames[i] = metaData.getColumnTypeName( position );
+					types[i * 3] = metaData.getColumnType( position );
+					types[i * 3 + 1] = metaData.getPrecision( position );
+					types[i * 3 + 2] = metaData.getScale( position );
+				}
+				return new ColumnSignature( labels, typeNames, types );
+			}
+			catch (SQLException e) {
+				throw resultSetAccess.getFactory().getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"Unable to access ResultSet metadata"
+				);
+			}
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof ColumnSignature that
+				&& Arrays.equals( types, that.types )
+				&& Arrays.equals( labels, that.labels )
+				&& Arrays.equals( typeNames, that.typeNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode( types );
+		}
+	}
+}
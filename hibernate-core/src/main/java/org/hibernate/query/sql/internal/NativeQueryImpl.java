@@ -57,6 +57,7 @@
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.restriction.Restriction;
 import org.hibernate.query.ResultListTransformer;
+import org.hibernate.query.RowView;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
 import org.hibernate.query.internal.ParameterMetadataImpl;
@@ -98,6 +99,7 @@
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.results.graph.Fetchable;
+import org.hibernate.sql.results.spi.RowViewResultsConsumer;
 import org.hibernate.sql.results.spi.SingleResultConsumer;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.BasicType;
@@ -674,6 +676,13 @@ protected List<R> doList() {
 		return resolveSelectQueryPlan().performList( this );
 	}
 
+	@Override
+	protected void doForEachRow(Consumer<? super RowView> action) {
+		if ( getQueryOptions().getEffectiveLimit().getMaxRowsJpa() != 0 ) {
+			resolveSelectQueryPlan().executeQuery( this, new RowViewResultsConsumer<>( action ) );
+		}
+	}
+
 	@Override
 	public long getResultCount() {
 		final DelegatingDomainQueryExecutionContext context = new DelegatingDomainQueryExecutionContext(this) {
@@ -51,7 +51,9 @@ public NativeSelectQueryPlanImpl(
 		final SQLQueryParser parser = new SQLQueryParser( sql, processor.process(), sessionFactory );
 		this.sql = parser.process();
 		this.parameterList = parameterList;
-		this.resultSetMapping = processor.generateResultMapping( parser.queryHasAliases() );
+		this.resultSetMapping = new CachingJdbcValuesMappingProducer(
+				processor.generateResultMapping( parser.queryHasAliases() )
+		);
 		if ( affectedTableNames == null ) {
 			affectedTableNames = new HashSet<>();
 		}
@@ -5,6 +5,7 @@
 package org.hibernate.query.sqm.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.query.IllegalSelectQueryException;
@@ -23,9 +24,11 @@
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.hibernate.query.sqm.tree.SqmFingerprint;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
@@ -40,10 +43,15 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.criteria.CompoundSelection;
 
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.Collectors.toList;
 import static org.hibernate.cfg.QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
@@ -166,12 +174,20 @@ public SelectionQuery<R> setPage(Page page) {
 
 	@Override
 	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> keyedPage) {
+		return getKeyedResultList( keyedPage, null );
+	}
+
+	/**
+	 * Like {@link #getKeyedResultList(KeyedPage)}, but passes the keys of
+	 * the entities loaded by the page to the given consumer.
+	 */
+	KeyedResultList<R> getKeyedResultList(KeyedPage<R> keyedPage, Consumer<EntityKey> loadedEntities) {
 		if ( keyedPage == null ) {
 			throw new IllegalArgumentException( "KeyedPage was null" );
 		}
 		final List<KeyedResult<R>> results =
 				new SqmSelectionQueryImpl<KeyedResult<R>>( this, keyedPage )
-						.getResultList();
+						.getResultList( loadedEntities );
 		final Page page = keyedPage.getPage();
 		return new KeyedResultList<>(
 				collectResults( results, page.getSize(), keyedPage.getKeyInterpretation() ),
@@ -182,6 +198,26 @@ public KeyedResultList<R> getKeyedResultList(KeyedPage<R> keyedPage) {
 		);
 	}
 
+	@Override
+	public Stream<R> getKeyedResultStream(KeyedPage<R> keyedPage) {
+		if ( keyedPage == null ) {
+			throw new IllegalArgumentException( "KeyedPage was null" );
+		}
+		final Spliterator<R> spliterator = spliteratorUnknownSize(
+				new KeyedResultsIterator<>( this, keyedPage ),
+				Spliterator.ORDERED | Spliterator.NONNULL
+		);
+		return StreamSupport.stream( spliterator, false );
+	}
+
+	/**
+	 * Like {@link #getResultList()}, but passes the keys of the entities
+	 * loaded by the query to the given consumer.
+	 */
+	List<R> getResultList(Consumer<EntityKey> loadedEntities) {
+		return trackingLoadedEntities( loadedEntities, () -> getResultList() );
+	}
+
 	private static <R> KeyedPage<R> nextPage(KeyedPage<R> keyedPage, List<KeyedResult<R>> results) {
 		if ( keyedPage.getKeyInterpretation() == KEY_OF_FIRST_ON_NEXT_PAGE ) {
 			// the results come in reverse order
@@ -214,6 +250,37 @@ private static <R> KeyedPage<R> previousPage(KeyedPage<R> keyedPage, List<KeyedR
 
 	public abstract Class<R> getExpectedResultType();
 
+	/**
+	 * @see SqmInterpretationsKey.InterpretationsKeySource#isFingerprintCacheable()
+	 */
+	public boolean isFingerprintCacheable() {
+		return getSessionFactory().getSessionFactoryOptions().isCriteriaPlanCacheEnabled()
+			&& getSqmStatement() instanceof SqmSelectStatement
+			// the tuple metadata refers to the selections of this very query
+			&& getTupleMetadata() == null;
+	}
+
+	/**
+	 * Resolve the plan from the interpretation cache. If the key is the structural
+	 * fingerprint of a criteria query, the cached plan might have been built for
+	 * another criteria query, and so it is executed with the parameters of this query.
+	 */
+	protected SelectQueryPlan<R> resolveSelectQueryPlan(SqmInterpretationsKey cacheKey) {
+		final QueryInterpretationCache interpretationCache =
+				getSessionFactory().getQueryEngine().getInterpretationCache();
+		final SqmFingerprint fingerprint = cacheKey.getFingerprint();
+		if ( fingerprint == null ) {
+			return interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+		}
+		else {
+			final ParameterRemappingSelectQueryPlan<R> queryPlan = (ParameterRemappingSelectQueryPlan<R>)
+					interpretationCache.resolveSelectQueryPlan( cacheKey,
+							() -> new ParameterRemappingSelectQueryPlan<>( buildSelectQueryPlan(),
+									fingerprint.getParameters() ) );
+			return queryPlan.forParameters( fingerprint.getParameters() );
+		}
+	}
+
 	protected SelectQueryPlan<R> buildSelectQueryPlan() {
 		final SqmSelectStatement<R> statement = (SqmSelectStatement<R>) getSqmStatement();
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split( statement );
@@ -4,6 +4,11 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.graph.spi.AttributeNodeImplementor;
 import org.hibernate.graph.spi.GraphImplementor;
@@ -38,4 +43,46 @@ private static boolean containsCollectionFetches(GraphImplementor<?> graph) {
 		}
 		return false;
 	}
+
+	/**
+	 * A structural, hashable representation of the {@linkplain AppliedGraph applied graph},
+	 * comprising its {@linkplain GraphSemantic semantic}, attribute nodes, and subgraphs.
+	 * Two graphs with the same fingerprint result in the same SQL AST, and so
+	 * the fingerprint may be used as part of a query plan cache key.
+	 *
+	 * @return the fingerprint, or {@code null} if no graph is applied
+	 */
+	public static Object fingerprint(AppliedGraph appliedGraph) {
+		final GraphSemantic semantic = appliedGraph.getSemantic();
+		final GraphImplementor<?> graph = appliedGraph.getGraph();
+		if ( semantic == null || graph == null ) {
+			return null;
+		}
+		else {
+			return List.of( semantic, fingerprint( graph ) );
+		}
+	}
+
+	private static List<Object> fingerprint(GraphImplementor<?> graph) {
+		final List<Object> fingerprint = new ArrayList<>();
+		fingerprint.add( graph.getGraphedType().getTypeName() );
+		final List<AttributeNodeImplementor<?,?,?>> nodes = new ArrayList<>( graph.getNodes().values() );
+		// the order in which attribute nodes were added is not significant
+		nodes.sort( Comparator.comparing( AttributeNodeImplementor::getAttributeName ) );
+		for ( AttributeNodeImplementor<?,?,?> node : nodes ) {
+			fingerprint.add( node.getAttributeName() );
+			fingerprint.add( fingerprintOrNull( node.getValueSubgraph() ) );
+			fingerprint.add( fingerprintOrNull( node.getKeySubgraph() ) );
+		}
+		final List<SubGraphImplementor<?>> treatedSubgraphs = new ArrayList<>( graph.getTreatedSubgraphs().values() );
+		treatedSubgraphs.sort( Comparator.comparing( subgraph -> subgraph.getGraphedType().getTypeName() ) );
+		for ( SubGraphImplementor<?> treatedSubgraph : treatedSubgraphs ) {
+			fingerprint.add( fingerprint( treatedSubgraph ) );
+		}
+		return fingerprint;
+	}
+
+	private static List<Object> fingerprintOrNull(SubGraphImplementor<?> subgraph) {
+		return subgraph == null ? null : fingerprint( subgraph );
+	}
 }
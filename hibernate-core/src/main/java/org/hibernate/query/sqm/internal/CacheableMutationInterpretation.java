@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.tree.SqmDmlStatement;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+
+/**
+ * The interpretation of a single-table mutation statement held by a
+ * {@link org.hibernate.query.spi.NonSelectQueryPlan}.
+ * <p>
+ * Instances are immutable, and the translation is performed using a
+ * {@linkplain DomainParameterXref#copy() copy} of the shared
+ * {@link DomainParameterXref}, so that the expansions of multivalued
+ * parameters are local to the interpretation. This allows a cached plan
+ * to be executed concurrently by multiple sessions.
+ */
+record CacheableMutationInterpretation(
+		DomainParameterXref domainParameterXref,
+		MutationStatement sqlAst,
+		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+		Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypeResolutions,
+		Map<QueryParameterImplementor<?>, Integer> bindValueCounts,
+		JdbcOperationQueryMutation jdbcOperation) {
+
+	/**
+	 * Translate the given SQM statement to a SQL AST. The returned
+	 * interpretation has no {@linkplain #jdbcOperation() JDBC operation}
+	 * until it is {@linkplain #translate translated}.
+	 */
+	static CacheableMutationInterpretation interpret(
+			SqmDmlStatement<?> sqmStatement,
+			DomainParameterXref sharedDomainParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final DomainParameterXref domainParameterXref = sharedDomainParameterXref.copy();
+		final SqmTranslation<? extends MutationStatement> sqmInterpretation =
+				factory.getQueryEngine().getSqmTranslatorFactory()
+						.createMutationTranslator(
+								sqmStatement,
+								executionContext.getQueryOptions(),
+								domainParameterXref,
+								executionContext.getQueryParameterBindings(),
+								executionContext.getSession().getLoadQueryInfluencers(),
+								factory.getSqlTranslationEngine()
+						)
+						.translate();
+		return new CacheableMutationInterpretation(
+				domainParameterXref,
+				sqmInterpretation.getSqlAst(),
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam ),
+				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
+				domainParameterXref.getBindValueCounts( executionContext.getQueryParameterBindings() ),
+				null
+		);
+	}
+
+	/**
+	 * Translate the given SQL AST, which is either the {@link #sqlAst()} or
+	 * a statement derived from it, to a JDBC operation.
+	 *
+	 * @return a new interpretation holding the JDBC operation
+	 */
+	CacheableMutationInterpretation translate(
+			MutationStatement statement,
+			JdbcParameterBindings jdbcParameterBindings,
+			DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final JdbcOperationQueryMutation jdbcOperation =
+				factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildMutationTranslator( factory, statement )
+						.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		return new CacheableMutationInterpretation(
+				domainParameterXref,
+				sqlAst,
+				jdbcParamsXref,
+				sqmParameterMappingModelTypeResolutions,
+				bindValueCounts,
+				jdbcOperation
+		);
+	}
+
+	JdbcParameterBindings createJdbcParameterBindings(DomainQueryExecutionContext executionContext) {
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) sqmParameterMappingModelTypeResolutions.get( parameter );
+					}
+				},
+				executionContext.getSession()
+		);
+	}
+
+	/**
+	 * Do the expansions of multi-valued parameters in this interpretation fit the
+	 * parameter bindings of the given execution? If not, the SQM statement must be
+	 * translated again, since binding the values would silently bind the wrong
+	 * number of values.
+	 *
+	 * @see DomainParameterXref#fitsBindValueCounts
+	 */
+	boolean isCompatibleWith(DomainQueryExecutionContext executionContext) {
+		return domainParameterXref.fitsBindValueCounts(
+				bindValueCounts,
+				executionContext.getQueryParameterBindings(),
+				executionContext.getSession().getFactory()
+		);
+	}
+
+	boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, DomainQueryExecutionContext executionContext) {
+		return jdbcOperation != null
+			&& jdbcOperation.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() );
+	}
+}
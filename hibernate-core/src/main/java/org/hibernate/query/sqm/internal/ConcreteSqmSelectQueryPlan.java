@@ -7,6 +7,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.persistence.Tuple;
 
@@ -18,6 +19,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
+import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryTypeMismatchException;
@@ -103,109 +105,91 @@ public ConcreteSqmSelectQueryPlan(
 		this.executeQueryInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						null,
-						resultCountEstimate,
-						resultsConsumer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					null,
+					resultCountEstimate,
+					resultsConsumer
+			);
 		};
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				//noinspection unchecked
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						(Class<R>) executionContext.getResultType(),
-						uniqueSemantic,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			//noinspection unchecked
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					(Class<R>) executionContext.getResultType(),
+					uniqueSemantic,
+					resultCountEstimate
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
-
-				final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return jdbcSelectExecutor.scroll(
-						jdbcSelect,
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
-						rowTransformer,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+//			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+//					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+//					sqmInterpretation.selectStatement,
+//					Collections.emptyList(),
+//					jdbcParameterBindings
+//			);
+
+			final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return jdbcSelectExecutor.scroll(
+					jdbcSelect,
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
+					rowTransformer,
+					resultCountEstimate
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
-		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		// NOTE : multi-valued parameter expansions are local to each
+		//		`CacheableSqmInterpretation`, which is rebuilt whenever the
+		//		number of bound values does not fit its expansions - see
+		//		`CacheableSqmInterpretation#isCompatibleWith`
 	}
 
 	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
@@ -398,43 +382,59 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					localCopy.firstParameterBindings = null;
 					cacheableSqmInterpretation = localCopy;
 				}
+				else if ( !localCopy.isCompatibleWith( executionContext ) ) {
+					// The expansions of multi-valued parameters don't fit the current bindings
+					localCopy = buildCacheableSqmInterpretation(
+							sqm,
+							domainParameterXref,
+							executionContext
+					);
+					jdbcParameterBindings = localCopy.firstParameterBindings;
+					localCopy.firstParameterBindings = null;
+					cacheableSqmInterpretation = localCopy;
+				}
 				else {
 					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 					// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
 					if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 						jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 					}
-					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-					// We could avoid this by putting the lock options into the cache key
+					// If the translation depends on the limit or lock options, we have to render the SQL AST again,
+					// unless we already have a rendering which is compatible with the current query options
 					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-						localCopy = buildCacheableSqmInterpretation(
-								sqm,
-								domainParameterXref,
-								executionContext
-						);
-						jdbcParameterBindings = localCopy.firstParameterBindings;
-						localCopy.firstParameterBindings = null;
+						if ( jdbcParameterBindings == null ) {
+							jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+						}
+						localCopy = localCopy.rendered( jdbcParameterBindings, executionContext );
 						cacheableSqmInterpretation = localCopy;
 					}
 				}
 			}
 		}
+		else if ( !localCopy.isCompatibleWith( executionContext ) ) {
+			// The expansions of multi-valued parameters don't fit the current bindings
+			localCopy = buildCacheableSqmInterpretation(
+					sqm,
+					domainParameterXref,
+					executionContext
+			);
+			jdbcParameterBindings = localCopy.firstParameterBindings;
+			localCopy.firstParameterBindings = null;
+			cacheableSqmInterpretation = localCopy;
+		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
 			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
+			// If the translation depends on the limit or lock options, we have to render the SQL AST again,
+			// unless we already have a rendering which is compatible with the current query options
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
+				if ( jdbcParameterBindings == null ) {
+					jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+				}
+				localCopy = localCopy.rendered( jdbcParameterBindings, executionContext );
 				cacheableSqmInterpretation = localCopy;
 			}
 		}
@@ -442,6 +442,11 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		if ( jdbcParameterBindings == null ) {
 			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 		}
+		FilterJdbcParameter.bindFilterParameterValues(
+				localCopy.jdbcSelect,
+				jdbcParameterBindings,
+				executionContext.getSession().getLoadQueryInfluencers()
+		);
 
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
@@ -449,7 +454,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				new SqmParameterMappingModelResolutionAccess() {
 					//this is pretty ugly!
@@ -464,10 +469,13 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
-			DomainParameterXref domainParameterXref,
+			DomainParameterXref sharedDomainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		// the expansions of multi-valued parameters are specific to this translation,
+		// so make sure to not share them with concurrent executions of this plan
+		final DomainParameterXref domainParameterXref = sharedDomainParameterXref.copy();
 
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
@@ -508,9 +516,11 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				domainParameterXref,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
-				jdbcParameterBindings
+				jdbcParameterBindings,
+				domainParameterXref.getBindValueCounts( executionContext.getQueryParameterBindings() )
 		);
 	}
 
@@ -523,29 +533,126 @@ T interpret(
 	}
 
 	private static class CacheableSqmInterpretation {
+		/**
+		 * The maximum number of renderings of the SQL AST which are kept
+		 * for different limits, lock options, and inlined parameter values.
+		 */
+		private static final int MAX_RENDERINGS = 8;
+
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
+		private final DomainParameterXref domainParameterXref;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
+		private final Map<QueryParameterImplementor<?>, Integer> bindValueCounts;
+		private final List<JdbcOperationQuerySelect> renderings;
 		private transient JdbcParameterBindings firstParameterBindings;
 
 		CacheableSqmInterpretation(
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
+				DomainParameterXref domainParameterXref,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
+				JdbcParameterBindings firstParameterBindings,
+				Map<QueryParameterImplementor<?>, Integer> bindValueCounts) {
+			this(
+					selectStatement,
+					jdbcSelect,
+					domainParameterXref,
+					jdbcParamsXref,
+					sqmParameterMappingModelTypes,
+					firstParameterBindings,
+					bindValueCounts,
+					new CopyOnWriteArrayList<>( List.of( jdbcSelect ) )
+			);
+		}
+
+		private CacheableSqmInterpretation(
+				SelectStatement selectStatement,
+				JdbcOperationQuerySelect jdbcSelect,
+				DomainParameterXref domainParameterXref,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
-				JdbcParameterBindings firstParameterBindings) {
+				JdbcParameterBindings firstParameterBindings,
+				Map<QueryParameterImplementor<?>, Integer> bindValueCounts,
+				List<JdbcOperationQuerySelect> renderings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
+			this.domainParameterXref = domainParameterXref;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
+			this.bindValueCounts = bindValueCounts;
+			this.renderings = renderings;
 		}
 
 		JdbcOperationQuerySelect getJdbcSelect() {
 			return jdbcSelect;
 		}
 
+		/**
+		 * An interpretation sharing the SQL AST and parameter translations of this
+		 * interpretation, with a rendering of the SQL AST which is compatible with
+		 * the given parameter bindings and the query options of the given execution.
+		 * Renderings are kept, so that, for example, alternating between the first
+		 * page and the following pages of a paginated query, or between lock modes,
+		 * does not require to render the SQL AST over and over again. In any case,
+		 * the translation from SQM to SQL AST does not have to be repeated.
+		 */
+		CacheableSqmInterpretation rendered(
+				JdbcParameterBindings jdbcParameterBindings,
+				DomainQueryExecutionContext executionContext) {
+			final QueryOptions queryOptions = executionContext.getQueryOptions();
+			for ( JdbcOperationQuerySelect rendering : renderings ) {
+				if ( rendering != jdbcSelect && rendering.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+					return withJdbcSelect( rendering );
+				}
+			}
+
+			final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
+			final JdbcOperationQuerySelect rendering =
+					sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+							.buildSelectTranslator( sessionFactory, selectStatement )
+							.translate( jdbcParameterBindings, queryOptions );
+			if ( renderings.size() >= MAX_RENDERINGS ) {
+				renderings.remove( 0 );
+			}
+			renderings.add( rendering );
+			return withJdbcSelect( rendering );
+		}
+
+		private CacheableSqmInterpretation withJdbcSelect(JdbcOperationQuerySelect jdbcSelect) {
+			return new CacheableSqmInterpretation(
+					selectStatement,
+					jdbcSelect,
+					domainParameterXref,
+					jdbcParamsXref,
+					sqmParameterMappingModelTypes,
+					null,
+					bindValueCounts,
+					renderings
+			);
+		}
+
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
+		/**
+		 * Do the expansions of multi-valued parameters in this translation fit
+		 * the parameter bindings of the given execution? They do if the number of
+		 * bound values has the same {@linkplain DomainParameterXref#getExpansionSize
+		 * expansion size}, which is the convention used by the interpretation key.
+		 */
+		boolean isCompatibleWith(DomainQueryExecutionContext executionContext) {
+			return domainParameterXref.fitsBindValueCounts(
+					bindValueCounts,
+					executionContext.getQueryParameterBindings(),
+					executionContext.getSession().getFactory()
+			);
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
@@ -5,14 +5,20 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.QueryParameter;
 import org.hibernate.query.internal.QueryParameterNamedImpl;
 import org.hibernate.query.internal.QueryParameterPositionalImpl;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.SqmTreeTransformationLogger;
 import org.hibernate.query.sqm.tree.SqmStatement;
@@ -22,6 +28,8 @@
 import org.hibernate.type.BasicCollectionType;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.hibernate.internal.util.MathHelper.inClausePaddedSize;
 
 /**
  * Maintains a cross-reference between SqmParameter and QueryParameter references.
@@ -121,23 +129,45 @@ else if ( sqmParameter.getExpressible() != null
 	private final LinkedHashMap<QueryParameterImplementor<?>, List<SqmParameter<?>>> sqmParamsByQueryParam;
 	private final IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
+	// shared with copies, since it describes the statement rather than a translation
+	private final Set<QueryParameter<?>> unpaddedParameters;
+
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
 
 	private DomainParameterXref(
 			LinkedHashMap<QueryParameterImplementor<?>, List<SqmParameter<?>>> sqmParamsByQueryParam,
 			IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam,
 			SqmStatement.ParameterResolutions parameterResolutions) {
+		this(
+				sqmParamsByQueryParam,
+				queryParamBySqmParam,
+				parameterResolutions,
+				Collections.synchronizedSet( Collections.newSetFromMap( new IdentityHashMap<>() ) )
+		);
+	}
+
+	private DomainParameterXref(
+			LinkedHashMap<QueryParameterImplementor<?>, List<SqmParameter<?>>> sqmParamsByQueryParam,
+			IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam,
+			SqmStatement.ParameterResolutions parameterResolutions,
+			Set<QueryParameter<?>> unpaddedParameters) {
 		this.sqmParamsByQueryParam = sqmParamsByQueryParam;
 		this.queryParamBySqmParam = queryParamBySqmParam;
 		this.parameterResolutions = parameterResolutions;
+		this.unpaddedParameters = unpaddedParameters;
 	}
 
+	/**
+	 * Create a copy of this xref which does not share the expansions of
+	 * multivalued parameters with this xref. The copy may be used for
+	 * a translation whose expansions are local to that translation.
+	 */
 	public DomainParameterXref copy() {
 		//noinspection unchecked
 		final var clone =
 				(IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>>)
 						queryParamBySqmParam.clone();
-		return new DomainParameterXref( sqmParamsByQueryParam, clone, parameterResolutions );
+		return new DomainParameterXref( sqmParamsByQueryParam, clone, parameterResolutions, unpaddedParameters );
 	}
 
 	/**
@@ -211,6 +241,93 @@ public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
 		}
 	}
 
+	/**
+	 * Record that the expansions of the given multivalued parameter must match the
+	 * number of bound values exactly, that is, they may not be padded with repetitions
+	 * of the last value. This is remembered by this xref and all its copies, so that
+	 * the {@linkplain #getExpansionSize expansion size} of the parameter is the same
+	 * for the interpretation key of a plan and for the translations of the plan.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_PADDING
+	 */
+	public void addUnpaddedExpansion(QueryParameterImplementor<?> domainParam) {
+		unpaddedParameters.add( domainParam );
+	}
+
+	/**
+	 * Are the expansions of the given multivalued parameter padded to the
+	 * {@linkplain org.hibernate.internal.util.MathHelper#inClausePaddedSize padded size}
+	 * of the bound values, or do they match the number of bound values exactly?
+	 */
+	public boolean hasPaddedExpansions(QueryParameter<?> domainParam) {
+		return !unpaddedParameters.contains( domainParam );
+	}
+
+	/**
+	 * The number of values a translation expands the given multivalued parameter to,
+	 * when the given number of values is bound to it: the padded number of values if
+	 * {@value org.hibernate.cfg.QuerySettings#IN_CLAUSE_PARAMETER_PADDING} is enabled
+	 * and the expansions of the parameter {@linkplain #hasPaddedExpansions are padded},
+	 * or the exact number of values otherwise. Two bindings having the same expansion
+	 * size may share a translation.
+	 */
+	public int getExpansionSize(QueryParameter<?> domainParam, int bindValueCount, SessionFactoryImplementor factory) {
+		return bindValueCount > 0
+			&& factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+			&& hasPaddedExpansions( domainParam )
+				? inClausePaddedSize( bindValueCount, factory.getJdbcServices().getDialect().getInExpressionCountLimit() )
+				: bindValueCount;
+	}
+
+	/**
+	 * The number of values bound to each parameter which allows multi-valued
+	 * binding, or {@code -1} if the parameter is bound to a single value. A
+	 * translation records the counts it was created for, in order to check
+	 * whether it {@linkplain #fitsBindValueCounts fits} the bindings of a
+	 * later execution.
+	 */
+	public Map<QueryParameterImplementor<?>, Integer> getBindValueCounts(QueryParameterBindings queryParameterBindings) {
+		Map<QueryParameterImplementor<?>, Integer> bindValueCounts = null;
+		for ( QueryParameterImplementor<?> queryParameter : sqmParamsByQueryParam.keySet() ) {
+			if ( queryParameter.allowsMultiValuedBinding() ) {
+				if ( bindValueCounts == null ) {
+					bindValueCounts = new IdentityHashMap<>();
+				}
+				bindValueCounts.put( queryParameter, bindValueCount( queryParameterBindings.getBinding( queryParameter ) ) );
+			}
+		}
+		return bindValueCounts == null ? emptyMap() : bindValueCounts;
+	}
+
+	/**
+	 * Do the expansions of multi-valued parameters in a translation created for the
+	 * given {@linkplain #getBindValueCounts bind value counts} fit the given parameter
+	 * bindings? They do if the number of bound values has the same
+	 * {@linkplain #getExpansionSize expansion size}, which is the convention used by
+	 * the interpretation key.
+	 */
+	public boolean fitsBindValueCounts(
+			Map<QueryParameterImplementor<?>, Integer> bindValueCounts,
+			QueryParameterBindings queryParameterBindings,
+			SessionFactoryImplementor factory) {
+		for ( Map.Entry<QueryParameterImplementor<?>, Integer> entry : bindValueCounts.entrySet() ) {
+			final QueryParameterImplementor<?> queryParameter = entry.getKey();
+			final int translatedCount = entry.getValue();
+			final int count = bindValueCount( queryParameterBindings.getBinding( queryParameter ) );
+			if ( count != translatedCount
+					&& ( count < 0 || translatedCount < 0
+						|| getExpansionSize( queryParameter, count, factory )
+							!= getExpansionSize( queryParameter, translatedCount, factory ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int bindValueCount(QueryParameterBinding<?> binding) {
+		return binding.isMultiValued() ? binding.getBindValues().size() : -1;
+	}
+
 	public void clearExpansions() {
 		if ( expansions != null ) {
 			for ( List<SqmParameter<?>> expansionList : expansions.values() ) {
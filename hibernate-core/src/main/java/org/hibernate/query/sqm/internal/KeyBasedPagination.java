@@ -13,6 +13,7 @@
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
 import org.hibernate.query.sqm.tree.from.SqmFrom;
 import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
@@ -20,6 +21,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
@@ -35,6 +37,27 @@ public class KeyBasedPagination {
 	static <R> SqmSelectStatement<KeyedResult<R>> paginate(
 			List<Order<? super R>> keyDefinition, List<Comparable<?>> keyValues,
 			SqmSelectStatement<KeyedResult<R>> statement, NodeBuilder builder) {
+		return paginate( keyDefinition, statement, builder,
+				keyValues == null ? null : root -> keyRestriction( keyDefinition, keyValues, root, builder ) );
+	}
+
+	/**
+	 * Paginate the given statement, locating the page by parameters bound to the key
+	 * of the last result on the previous page, so that the same statement, and the
+	 * same query plan, may be used for every following page. The parameters are added
+	 * to the given list in the order of the key definition.
+	 */
+	static <R> SqmSelectStatement<KeyedResult<R>> paginateByParameters(
+			List<Order<? super R>> keyDefinition, List<JpaCriteriaParameter<?>> keyParameters,
+			SqmSelectStatement<KeyedResult<R>> statement, NodeBuilder builder) {
+		return paginate( keyDefinition, statement, builder,
+				root -> keyParameterRestriction( keyDefinition, keyParameters, root, builder ) );
+	}
+
+	private static <R> SqmSelectStatement<KeyedResult<R>> paginate(
+			List<Order<? super R>> keyDefinition,
+			SqmSelectStatement<KeyedResult<R>> statement, NodeBuilder builder,
+			Function<SqmFrom<?, ?>, SqmPredicate> keyRestriction) {
 		final SqmQuerySpec<?> querySpec = statement.getQuerySpec();
 		final List<? extends JpaSelection<?>> items = querySpec.getSelectClause().getSelectionItems();
 		if ( items.size() == 1 ) {
@@ -43,8 +66,8 @@ static <R> SqmSelectStatement<KeyedResult<R>> paginate(
 				statement.orderBy( keyDefinition.stream().map( order -> sortSpecification( statement, order ) )
 						.collect( toList() ) );
 				statement.select( keySelection( keyDefinition, root, selected, builder ) );
-				if ( keyValues != null ) {
-					final SqmPredicate restriction = keyRestriction( keyDefinition, keyValues, root, builder );
+				if ( keyRestriction != null ) {
+					final SqmPredicate restriction = keyRestriction.apply( root );
 					final SqmPredicate queryWhere = querySpec.getRestriction();
 					statement.where( queryWhere == null ? restriction : builder.and( queryWhere, restriction ) );
 				}
@@ -82,6 +105,36 @@ private static <R> SqmPredicate keyRestriction(
 		return restriction;
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static <R> SqmPredicate keyParameterRestriction(
+			List<Order<? super R>> keyDefinition,
+			List<JpaCriteriaParameter<?>> keyParameters,
+			SqmFrom<?, ?> root,
+			NodeBuilder builder) {
+		final List<SqmPath<?>> keyPaths = new ArrayList<>();
+		for ( Order<? super R> key : keyDefinition ) {
+			final SqmPath<?> keyPath = root.get( key.getAttributeName() );
+			keyPaths.add( keyPath );
+			keyParameters.add( (JpaCriteriaParameter<?>) builder.parameter( (Class) keyPath.getJavaType() ) );
+		}
+		SqmPredicate restriction = null;
+		for (int i = 0; i < keyDefinition.size(); i++ ) {
+			final SortDirection direction = keyDefinition.get(i).getDirection();
+			final SqmPath key = keyPaths.get(i);
+			final Expression keyParameter = keyParameters.get(i);
+			SqmPredicate predicate = switch ( direction ) {
+				case ASCENDING -> builder.greaterThan( key, keyParameter );
+				case DESCENDING -> builder.lessThan( key, keyParameter );
+				default -> throw new AssertionFailure("Unrecognized key direction");
+			};
+			for ( int j = 0; j < i; j++ ) {
+				predicate = builder.and( predicate, keyPaths.get(j).equalTo( keyParameters.get(j) ) );
+			}
+			restriction = restriction == null ? predicate : builder.or( restriction, predicate );
+		}
+		return restriction;
+	}
+
 	private static <R> JpaCompoundSelection<KeyedResult<R>> keySelection(
 			List<Order<? super R>> keyDefinition,
 			SqmFrom<?, ?> root, JpaSelection<?> selected,
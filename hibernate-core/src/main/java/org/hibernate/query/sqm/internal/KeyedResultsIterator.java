@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.internal.QueryOptionsImpl;
+import org.hibernate.query.spi.MutableQueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+
+import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_LAST_ON_PREVIOUS_PAGE;
+import static org.hibernate.query.sqm.internal.KeyedResult.collectResults;
+
+/**
+ * Iterates the results of a query page by page, using key-based pagination.
+ * <p>
+ * The given first page is obtained exactly like by
+ * {@link org.hibernate.query.SelectionQuery#getKeyedResultList(KeyedPage)}.
+ * Every following page is obtained by executing a single query which locates
+ * the page by parameters bound to the key of the last result on the previous
+ * page, so that the query is translated only once. Before a following page is
+ * obtained, the entities loaded by the previous page are evicted from the
+ * persistence context. Entities which were already associated with the
+ * persistence context stay managed, along with their unflushed modifications.
+ *
+ * @see AbstractSqmSelectionQuery#getKeyedResultStream(KeyedPage)
+ *
+ * @since 7.0
+ */
+class KeyedResultsIterator<R> implements Iterator<R> {
+	private final AbstractSqmSelectionQuery<R> query;
+	private final KeyedPage<R> firstPage;
+	private final int pageSize;
+
+	private final List<JpaCriteriaParameter<?>> keyParameters = new ArrayList<>();
+	// the keys of the entities loaded by the current page
+	private final List<EntityKey> loadedEntities = new ArrayList<>();
+	private SqmSelectionQueryImpl<KeyedResult<R>> nextPageQuery;
+
+	private Iterator<R> results;
+	private List<Comparable<?>> keyOfLastResult;
+
+	KeyedResultsIterator(AbstractSqmSelectionQuery<R> query, KeyedPage<R> firstPage) {
+		this.query = query;
+		this.firstPage = firstPage;
+		this.pageSize = firstPage.getPage().getSize();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( results == null ) {
+			readFirstPage();
+		}
+		while ( !results.hasNext() ) {
+			if ( keyOfLastResult == null ) {
+				return false;
+			}
+			readNextPage();
+		}
+		return true;
+	}
+
+	@Override
+	public R next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return results.next();
+	}
+
+	private void readFirstPage() {
+		final KeyedResultList<R> resultList = query.getKeyedResultList( firstPage, loadedEntities::add );
+		results = resultList.getResultList().iterator();
+		keyOfLastResult = resultList.isLastPage() ? null : resultList.getNextPage().getKey();
+	}
+
+	private void readNextPage() {
+		// the results of the previous page are no longer needed
+		evictLoadedEntities();
+		if ( nextPageQuery == null ) {
+			nextPageQuery = new SqmSelectionQueryImpl<>(
+					query,
+					firstPage.getKeyDefinition(),
+					keyParameters,
+					pageSize
+			);
+		}
+		final QueryParameterBindings bindings = nextPageQuery.getQueryParameterBindings();
+		for ( int i = 0; i < keyParameters.size(); i++ ) {
+			bind( bindings, keyParameters.get( i ), keyOfLastResult.get( i ) );
+		}
+		final MutableQueryOptions queryOptions = nextPageQuery.getQueryOptions();
+		final Integer fetchSize = queryOptions.getFetchSize();
+		if ( fetchSize == null ) {
+			// read each page in a single round trip
+			queryOptions.setFetchSize( pageSize + 1 );
+		}
+		final List<KeyedResult<R>> executed;
+		try {
+			executed = nextPageQuery.getResultList( loadedEntities::add );
+		}
+		finally {
+			if ( fetchSize == null && queryOptions instanceof QueryOptionsImpl queryOptionsImpl ) {
+				queryOptionsImpl.setFetchSize( (Integer) null );
+			}
+		}
+		results = collectResults( executed, pageSize, KEY_OF_LAST_ON_PREVIOUS_PAGE ).iterator();
+		keyOfLastResult = executed.size() > pageSize ? executed.get( pageSize - 1 ).getKey() : null;
+	}
+
+	private void evictLoadedEntities() {
+		final SharedSessionContractImplementor session = query.getSession();
+		if ( session.isSessionImplementor() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( EntityKey entityKey : loadedEntities ) {
+				final Object entity = persistenceContext.getEntity( entityKey );
+				if ( entity != null ) {
+					session.asSessionImplementor().evict( entity );
+				}
+			}
+		}
+		loadedEntities.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void bind(QueryParameterBindings bindings, JpaCriteriaParameter<T> parameter, Object value) {
+		bindings.getBinding( parameter ).setBindValue( (T) value );
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.QueryParameter;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.SqmFingerprint;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+
+/**
+ * A {@link SelectQueryPlan} of a criteria query which is cached by its
+ * {@linkplain SqmFingerprint structural fingerprint}, and thus shared with
+ * other criteria queries of the same shape.
+ * <p>
+ * The wrapped plan refers to the criteria parameters of the query it was
+ * built for. When it is executed on behalf of another query, the parameters
+ * of the plan are matched by position with the parameters of that query, and
+ * the bindings of that query are exposed to the plan.
+ */
+final class ParameterRemappingSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> plan;
+	private final List<QueryParameterImplementor<?>> planParameters;
+	private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+	ParameterRemappingSelectQueryPlan(SelectQueryPlan<R> plan, List<QueryParameterImplementor<?>> planParameters) {
+		this( plan, planParameters, null );
+	}
+
+	private ParameterRemappingSelectQueryPlan(
+			SelectQueryPlan<R> plan,
+			List<QueryParameterImplementor<?>> planParameters,
+			Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+		this.plan = plan;
+		this.planParameters = planParameters;
+		this.parameterMapping = parameterMapping;
+	}
+
+	/**
+	 * A plan for the query with the given criteria parameters, which are
+	 * in the order of appearance in the {@linkplain SqmFingerprint fingerprint}.
+	 */
+	SelectQueryPlan<R> forParameters(List<QueryParameterImplementor<?>> parameters) {
+		assert parameters.size() == planParameters.size();
+		Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> mapping = null;
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			final QueryParameterImplementor<?> planParameter = planParameters.get( i );
+			final QueryParameterImplementor<?> parameter = parameters.get( i );
+			if ( planParameter != parameter ) {
+				if ( mapping == null ) {
+					mapping = new IdentityHashMap<>( parameters.size() );
+				}
+				mapping.put( planParameter, parameter );
+			}
+		}
+		return mapping == null ? plan : new ParameterRemappingSelectQueryPlan<>( plan, planParameters, mapping );
+	}
+
+	@Override
+	public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+		return plan.executeQuery( remap( executionContext ), resultsConsumer );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return plan.performList( remap( executionContext ) );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return plan.performScroll( scrollMode, remap( executionContext ) );
+	}
+
+	private DomainQueryExecutionContext remap(DomainQueryExecutionContext executionContext) {
+		return parameterMapping == null
+				? executionContext
+				: new RemappedExecutionContext( executionContext, parameterMapping );
+	}
+
+	private static class RemappedExecutionContext implements DomainQueryExecutionContext {
+		private final DomainQueryExecutionContext delegate;
+		private final RemappedParameterBindings parameterBindings;
+
+		private RemappedExecutionContext(
+				DomainQueryExecutionContext delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.delegate = delegate;
+			this.parameterBindings =
+					new RemappedParameterBindings( delegate.getQueryParameterBindings(), parameterMapping );
+		}
+
+		@Override
+		public QueryOptions getQueryOptions() {
+			return delegate.getQueryOptions();
+		}
+
+		@Override
+		public QueryParameterBindings getQueryParameterBindings() {
+			return parameterBindings;
+		}
+
+		@Override
+		public Callback getCallback() {
+			return delegate.getCallback();
+		}
+
+		@Override
+		public boolean hasCallbackActions() {
+			return delegate.hasCallbackActions();
+		}
+
+		@Override
+		public Consumer<EntityKey> getLoadedEntityKeyConsumer() {
+			return delegate.getLoadedEntityKeyConsumer();
+		}
+
+		@Override
+		public SharedSessionContractImplementor getSession() {
+			return delegate.getSession();
+		}
+
+		@Override
+		public Class<?> getResultType() {
+			return delegate.getResultType();
+		}
+	}
+
+	private static class RemappedParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+		private RemappedParameterBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.delegate = delegate;
+			this.parameterMapping = parameterMapping;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> remap(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> remapped = parameterMapping.get( parameter );
+			return remapped == null ? parameter : (QueryParameterImplementor<P>) remapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( remap( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( remap( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			// the names of the parameters of the plan may differ from the names
+			// of the corresponding parameters of the executing query
+			for ( QueryParameterImplementor<?> parameter : parameterMapping.keySet() ) {
+				if ( name.equals( parameter.getName() ) ) {
+					//noinspection unchecked
+					return (QueryParameterBinding<P>) delegate.getBinding( remap( parameter ) );
+				}
+			}
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			for ( QueryParameterImplementor<?> parameter : parameterMapping.keySet() ) {
+				final Integer parameterPosition = parameter.getPosition();
+				if ( parameterPosition != null && parameterPosition == position ) {
+					//noinspection unchecked
+					return (QueryParameterBinding<P>) delegate.getBinding( remap( parameter ) );
+				}
+			}
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			return delegate.generateQueryKeyMemento( session );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<? super QueryParameter<?>, ? super QueryParameterBinding<?>> action) {
+			// expose the bindings under the parameters of the plan
+			final Map<QueryParameter<?>, QueryParameter<?>> inverseMapping = new IdentityHashMap<>( parameterMapping.size() );
+			parameterMapping.forEach( (planParameter, parameter) -> inverseMapping.put( parameter, planParameter ) );
+			delegate.visitBindings( (parameter, binding) -> {
+				final QueryParameter<?> planParameter = inverseMapping.get( parameter );
+				action.accept( planParameter == null ? parameter : planParameter, binding );
+			} );
+		}
+	}
+}
@@ -14,6 +14,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import jakarta.persistence.EntityGraph;
@@ -46,6 +47,7 @@
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.restriction.Restriction;
 import org.hibernate.query.ResultListTransformer;
+import org.hibernate.query.RowView;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
 import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
@@ -84,6 +86,7 @@
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.RowViewResultsConsumer;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -444,6 +447,14 @@ protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected void doForEachRow(Consumer<? super RowView> action) {
+		verifySelect();
+		if ( getQueryOptions().getEffectiveLimit().getMaxRowsJpa() != 0 ) {
+			resolveSelectQueryPlan().executeQuery( this, new RowViewResultsConsumer<>( action ) );
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Select query plan
@@ -457,9 +468,9 @@ public boolean isQueryPlanCacheable() {
 	}
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
+		final SqmInterpretationsKey cacheKey = createInterpretationsKey( this );
 		return cacheKey != null
-				? interpretationCache().resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan )
+				? resolveSelectQueryPlan( cacheKey )
 				: buildSelectQueryPlan();
 	}
 
@@ -526,7 +537,7 @@ private NonSelectQueryPlan resolveNonSelectQueryPlan() {
 
 		if ( queryPlan == null ) {
 			queryPlan = buildNonSelectQueryPlan();
-			if ( cacheKey != null ) {
+			if ( cacheKey != null && isCacheable( queryPlan ) ) {
 				interpretationCache.cacheNonSelectQueryPlan( cacheKey, queryPlan );
 			}
 		}
@@ -534,6 +545,18 @@ private NonSelectQueryPlan resolveNonSelectQueryPlan() {
 		return queryPlan;
 	}
 
+	/**
+	 * Only the plans for single-table statements are cached, since they hold
+	 * their translation independently of the {@link DomainParameterXref} of
+	 * the query. Multi-table statements are translated by the
+	 * {@link SqmMultiTableMutationStrategy} on each execution anyway.
+	 */
+	private static boolean isCacheable(NonSelectQueryPlan queryPlan) {
+		return queryPlan instanceof SimpleUpdateQueryPlan
+			|| queryPlan instanceof SimpleDeleteQueryPlan
+			|| queryPlan instanceof SimpleInsertQueryPlan;
+	}
+
 	private NonSelectQueryPlan buildNonSelectQueryPlan() {
 		// to get here the SQM statement has already been validated to be
 		// a non-select variety...
@@ -5,31 +5,23 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.Collections;
-import java.util.List;
-import java.util.Map;
 
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.dialect.DmlTargetColumnQualifierSupport;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.internal.util.MutableObject;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.SoftDeleteMapping;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationHelper;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
-import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
-import org.hibernate.query.sqm.sql.SqmTranslation;
-import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.spi.NavigablePath;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.AbstractUpdateOrDeleteStatement;
 import org.hibernate.sql.ast.tree.MutationStatement;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
@@ -43,11 +35,11 @@
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
-import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
-import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 
+import static org.hibernate.query.sqm.internal.CacheableMutationInterpretation.interpret;
+
 /**
  * @author Steve Ebersole
  */
@@ -56,10 +48,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final SqmDeleteStatement<?> sqmDelete;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcOperationQueryMutation jdbcOperation;
-
-	private SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+	private volatile CacheableMutationInterpretation interpretation;
 
 	public SimpleDeleteQueryPlan(
 			EntityMappingType entityDescriptor,
@@ -83,37 +72,38 @@ public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<? extends JdbcOperationQueryMutation> sqlAstTranslator = null;
-		if ( jdbcOperation == null ) {
-			sqlAstTranslator = createTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
-					}
-				},
-				session
-		);
 
-		if ( jdbcOperation != null
-				&& ! jdbcOperation.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-			sqlAstTranslator = createTranslator( executionContext );
+		CacheableMutationInterpretation interpretation = this.interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null && interpretation.isCompatibleWith( executionContext ) ) {
+			jdbcParameterBindings = interpretation.createJdbcParameterBindings( executionContext );
+			if ( !interpretation.isCompatibleWith( jdbcParameterBindings, executionContext ) ) {
+				interpretation = null;
+			}
+		}
+		else {
+			// there is no interpretation yet, or the expansions of its
+			// multi-valued parameters don't fit the current bindings
+			interpretation = null;
 		}
 
-		if ( sqlAstTranslator != null ) {
-			jdbcOperation = sqlAstTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		if ( interpretation == null ) {
+			final CacheableMutationInterpretation sqmInterpretation =
+					interpret( sqmDelete, domainParameterXref, executionContext );
+			jdbcParameterBindings = sqmInterpretation.createJdbcParameterBindings( executionContext );
+			interpretation = sqmInterpretation.translate(
+					createDeleteAst( (AbstractUpdateOrDeleteStatement) sqmInterpretation.sqlAst() ),
+					jdbcParameterBindings,
+					executionContext
+			);
+			this.interpretation = interpretation;
 		}
 
-		final boolean missingRestriction = sqmInterpretation.getSqlAst().getRestriction() == null;
+		final AbstractUpdateOrDeleteStatement sqlDeleteAst = (AbstractUpdateOrDeleteStatement) interpretation.sqlAst();
+		final boolean missingRestriction = sqlDeleteAst.getRestriction() == null;
 		if ( missingRestriction ) {
-			assert domainParameterXref.getSqmParameterCount() == 0;
-			assert jdbcParamsXref.isEmpty();
+			assert interpretation.domainParameterXref().getSqmParameterCount() == 0;
+			assert interpretation.jdbcParamsXref().isEmpty();
 		}
 
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext );
@@ -155,12 +145,12 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 					final MutatingTableReferenceGroupWrapper tableGroup = new MutatingTableReferenceGroupWrapper(
 							new NavigablePath( attributeMapping.getRootPathName() ),
 							attributeMapping,
-							sqmInterpretation.getSqlAst().getTargetTable()
+							sqlDeleteAst.getTargetTable()
 					);
 					final Expression fkTargetColumnExpression = MappingModelCreationHelper.buildColumnReferenceExpression(
 							tableGroup,
 							fkDescriptor.getTargetPart(),
-							sqmInterpretation.getSqlExpressionResolver(),
+							null,
 							factory
 					);
 					matchingIdSubQuery.getSelectClause().addSqlSelection( new SqlSelectionImpl( 0, fkTargetColumnExpression ) );
@@ -169,7 +159,7 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 							tableGroup
 					);
 
-					matchingIdSubQuery.applyPredicate( sqmInterpretation.getSqlAst().getRestriction() );
+					matchingIdSubQuery.applyPredicate( sqlDeleteAst.getRestriction() );
 
 					return Predicate.combinePredicates(
 							additionalPredicate.get(),
@@ -180,8 +170,13 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				executionContextAdapter
 		);
 
+		FilterJdbcParameter.bindFilterParameterValues(
+				interpretation.jdbcOperation(),
+				jdbcParameterBindings,
+				session.getLoadQueryInfluencers()
+		);
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcOperation,
+				interpretation.jdbcOperation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -192,30 +187,12 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 		);
 	}
 
-	protected SqlAstTranslator<? extends JdbcOperationQueryMutation> createTranslator(DomainQueryExecutionContext executionContext) {
-		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
-		final SqmTranslator<? extends MutationStatement> translator =
-				factory.getQueryEngine().getSqmTranslatorFactory().createMutationTranslator(
-						sqmDelete,
-						executionContext.getQueryOptions(),
-						domainParameterXref,
-						executionContext.getQueryParameterBindings(),
-						executionContext.getSession().getLoadQueryInfluencers(),
-						factory.getSqlTranslationEngine()
-				);
-		//noinspection unchecked
-		sqmInterpretation = (SqmTranslation<? extends AbstractUpdateOrDeleteStatement>) translator.translate();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
+	private MutationStatement createDeleteAst(AbstractUpdateOrDeleteStatement sqlDeleteAst) {
 		final MutationStatement ast;
 		if ( entityDescriptor.getSoftDeleteMapping() == null ) {
-			ast = sqmInterpretation.getSqlAst();
+			ast = sqlDeleteAst;
 		}
 		else {
-			final AbstractUpdateOrDeleteStatement sqlDeleteAst = sqmInterpretation.getSqlAst();
 			final NamedTableReference targetTable = sqlDeleteAst.getTargetTable();
 			final SoftDeleteMapping columnMapping = getEntityDescriptor().getSoftDeleteMapping();
 			final ColumnReference columnReference = new ColumnReference( targetTable, columnMapping );
@@ -229,10 +206,7 @@ protected SqlAstTranslator<? extends JdbcOperationQueryMutation> createTranslato
 					sqlDeleteAst.getRestriction()
 			);
 		}
-		return factory.getJdbcServices()
-				.getJdbcEnvironment()
-				.getSqlAstTranslatorFactory()
-				.buildMutationTranslator( factory, ast );
+		return ast;
 	}
 
 }
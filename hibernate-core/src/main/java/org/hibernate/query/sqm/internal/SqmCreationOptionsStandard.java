@@ -36,4 +36,9 @@ public boolean isXmlFunctionsEnabled() {
 	public boolean isPortableIntegerDivisionEnabled() {
 		return queryEngineOptions.isPortableIntegerDivisionEnabled();
 	}
+
+	@Override
+	public boolean isSimpleHqlInterpretationEnabled() {
+		return queryEngineOptions.isSimpleHqlInterpretationEnabled();
+	}
 }
@@ -4,18 +4,27 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.tree.SqmFingerprint;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
 import static java.lang.Boolean.TRUE;
@@ -32,25 +41,50 @@ public interface CacheabilityInfluencers {
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
 		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
+		QueryParameterBindings getQueryParameterBindings();
+		DomainParameterXref getDomainParameterXref();
+		SessionFactoryImplementor getSessionFactory();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
 		Class<?> getResultType();
+
+		/**
+		 * Whether the plan of a criteria query may be shared with other criteria
+		 * queries having the same {@linkplain SqmFingerprint structural fingerprint},
+		 * in which case the query executes the plan using
+		 * {@link ParameterRemappingSelectQueryPlan}.
+		 */
+		default boolean isFingerprintCacheable() {
+			return false;
+		}
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
 		if ( isCacheable ( keySource ) ) {
 			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
-					? keySource.getSqmStatement()
+					? criteriaQueryKey( keySource )
 					: keySource.getQueryString();
+			final List<Object> enabledFilters = enabledFiltersShape( keySource.getLoadQueryInfluencers() );
+			final Object appliedGraph = AppliedGraphs.fingerprint( keySource.getQueryOptions().getAppliedGraph() );
+			final List<Integer> bindValueCounts = keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE
+					? bindValueCounts( keySource )
+					: null;
+			int hash = query.hashCode();
+			hash = 31 * hash + Objects.hashCode( enabledFilters );
+			hash = 31 * hash + Objects.hashCode( appliedGraph );
+			hash = 31 * hash + Objects.hashCode( bindValueCounts );
 			return new SqmInterpretationsKey(
 					query,
-					query.hashCode(),
+					hash,
 					keySource.getResultType(),
 					keySource.getQueryOptions().getLockOptions(),
 					keySource.getQueryOptions().getTupleTransformer(),
 					keySource.getQueryOptions().getResultListTransformer(),
-					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() )
+					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() ),
+					enabledFilters,
+					appliedGraph,
+					bindValueCounts
 			);
 		}
 		else {
@@ -58,6 +92,32 @@ public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeyS
 		}
 	}
 
+	/**
+	 * A criteria query is identified by its structural fingerprint if possible, so
+	 * that the plan is reused for criteria queries of the same shape, independently
+	 * of the values of their parameters. Otherwise, the plan is only reused for the
+	 * very same SQM statement.
+	 */
+	private static Object criteriaQueryKey(InterpretationsKeySource keySource) {
+		final SqmStatement<?> statement = keySource.getSqmStatement();
+		if ( keySource.isFingerprintCacheable() ) {
+			final SqmFingerprint fingerprint = SqmFingerprint.of( statement );
+			// every parameter of the query must occur in the fingerprint,
+			// or it could not be matched with the parameters of the plan
+			if ( fingerprint != null
+					&& fingerprint.getParameters().size() == parameterCount( keySource.getQueryParameterBindings() ) ) {
+				return fingerprint;
+			}
+		}
+		return statement;
+	}
+
+	private static int parameterCount(QueryParameterBindings bindings) {
+		final int[] count = new int[1];
+		bindings.visitBindings( (parameter, binding) -> count[0]++ );
+		return count[0];
+	}
+
 	private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<String> set) {
 		if ( set == null ) {
 			return null;
@@ -77,32 +137,98 @@ private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<Stri
 		}
 	}
 
+	/**
+	 * The names of the enabled filters along with the "shape" of their parameters,
+	 * that is, the number of JDBC parameters each one renders to. The filter parameter
+	 * values themselves are not part of the key, since the values of the enabled
+	 * filters of the executing session are added to its parameter bindings.
+	 *
+	 * @see org.hibernate.internal.FilterJdbcParameter
+	 */
+	private static List<Object> enabledFiltersShape(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		final Map<String, Filter> enabledFilters = loadQueryInfluencers.getEnabledFilters();
+		final List<Object> shape = new ArrayList<>();
+		for ( Map.Entry<String, Filter> entry : enabledFilters.entrySet() ) {
+			shape.add( entry.getKey() );
+			final Filter filter = entry.getValue();
+			final FilterDefinition filterDefinition = filter.getFilterDefinition();
+			for ( String parameterName : filterDefinition.getParameterNames() ) {
+				final Object value = filter.getParameterValue( parameterName );
+				final JdbcMapping jdbcMapping = filterDefinition.getParameterJdbcMapping( parameterName );
+				if ( value instanceof Iterable<?> iterable
+						&& ( jdbcMapping == null || !jdbcMapping.getJavaTypeDescriptor().isInstance( value ) ) ) {
+					// a multivalued parameter is expanded to one JDBC parameter per element
+					shape.add( parameterName );
+					shape.add( size( iterable ) );
+				}
+			}
+		}
+		return shape;
+	}
+
+	private static int size(Iterable<?> iterable) {
+		if ( iterable instanceof Collection<?> collection ) {
+			return collection.size();
+		}
+		else {
+			int size = 0;
+			for ( Object ignored : iterable ) {
+				size++;
+			}
+			return size;
+		}
+	}
+
+	/**
+	 * The {@linkplain DomainParameterXref#getExpansionSize expansion size} of each
+	 * multi-valued parameter, in order of the parameter bindings, so that a plan is
+	 * cached per padding bucket of the parameters which are only expanded within
+	 * {@code in} lists, and per number of values of the others. Single-valued
+	 * bindings count as {@code -1}.
+	 */
+	private static List<Integer> bindValueCounts(InterpretationsKeySource keySource) {
+		final SessionFactoryImplementor factory = keySource.getSessionFactory();
+		final DomainParameterXref domainParameterXref = keySource.getDomainParameterXref();
+		final List<Integer> bindValueCounts = new ArrayList<>();
+		keySource.getQueryParameterBindings().visitBindings( (parameter, binding) -> {
+			if ( binding.isMultiValued() ) {
+				final int count = binding.getBindValues().size();
+				bindValueCounts.add( domainParameterXref.getExpansionSize( parameter, count, factory ) );
+			}
+			else {
+				bindValueCounts.add( -1 );
+			}
+		} );
+		return bindValueCounts;
+	}
+
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		// for now at least, skip caching Criteria-based plans
-		// - especially wrt parameters atm; this works with HQL because the
-		// parameters are part of the query string; with Criteria, they're not.
-		return keySource.isQueryPlanCacheable()
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
+		// Criteria-based plans are keyed by the SQM statement itself, unless sharing
+		// plans between criteria queries is enabled via CRITERIA_PLAN_CACHE_ENABLED.
+		// They are then keyed by a structural fingerprint of the SQM tree in which
+		// parameters are numbered, so that the plan can be executed with the
+		// parameters of another query.
+		// Note that enabled filters do not prevent caching: the filter names and the
+		// shape of their parameters are part of the key, and filter parameter values
+		// are bound when the statement is executed. Likewise, a structural fingerprint
+		// of the applied entity graph, and the (padded) number of values bound to
+		// multi-valued parameters are part of the key. The expansion of multi-valued
+		// parameters is local to the translation held by the cached plan.
+		return keySource.isQueryPlanCacheable();
 	}
 
+	/**
+	 * Non-select plans are keyed exactly like select plans. Note that only the plans
+	 * of "simple" (single-table) statements are actually cached, which is decided by
+	 * the query once the plan has been built.
+	 */
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+		return createInterpretationsKey( keyDetails );
 	}
 
 	private final Object query;
@@ -111,6 +237,9 @@ public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsK
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer<?> resultListTransformer;
 	private final Collection<String> enabledFetchProfiles;
+	private final List<Object> enabledFilters;
+	private final Object appliedGraph;
+	private final List<Integer> bindValueCounts;
 	private final int hashcode;
 
 	private SqmInterpretationsKey(
@@ -120,7 +249,10 @@ private SqmInterpretationsKey(
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer<?> resultListTransformer,
-			Collection<String> enabledFetchProfiles) {
+			Collection<String> enabledFetchProfiles,
+			List<Object> enabledFilters,
+			Object appliedGraph,
+			List<Integer> bindValueCounts) {
 		this.query = query;
 		this.hashcode = hash;
 		this.resultType = resultType;
@@ -128,6 +260,9 @@ private SqmInterpretationsKey(
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
 		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.enabledFilters = enabledFilters;
+		this.appliedGraph = appliedGraph;
+		this.bindValueCounts = bindValueCounts;
 	}
 
 	@Override
@@ -140,7 +275,10 @@ public QueryInterpretationCache.Key prepareForStore() {
 				lockOptions.makeDefensiveCopy(),
 				tupleTransformer,
 				resultListTransformer,
-				enabledFetchProfiles
+				enabledFetchProfiles,
+				enabledFilters,
+				appliedGraph,
+				bindValueCounts
 		);
 	}
 
@@ -149,6 +287,14 @@ public String getQueryString() {
 		return query instanceof String ? (String) query : null;
 	}
 
+	/**
+	 * The structural fingerprint of a criteria query, or {@code null} if the
+	 * query is not keyed by its fingerprint.
+	 */
+	public SqmFingerprint getFingerprint() {
+		return query instanceof SqmFingerprint fingerprint ? fingerprint : null;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -165,7 +311,10 @@ public boolean equals(Object o) {
 			&& Objects.equals( lockOptions, that.lockOptions )
 			&& Objects.equals( tupleTransformer, that.tupleTransformer )
 			&& Objects.equals( resultListTransformer, that.resultListTransformer )
-			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles );
+			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles )
+			&& Objects.equals( enabledFilters, that.enabledFilters )
+			&& Objects.equals( appliedGraph, that.appliedGraph )
+			&& Objects.equals( bindValueCounts, that.bindValueCounts );
 	}
 
 	@Override
@@ -4,6 +4,9 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -33,6 +36,8 @@ public static SqmJdbcExecutionContextAdapter usingLockingAndPaging(DomainQueryEx
 
 	private final DomainQueryExecutionContext sqmExecutionContext;
 	private final QueryOptions queryOptions;
+	// captured here since scrolled results are read after the query returned
+	private final Consumer<EntityKey> loadedEntityKeyConsumer;
 
 	private SqmJdbcExecutionContextAdapter(DomainQueryExecutionContext sqmExecutionContext) {
 		this( sqmExecutionContext, omitSqlQueryOptions( sqmExecutionContext.getQueryOptions() ) );
@@ -42,6 +47,7 @@ private SqmJdbcExecutionContextAdapter(DomainQueryExecutionContext sqmExecutionC
 		super( sqmExecutionContext.getSession() );
 		this.sqmExecutionContext = sqmExecutionContext;
 		this.queryOptions = queryOptions;
+		this.loadedEntityKeyConsumer = sqmExecutionContext.getLoadedEntityKeyConsumer();
 	}
 
 	public SqmJdbcExecutionContextAdapter(DomainQueryExecutionContext sqmExecutionContext, JdbcOperationQuerySelect jdbcSelect) {
@@ -68,6 +74,11 @@ public boolean hasCallbackActions() {
 		return sqmExecutionContext.hasCallbackActions();
 	}
 
+	@Override
+	public Consumer<EntityKey> getLoadedEntityKeyConsumer() {
+		return loadedEntityKeyConsumer;
+	}
+
 	@Override
 	public boolean hasQueryExecutionToBeAddedToStatistics() {
 		return true;
@@ -11,6 +11,7 @@
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -34,6 +35,7 @@
 import org.hibernate.query.Order;
 import org.hibernate.query.Page;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.RowView;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
 import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
 import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
@@ -42,7 +44,6 @@
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -61,6 +62,7 @@
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ResultsConsumer;
+import org.hibernate.sql.results.spi.RowViewResultsConsumer;
 import org.hibernate.sql.results.spi.SingleResultConsumer;
 import org.hibernate.type.descriptor.java.JavaType;
 
@@ -77,6 +79,7 @@
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptions;
 import static org.hibernate.query.sqm.internal.KeyBasedPagination.paginate;
+import static org.hibernate.query.sqm.internal.KeyBasedPagination.paginateByParameters;
 import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.createInterpretationsKey;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToResultType;
 import static org.hibernate.query.sqm.tree.SqmCopyContext.noParamCopyContext;
@@ -97,6 +100,8 @@
 	private final Class<?> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private boolean keyedPageStatement;
+
 	public SqmSelectionQueryImpl(
 			String hql,
 			HqlInterpretation<R> hqlInterpretation,
@@ -188,24 +193,53 @@ public SqmSelectionQueryImpl(
 	}
 
 	<E> SqmSelectionQueryImpl(AbstractSqmSelectionQuery<?> original, KeyedPage<E> keyedPage) {
-		super( original );
+		this(
+				original,
+				paginate(
+						appliedKeyDefinition( keyedPage ),
+						keyedPage.getKey(),
+						copyForPagination( original ),
+						original.getSqmStatement().nodeBuilder()
+				)
+		);
 
 		final Page page = keyedPage.getPage();
-		final List<Comparable<?>> key = keyedPage.getKey();
-		final List<Order<? super E>> keyDefinition = keyedPage.getKeyDefinition();
-		final List<Order<? super E>> appliedKeyDefinition =
-				keyedPage.getKeyInterpretation() == KEY_OF_FIRST_ON_NEXT_PAGE
-						? Order.reverse( keyDefinition ) : keyDefinition;
+		setMaxResults( page.getMaxResults() + 1 );
+		if ( keyedPage.getKey() == null ) {
+			setFirstResult( page.getFirstResult() );
+		}
+	}
 
-		//noinspection unchecked
-		sqm = (SqmSelectStatement<R>) paginate(
-				appliedKeyDefinition,
-				key,
-				// Change the query source to CRITERIA, because we will change the query and introduce parameters
-				(SqmSelectStatement<KeyedResult<E>>) original.getSqmStatement()
-						.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) ),
-				original.getSqmStatement().nodeBuilder()
+	/**
+	 * A query for the pages following a page of key-based pagination, each of
+	 * which is located by binding the key of the last result on the previous
+	 * page to the given {@code keyParameters}.
+	 */
+	<E> SqmSelectionQueryImpl(
+			AbstractSqmSelectionQuery<?> original,
+			List<Order<? super E>> keyDefinition,
+			List<JpaCriteriaParameter<?>> keyParameters,
+			int pageSize) {
+		this(
+				original,
+				paginateByParameters(
+						keyDefinition,
+						keyParameters,
+						copyForPagination( original ),
+						original.getSqmStatement().nodeBuilder()
+				)
 		);
+
+		setMaxResults( pageSize + 1 );
+		setFirstResult( 0 );
+		keyedPageStatement = true;
+	}
+
+	private <E> SqmSelectionQueryImpl(AbstractSqmSelectionQuery<?> original, SqmSelectStatement<KeyedResult<E>> paginated) {
+		super( original );
+
+		//noinspection unchecked
+		sqm = (SqmSelectStatement<R>) (SqmSelectStatement<?>) paginated;
 		hql = CRITERIA_HQL_STRING;
 
 		domainParameterXref = DomainParameterXref.from( sqm );
@@ -228,11 +262,20 @@ <E> SqmSelectionQueryImpl(AbstractSqmSelectionQuery<?> original, KeyedPage<E> ke
 		expectedResultType = (Class<R>) KeyedResult.class;
 		resultType = determineResultType( sqm, expectedResultType );
 		tupleMetadata = null;
+	}
 
-		setMaxResults( page.getMaxResults() + 1 );
-		if ( key == null ) {
-			setFirstResult( page.getFirstResult() );
-		}
+	private static <E> List<Order<? super E>> appliedKeyDefinition(KeyedPage<E> keyedPage) {
+		final List<Order<? super E>> keyDefinition = keyedPage.getKeyDefinition();
+		return keyedPage.getKeyInterpretation() == KEY_OF_FIRST_ON_NEXT_PAGE
+				? Order.reverse( keyDefinition )
+				: keyDefinition;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> SqmSelectStatement<KeyedResult<E>> copyForPagination(AbstractSqmSelectionQuery<?> original) {
+		// Change the query source to CRITERIA, because we will change the query and introduce parameters
+		return (SqmSelectStatement<KeyedResult<E>>) original.getSqmStatement()
+				.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) );
 	}
 
 	private <T> void setBindValues(QueryParameter<?> parameter, QueryParameterBinding<T> binding) {
@@ -430,6 +473,13 @@ public <T> T executeQuery(ResultsConsumer<T, R> resultsConsumer) {
 		return resolveQueryPlan().executeQuery( this, resultsConsumer );
 	}
 
+	@Override
+	protected void doForEachRow(Consumer<? super RowView> action) {
+		if ( getQueryOptions().getEffectiveLimit().getMaxRowsJpa() != 0 ) {
+			resolveQueryPlan().executeQuery( this, new RowViewResultsConsumer<>( action ) );
+		}
+	}
+
 	@Override
 	public Class<R> getExpectedResultType() {
 		return expectedResultType;
@@ -439,10 +489,9 @@ public Class<R> getExpectedResultType() {
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
+		final SqmInterpretationsKey cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSessionFactory().getQueryEngine().getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return resolveSelectQueryPlan( cacheKey );
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -577,6 +626,11 @@ public SqmSelectionQuery<R> setQueryPlanCacheable(boolean queryPlanCacheable) {
 
 	@Override
 	public boolean isQueryPlanCacheable() {
+		if ( keyedPageStatement ) {
+			// the same statement is executed for every page,
+			// so its plan is cached unless explicitly disabled
+			return super.isQueryPlanCacheable();
+		}
 		return CRITERIA_HQL_STRING.equals( hql )
 				// For criteria queries, query plan caching requires an explicit opt-in
 				? getQueryOptions().getQueryPlanCachingEnabled() == Boolean.TRUE
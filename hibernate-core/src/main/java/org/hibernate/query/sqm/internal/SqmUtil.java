@@ -551,12 +551,25 @@ else if ( domainParamBinding.isMultiValued() ) {
 
 					// and then one for each of the expansions
 					final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
-					final int expansionCount = bindValues.size() - 1;
 					final int parameterUseCount = jdbcParamsBinds.size();
-					assert expansions.size() == expansionCount * parameterUseCount;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final Object expandedValue = valueItr.next();
+					// there might be more expansions than values when the in list was padded,
+					// in which case the last value is repeated for the padding expansions
+					final int expansionCount = parameterUseCount == 0 ? 0 : expansions.size() / parameterUseCount;
+					if ( expansionCount * parameterUseCount != expansions.size()
+							|| parameterUseCount > 0 && expansionCount < bindValues.size() - 1 ) {
+						throw new IllegalStateException( String.format(
+								"Multi-valued parameter [%s] was bound to %s values, but the translated statement has %s expansions for %s uses of the parameter",
+								queryParam,
+								bindValues.size(),
+								expansions.size(),
+								parameterUseCount
+						) );
+					}
+					Object expandedValue = firstValue;
+					for ( int expansionPosition = 0; expansionPosition < expansionCount; expansionPosition++ ) {
+						if ( valueItr.hasNext() ) {
+							expandedValue = valueItr.next();
+						}
 						for ( int j = 0; j < parameterUseCount; j++ ) {
 							final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition + j * expansionCount );
 							final List<JdbcParametersList> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
@@ -573,7 +586,6 @@ else if ( domainParamBinding.isMultiValued() ) {
 								);
 							}
 						}
-						expansionPosition++;
 					}
 				}
 				else {
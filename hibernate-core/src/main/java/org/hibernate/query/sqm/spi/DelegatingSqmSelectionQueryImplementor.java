@@ -11,6 +11,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -29,6 +31,7 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.QueryFlushMode;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.RowView;
 import org.hibernate.query.restriction.Restriction;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.SqmSelectionQuery;
@@ -116,6 +119,11 @@ public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
 		return getDelegate().getKeyedResultList( page );
 	}
 
+	@Override
+	public Stream<R> getKeyedResultStream(KeyedPage<R> page) {
+		return getDelegate().getKeyedResultStream( page );
+	}
+
 	@Override
 	public ScrollableResults<R> scroll() {
 		return getDelegate().scroll();
@@ -136,6 +144,21 @@ public Stream<R> stream() {
 		return getDelegate().stream();
 	}
 
+	@Override
+	public Stream<R> getDetachedResultStream() {
+		return getDelegate().getDetachedResultStream();
+	}
+
+	@Override
+	public Flow.Publisher<R> getResultPublisher() {
+		return getDelegate().getResultPublisher();
+	}
+
+	@Override
+	public void forEachRow(Consumer<? super RowView> action) {
+		getDelegate().forEachRow( action );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return getDelegate().uniqueResult();
@@ -46,6 +46,7 @@
 import org.hibernate.id.CompositeNestedGeneratedValueGenerator;
 import org.hibernate.id.OptimizableGenerator;
 import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
@@ -5934,6 +5935,7 @@ protected Expression consumeSqmParameter(SqmParameter<?> sqmParameter) {
 	private SqlTuple expandParameter(SqmParameter<?> sqmParameter, QueryParameterBinding<?> domainParamBinding, QueryParameterImplementor<?> domainParam) {
 		final Collection<?> bindValues = domainParamBinding.getBindValues();
 		final List<Expression> expressions = new ArrayList<>( bindValues.size() );
+		domainParameterXref.addUnpaddedExpansion( domainParam );
 		boolean first = true;
 		for ( Object bindValue : bindValues ) {
 			final SqmParameter<?> sqmParamToConsume;
@@ -8183,13 +8185,29 @@ private InListPredicate processInSingleParameter(
 		try {
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
 			iterator.next();
+			int bindValueCount = 1;
 			while ( iterator.hasNext() ) {
 				iterator.next();
+				bindValueCount++;
 				// for each bind value create an "expansion"
 				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
+			if ( creationContext.getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+				// create the padding expansions up front, so that the translation may be
+				// reused for any number of bind values with the same padded size
+				final int paddedCount =
+						MathHelper.inClausePaddedSize( bindValueCount, getDialect().getInExpressionCountLimit() );
+				for ( int i = bindValueCount; i < paddedCount; i++ ) {
+					final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
+					domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+					inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
+				}
+			}
+			else {
+				domainParameterXref.addUnpaddedExpansion( domainParam );
+			}
 			return inListPredicate;
 		}
 		finally {
@@ -8808,6 +8826,7 @@ public List<Expression> expandSelfRenderingFunctionMultiValueParameter(SqmParame
 		final Collection<?> bindValues = domainParamBinding.getBindValues();
 		final int bindValuesSize = bindValues.size();
 		final List<Expression> result = new ArrayList<>( bindValuesSize );
+		domainParameterXref.addUnpaddedExpansion( domainParam );
 
 		boolean first = true;
 		for ( int i = 0; i < bindValuesSize; i++ ) {
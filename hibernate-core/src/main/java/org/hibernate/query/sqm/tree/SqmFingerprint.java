@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.tree;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Internal;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A structural fingerprint of an SQM statement, used to key the query plans
+ * of criteria queries.
+ * <p>
+ * The fingerprint is the {@linkplain SqmVisitableNode#appendHqlString HQL rendering}
+ * of the statement, with the following differences, so that two criteria queries
+ * of the same "shape" have equal fingerprints:
+ * <ul>
+ *     <li>generated aliases are numbered in order of appearance instead of being
+ *     derived from the identity of the node, and are not assigned to the node,</li>
+ *     <li>criteria parameters, including the parameters created for values when
+ *     {@link org.hibernate.query.criteria.ValueHandlingMode#BIND} is used, are
+ *     numbered in order of appearance, and their values are not rendered, and</li>
+ *     <li>the types of parameters and literals are rendered.</li>
+ * </ul>
+ * The criteria parameters are collected in order of appearance, so that the
+ * parameters of a query can be matched with the parameters of another query
+ * with an equal fingerprint.
+ */
+@Internal
+public final class SqmFingerprint {
+	private static final ThreadLocal<Renderer> RENDERER = new ThreadLocal<>();
+
+	private final String fingerprint;
+	private final List<QueryParameterImplementor<?>> parameters;
+
+	private SqmFingerprint(String fingerprint, List<QueryParameterImplementor<?>> parameters) {
+		this.fingerprint = fingerprint;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Compute the fingerprint of the given statement.
+	 *
+	 * @return the fingerprint, or {@code null} if the statement contains nodes
+	 * which cannot be rendered
+	 */
+	public static @Nullable SqmFingerprint of(SqmStatement<?> statement) {
+		final Renderer previous = RENDERER.get();
+		final Renderer renderer = new Renderer();
+		RENDERER.set( renderer );
+		try {
+			final StringBuilder hql = new StringBuilder();
+			statement.appendHqlString( hql );
+			return new SqmFingerprint( hql.toString(), renderer.parameters );
+		}
+		catch (UnsupportedOperationException e) {
+			return null;
+		}
+		finally {
+			if ( previous == null ) {
+				RENDERER.remove();
+			}
+			else {
+				RENDERER.set( previous );
+			}
+		}
+	}
+
+	/**
+	 * The alias to render for the given node which has no explicit alias,
+	 * or {@code null} if no fingerprint is being computed by this thread.
+	 */
+	public static @Nullable String generatedAlias(SqmNode node) {
+		final Renderer renderer = RENDERER.get();
+		return renderer == null ? null : renderer.alias( node );
+	}
+
+	/**
+	 * Render the given criteria parameter, if a fingerprint is being computed
+	 * by this thread.
+	 *
+	 * @return {@code true} if the parameter was rendered
+	 */
+	public static boolean appendParameter(StringBuilder hql, JpaCriteriaParameter<?> parameter) {
+		final Renderer renderer = RENDERER.get();
+		if ( renderer == null ) {
+			return false;
+		}
+		hql.append( ":#" ).append( renderer.position( parameter ) );
+		final SqmExpressible<?> type = parameter.getNodeType();
+		if ( type != null ) {
+			appendType( hql, type.getExpressibleJavaType() );
+		}
+		return true;
+	}
+
+	/**
+	 * Render the type of a literal, if a fingerprint is being computed by this thread.
+	 */
+	public static void appendLiteralType(StringBuilder hql, @Nullable JavaType<?> javaType) {
+		if ( javaType != null && RENDERER.get() != null ) {
+			appendType( hql, javaType );
+		}
+	}
+
+	private static void appendType(StringBuilder hql, @Nullable JavaType<?> javaType) {
+		if ( javaType != null ) {
+			hql.append( '<' ).append( javaType.getTypeName() ).append( '>' );
+		}
+	}
+
+	/**
+	 * The criteria parameters of the statement in order of appearance.
+	 */
+	public List<QueryParameterImplementor<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o
+			|| o instanceof SqmFingerprint that && fingerprint.equals( that.fingerprint );
+	}
+
+	@Override
+	public int hashCode() {
+		return fingerprint.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return fingerprint;
+	}
+
+	private static final class Renderer {
+		private final Map<SqmNode, String> aliases = new IdentityHashMap<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> positions = new IdentityHashMap<>();
+		private final List<QueryParameterImplementor<?>> parameters = new ArrayList<>();
+
+		private String alias(SqmNode node) {
+			return aliases.computeIfAbsent( node, n -> "#alias" + aliases.size() );
+		}
+
+		private int position(JpaCriteriaParameter<?> parameter) {
+			return positions.computeIfAbsent( parameter, p -> {
+				parameters.add( p );
+				return parameters.size();
+			} );
+		}
+	}
+}
@@ -36,6 +36,7 @@
 import org.hibernate.query.sqm.SqmPathSource;
 import org.hibernate.query.sqm.spi.SqmCreationHelper;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmFingerprint;
 import org.hibernate.query.sqm.tree.SqmJoinType;
 import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
 import org.hibernate.query.sqm.tree.expression.SqmSetReturningFunction;
@@ -961,8 +962,14 @@ public <S extends T> SqmTreatedFrom<O,T,S> treatAs(EntityDomainType<S> treatTarg
 	@Override
 	public void appendHqlString(StringBuilder hql) {
 		if ( alias == null ) {
-			// If we don't have an alias, this is the best we can do to at least ensure uniqueness
-			hql.append( "alias_" ).append( System.identityHashCode( this ) );
+			final String generatedAlias = SqmFingerprint.generatedAlias( this );
+			if ( generatedAlias != null ) {
+				hql.append( generatedAlias );
+			}
+			else {
+				// If we don't have an alias, this is the best we can do to at least ensure uniqueness
+				hql.append( "alias_" ).append( System.identityHashCode( this ) );
+			}
 		}
 		else {
 			hql.append( alias );
@@ -23,6 +23,7 @@
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.SqmPathSource;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmFingerprint;
 import org.hibernate.query.sqm.tree.expression.SqmExpression;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.spi.NavigablePath;
@@ -72,6 +73,11 @@ default String resolveAlias() {
 		if ( explicitAlias != null ) {
 			return explicitAlias;
 		}
+		final String fingerprintAlias = SqmFingerprint.generatedAlias( this );
+		if ( fingerprintAlias != null ) {
+			// don't assign aliases while computing a fingerprint
+			return fingerprintAlias;
+		}
 		final String generatedAlias = "alias_" + System.identityHashCode( this );
 		setExplicitAlias( generatedAlias );
 		return generatedAlias;
@@ -15,6 +15,7 @@
 import org.hibernate.query.sqm.SemanticQueryWalker;
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmFingerprint;
 
 /**
  * {@link JpaParameterExpression} created via JPA {@link jakarta.persistence.criteria.CriteriaBuilder}.
@@ -139,7 +140,9 @@ public NamedCallableQueryMemento.ParameterMemento toMemento() {
 
 	@Override
 	public void appendHqlString(StringBuilder hql) {
-		hql.append( ':' ).append( getName() );
+		if ( !SqmFingerprint.appendParameter( hql, this ) ) {
+			hql.append( ':' ).append( getName() );
+		}
 	}
 
 	@Override
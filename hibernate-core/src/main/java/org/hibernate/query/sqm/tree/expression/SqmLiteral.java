@@ -9,6 +9,7 @@
 import org.hibernate.query.sqm.SemanticQueryWalker;
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmFingerprint;
 import org.hibernate.type.descriptor.java.JavaType;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -73,6 +74,7 @@ public String asLoggableText() {
 	@Override
 	public void appendHqlString(StringBuilder hql) {
 		appendHqlString( hql, getJavaTypeDescriptor(), getLiteralValue() );
+		SqmFingerprint.appendLiteralType( hql, getJavaTypeDescriptor() );
 	}
 
 	public static <T> void appendHqlString(StringBuilder sb, JavaType<T> javaType, @Nullable T value) {
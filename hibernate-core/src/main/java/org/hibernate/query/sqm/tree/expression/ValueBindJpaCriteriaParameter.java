@@ -7,6 +7,7 @@
 import org.hibernate.query.BindableType;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmFingerprint;
 
 /**
  * It is a JpaCriteriaParameter created from a value when ValueHandlingMode is equal to BIND
@@ -41,7 +42,9 @@ public T getValue() {
 
 	@Override
 	public void appendHqlString(StringBuilder hql) {
-		hql.append( value );
+		if ( !SqmFingerprint.appendParameter( hql, this ) ) {
+			hql.append( value );
+		}
 	}
 
 	@Override
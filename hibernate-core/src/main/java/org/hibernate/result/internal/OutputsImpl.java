@@ -243,8 +243,13 @@ public boolean shouldReturnProxies() {
 				return results;
 			}
 			finally {
-				rowReader.finishUp( rowProcessingState );
-				jdbcValuesSourceProcessingState.finishUp( results.size() > 1 );
+				try {
+					rowReader.finishUp( rowProcessingState );
+					jdbcValuesSourceProcessingState.finishUp( results.size() > 1 );
+				}
+				finally {
+					rowReader.release();
+				}
 			}
 		}
 		finally {
@@ -753,6 +753,19 @@ private static CteContainer matchCteContainerByStatement(final Statement stmt, f
 		return null;
 	}
 
+	private Limit translatedLimit(Limit limit) {
+		if ( limit == null ) {
+			return null;
+		}
+		else if ( !limit.isEmpty() && isAlwaysBindPaginationEnabled() ) {
+			// render both offset and fetch parameters, so that all pages share the same SQL
+			return new Limit( limit.getFirstRowJpa(), limit.getMaxRowsJpa() );
+		}
+		else {
+			return limit.makeCopy();
+		}
+	}
+
 	@Override
 	public T translate(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		try {
@@ -765,7 +778,7 @@ public T translate(JdbcParameterBindings jdbcParameterBindings, QueryOptions que
 			}
 
 			this.lockOptions = queryOptions.getLockOptions().makeCopy();
-			this.limit = queryOptions.getLimit() == null ? null : queryOptions.getLimit().makeCopy();
+			this.limit = translatedLimit( queryOptions.getLimit() );
 			final JdbcOperation jdbcOperation;
 			if ( statement instanceof DeleteStatement ) {
 				jdbcOperation = translateDelete( (DeleteStatement) statement );
@@ -855,10 +868,15 @@ protected JdbcOperationQuerySelect translateSelect(SelectStatement selectStateme
 				getAppliedParameterBindings(),
 				getJdbcLockStrategy(),
 				getOffsetParameter(),
-				getLimitParameter()
+				getLimitParameter(),
+				isAlwaysBindPaginationEnabled()
 		);
 	}
 
+	private boolean isAlwaysBindPaginationEnabled() {
+		return sessionFactory.getSessionFactoryOptions().isAlwaysBindPaginationEnabled();
+	}
+
 	private JdbcValuesMappingProducer buildJdbcValuesMappingProducer(SelectStatement selectStatement) {
 		return getSessionFactory().getJdbcValuesMappingProducerProvider()
 				.buildMappingProducer( selectStatement, getSessionFactory() );
@@ -909,23 +927,28 @@ protected void prepareLimitOffsetParameters() {
 		if ( limit.getFirstRow() != null ) {
 			setOffsetParameter(
 					new OffsetJdbcParameter(
-							sessionFactory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class )
+							sessionFactory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class ),
+							isAlwaysBindPaginationEnabled()
 					)
 			);
 		}
 		if ( limit.getMaxRows() != null ) {
 			setLimitParameter(
 					new LimitJdbcParameter(
-							sessionFactory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class )
+							sessionFactory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class ),
+							isAlwaysBindPaginationEnabled()
 					)
 			);
 		}
 	}
 
 	private static class OffsetJdbcParameter extends AbstractJdbcParameter {
+		// whether a missing value is bound as the JPA default
+		private final boolean bindDefault;
 
-		public OffsetJdbcParameter(BasicType<Integer> type) {
+		public OffsetJdbcParameter(BasicType<Integer> type, boolean bindDefault) {
 			super( type );
+			this.bindDefault = bindDefault;
 		}
 
 		@Override
@@ -937,7 +960,9 @@ public void bindParameterValue(
 			//noinspection unchecked
 			getJdbcMapping().getJdbcValueBinder().bind(
 					statement,
-					executionContext.getQueryOptions().getLimit().getFirstRow(),
+					bindDefault
+							? executionContext.getQueryOptions().getLimit().getFirstRowJpa()
+							: executionContext.getQueryOptions().getLimit().getFirstRow(),
 					startPosition,
 					executionContext.getSession()
 			);
@@ -945,9 +970,12 @@ public void bindParameterValue(
 	}
 
 	private static class LimitJdbcParameter extends AbstractJdbcParameter {
+		// whether a missing value is bound as the JPA default
+		private final boolean bindDefault;
 
-		public LimitJdbcParameter(BasicType<Integer> type) {
+		public LimitJdbcParameter(BasicType<Integer> type, boolean bindDefault) {
 			super( type );
+			this.bindDefault = bindDefault;
 		}
 
 		@Override
@@ -959,7 +987,9 @@ public void bindParameterValue(
 			//noinspection unchecked
 			getJdbcMapping().getJdbcValueBinder().bind(
 					statement,
-					executionContext.getQueryOptions().getLimit().getMaxRows(),
+					bindDefault
+							? executionContext.getQueryOptions().getLimit().getMaxRowsJpa()
+							: executionContext.getQueryOptions().getLimit().getMaxRows(),
 					startPosition,
 					executionContext.getSession()
 			);
@@ -7673,25 +7703,42 @@ private int processFilterParameter(FilterFragmentParameter parameter, String sql
 
 		if ( value instanceof Iterable<?> iterable
 				&& !valueMapping.getJavaTypeDescriptor().isInstance( value ) ) {
-			processIterableFilterParameterValue( valueMapping, iterable.iterator() );
+			processIterableFilterParameterValue( parameter, valueMapping, iterable );
 		}
 		else {
-			processSingularFilterParameterValue( valueMapping, value );
+			visitParameterAsParameter( new FilterJdbcParameter(
+					valueMapping,
+					value,
+					parameter.getFilterName(),
+					parameter.getParameterName(),
+					-1,
+					-1
+			) );
 		}
 
 		return markerStart + marker.length();
 	}
 
-	private void processSingularFilterParameterValue(JdbcMapping valueMapping, Object value) {
-		visitParameterAsParameter( new FilterJdbcParameter( valueMapping, value ) );
-	}
-
-	private void processIterableFilterParameterValue(JdbcMapping valueMapping, Iterator<?> iterator) {
-		while ( iterator.hasNext() ) {
-			processSingularFilterParameterValue( valueMapping, iterator.next() );
-			if ( iterator.hasNext() ) {
+	private void processIterableFilterParameterValue(
+			FilterFragmentParameter parameter,
+			JdbcMapping valueMapping,
+			Iterable<?> iterable) {
+		final List<Object> values = new ArrayList<>();
+		for ( Object value : iterable ) {
+			values.add( value );
+		}
+		for ( int i = 0; i < values.size(); i++ ) {
+			if ( i > 0 ) {
 				appendSql( "," );
 			}
+			visitParameterAsParameter( new FilterJdbcParameter(
+					valueMapping,
+					values.get( i ),
+					parameter.getFilterName(),
+					parameter.getParameterName(),
+					i,
+					values.size()
+			) );
 		}
 	}
 
@@ -7834,15 +7881,7 @@ private void appendInClauseSeparator(InListPredicate inListPredicate) {
 	}
 
 	private static int addPadding(int bindValueCount, int inExprLimit) {
-		final int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
-		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
-			return ceilingPowerOfTwo;
-		}
-		else {
-			int numberOfInClauses = MathHelper.divideRoundingUp( bindValueCount, inExprLimit );
-			int numberOfInClausesWithPadding = MathHelper.ceilingPowerOfTwo( numberOfInClauses );
-			return numberOfInClausesWithPadding * inExprLimit;
-		}
+		return MathHelper.inClausePaddedSize( bindValueCount, inExprLimit );
 	}
 
 	@Override
@@ -4,8 +4,11 @@
  */
 package org.hibernate.sql.exec.spi;
 
+import java.util.function.Consumer;
+
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
@@ -74,6 +77,16 @@ default void registerLoadingEntityHolder(EntityHolder holder) {
 		// by default do nothing
 	}
 
+	/**
+	 * Receives the keys of the entities which were loaded by this execution, but not
+	 * those of entities which were already associated with the persistence context.
+	 *
+	 * @return the consumer, or {@code null} if the loaded entities are not tracked
+	 */
+	default Consumer<EntityKey> getLoadedEntityKeyConsumer() {
+		return null;
+	}
+
 	/**
 	 * Hook to allow delaying calls to {@link LogicalConnectionImplementor#afterStatement()}.
 	 * Mainly used in the case of batching and multi-table mutations
@@ -27,6 +27,10 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 	private final JdbcParameter offsetParameter;
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
+	private final boolean bindsDefaultPagination;
+
+	// The fetch size for the next execution, adapted to the row counts of previous executions
+	private volatile int adaptedFetchSize;
 
 	public JdbcOperationQuerySelect(
 			String sql,
@@ -58,6 +62,38 @@ public JdbcOperationQuerySelect(
 			JdbcLockStrategy jdbcLockStrategy,
 			JdbcParameter offsetParameter,
 			JdbcParameter limitParameter) {
+		this(
+				sql,
+				parameterBinders,
+				jdbcValuesMappingProducer,
+				affectedTableNames,
+				rowsToSkip,
+				maxRows,
+				appliedParameters,
+				jdbcLockStrategy,
+				offsetParameter,
+				limitParameter,
+				false
+		);
+	}
+
+	/**
+	 * @param bindsDefaultPagination Whether the offset and limit parameters bind the
+	 * JPA defaults for a missing first result or max results, as they do when
+	 * {@value org.hibernate.cfg.QuerySettings#ALWAYS_BIND_PAGINATION} is enabled
+	 */
+	public JdbcOperationQuerySelect(
+			String sql,
+			List<JdbcParameterBinder> parameterBinders,
+			JdbcValuesMappingProducer jdbcValuesMappingProducer,
+			Set<String> affectedTableNames,
+			int rowsToSkip,
+			int maxRows,
+			Map<JdbcParameter, JdbcParameterBinding> appliedParameters,
+			JdbcLockStrategy jdbcLockStrategy,
+			JdbcParameter offsetParameter,
+			JdbcParameter limitParameter,
+			boolean bindsDefaultPagination) {
 		super( sql, parameterBinders, affectedTableNames, appliedParameters );
 		this.jdbcValuesMappingProducer = jdbcValuesMappingProducer;
 		this.rowsToSkip = rowsToSkip;
@@ -65,6 +101,7 @@ public JdbcOperationQuerySelect(
 		this.jdbcLockStrategy = jdbcLockStrategy;
 		this.offsetParameter = offsetParameter;
 		this.limitParameter = limitParameter;
+		this.bindsDefaultPagination = bindsDefaultPagination;
 	}
 
 	public JdbcValuesMappingProducer getJdbcValuesMappingProducer() {
@@ -95,6 +132,37 @@ public JdbcLockStrategy getLockStrategy() {
 		return jdbcLockStrategy;
 	}
 
+	/**
+	 * The fetch size adapted to the number of rows read by previous executions
+	 * of this operation, or {@code 0} if no execution was recorded yet.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_MEMORY_BUDGET
+	 */
+	public int getAdaptedFetchSize() {
+		return adaptedFetchSize;
+	}
+
+	/**
+	 * Record the number of rows read by an execution of this operation, and adapt
+	 * the fetch size of the next execution to it. The fetch size grows immediately
+	 * to fit the largest recent result, and shrinks gradually, but never exceeds the
+	 * number of rows which fit into the memory budget.
+	 *
+	 * @param rowCount The number of rows read by the execution
+	 * @param estimatedRowSize The estimated size of a row, in bytes
+	 * @param memoryBudget The memory budget for the rows of a single round trip, in bytes
+	 */
+	public void adaptFetchSize(int rowCount, int estimatedRowSize, long memoryBudget) {
+		// one more row than expected, so that the driver need not go back for the end of the results
+		final long requiredFetchSize = rowCount + 1L;
+		final int previousFetchSize = adaptedFetchSize;
+		final long fetchSize = previousFetchSize == 0 || requiredFetchSize > previousFetchSize
+				? requiredFetchSize
+				: ( previousFetchSize + requiredFetchSize ) / 2;
+		final long maxFetchSize = Math.max( 1L, memoryBudget / Math.max( 1, estimatedRowSize ) );
+		adaptedFetchSize = (int) Math.min( Math.min( fetchSize, maxFetchSize ), Integer.MAX_VALUE );
+	}
+
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		if ( !appliedParameters.isEmpty() ) {
@@ -135,9 +203,14 @@ else if ( jdbcParameterBindings.getBinding( parameter ) == null ) {
 			}
 		}
 		final Limit limit = queryOptions.getLimit();
-		return ( offsetParameter != null || limitParameter != null || limit == null || limit.isEmpty() )
-			&& isCompatible( offsetParameter, limit == null ? null : limit.getFirstRow(), 0 )
-			&& isCompatible( limitParameter, limit == null ? null : limit.getMaxRows(), Integer.MAX_VALUE );
+		// When both the offset and the limit parameters are rendered, and bind their defaults,
+		// a missing value may be bound as its default, as long as pagination was requested at all
+		final boolean paginated = limit != null && !limit.isEmpty();
+		final boolean defaultable = bindsDefaultPagination && paginated
+				&& offsetParameter != null && limitParameter != null;
+		return ( offsetParameter != null || limitParameter != null || !paginated )
+			&& isCompatible( offsetParameter, limit == null ? null : limit.getFirstRow(), 0, defaultable )
+			&& isCompatible( limitParameter, limit == null ? null : limit.getMaxRows(), Integer.MAX_VALUE, defaultable );
 	}
 
 	private static boolean areEqualBindings(JdbcParameterBinding appliedBinding, JdbcParameterBinding binding) {
@@ -145,19 +218,18 @@ private static boolean areEqualBindings(JdbcParameterBinding appliedBinding, Jdb
 		return javaTypeDescriptor.areEqual( binding.getBindValue(), appliedBinding.getBindValue() );
 	}
 
-	private boolean isCompatible(JdbcParameter parameter, Integer requestedValue, int defaultValue) {
+	private boolean isCompatible(JdbcParameter parameter, Integer requestedValue, int defaultValue, boolean defaultable) {
 		if ( parameter == null ) {
 			return requestedValue == null;
 		}
 		else {
 			final JdbcParameterBinding jdbcParameterBinding = appliedParameters.get( parameter );
 			if ( jdbcParameterBinding == null ) {
-				// If this query includes the parameter this is only compatible when a requested value is given through the query options
+				// If this query includes the parameter this is only compatible when a requested value is given through the query options,
+				// or when the parameter binds the default for a missing value.
 				// If not, this query string contains limit/offset but the query options don't request that
 				// Considering this case compatible would lead to binding null for limit/offset which is invalid
-				// todo (6.0): maybe it's better if the presence/absence is part of the cache key the cache?
-				//  org.hibernate.query.internal.QueryInterpretationCacheStandardImpl.hqlInterpretationCache
-				return requestedValue != null;
+				return requestedValue != null || defaultable;
 			}
 			else {
 				final int value = requestedValue == null ? defaultValue : requestedValue;
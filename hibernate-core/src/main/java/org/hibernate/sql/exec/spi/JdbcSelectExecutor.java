@@ -8,11 +8,13 @@
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Incubating;
 import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
@@ -351,6 +353,11 @@ public boolean hasCallbackActions() {
 				return context.hasCallbackActions();
 			}
 
+			@Override
+			public Consumer<EntityKey> getLoadedEntityKeyConsumer() {
+				return context.getLoadedEntityKeyConsumer();
+			}
+
 			@Override
 			public Set<String> getEnabledFetchProfiles() {
 				return null;
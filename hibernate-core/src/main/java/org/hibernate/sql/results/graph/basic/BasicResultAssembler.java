@@ -81,6 +81,65 @@ public J assemble(
 		return (J) jdbcValue;
 	}
 
+	/**
+	 * Assemble a numeric value as a {@code long}, without boxing it if no
+	 * conversion applies and the JDBC values can be read as primitives.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isNull(RowProcessingState)
+	 */
+	public long assembleLong(RowProcessingState rowProcessingState) {
+		if ( !isPrimitiveAssemblySupported() ) {
+			final Object value = assemble( rowProcessingState );
+			return value == null ? 0L : ( (Number) value ).longValue();
+		}
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.getJdbcLongValue( valuesArrayPosition );
+	}
+
+	/**
+	 * Assemble a numeric value as a {@code double}, without boxing it if no
+	 * conversion applies and the JDBC values can be read as primitives.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isNull(RowProcessingState)
+	 */
+	public double assembleDouble(RowProcessingState rowProcessingState) {
+		if ( !isPrimitiveAssemblySupported() ) {
+			final Object value = assemble( rowProcessingState );
+			return value == null ? 0D : ( (Number) value ).doubleValue();
+		}
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.getJdbcDoubleValue( valuesArrayPosition );
+	}
+
+	/**
+	 * Whether the assembled value is null, without boxing it if no conversion applies.
+	 */
+	public boolean isNull(RowProcessingState rowProcessingState) {
+		if ( !isPrimitiveAssemblySupported() ) {
+			return assemble( rowProcessingState ) == null;
+		}
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.isJdbcValueNull( valuesArrayPosition );
+	}
+
+	/**
+	 * Whether the JDBC value is the assembled value, so that it
+	 * may be accessed as a primitive without being boxed.
+	 */
+	protected boolean isPrimitiveAssemblySupported() {
+		return valueConverter == null;
+	}
+
 	@Override
 	public void resolveState(RowProcessingState rowProcessingState) {
 		extractRawValue( rowProcessingState );
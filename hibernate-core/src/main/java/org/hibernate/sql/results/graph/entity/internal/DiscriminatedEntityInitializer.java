@@ -8,7 +8,6 @@
 
 import org.hibernate.Hibernate;
 import org.hibernate.engine.spi.EntityHolder;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.log.LoggingHelper;
@@ -166,10 +165,9 @@ public void resolveInstance(DiscriminatedEntityInitializerData data) {
 		data.setState( State.INITIALIZED );
 
 		final SharedSessionContractImplementor session = data.getRowProcessingState().getSession();
-		final EntityKey entityKey = new EntityKey( data.entityIdentifier, data.concreteDescriptor );
-
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-		final EntityHolder holder = persistenceContext.getEntityHolder( entityKey );
+		final EntityHolder holder =
+				persistenceContext.getEntityHolder( data.concreteDescriptor, data.entityIdentifier );
 		if ( holder != null ) {
 			final Object instance = holder.getEntity();
 			data.setInstance( instance );
@@ -808,7 +808,8 @@ private void deepCopy(EntityPersister containerDescriptor, Object[] source, Obje
 			if ( updatableAttributeMutabilityPlan[i] != null
 					&& sourceValue != LazyPropertyInitializer.UNFETCHED_PROPERTY
 					&& sourceValue != PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
-				target[i] = updatableAttributeMutabilityPlan[i].deepCopy( source[i] );
+				final Object digest = containerDescriptor.digestLoadedValue( i, sourceValue );
+				target[i] = digest != null ? digest : updatableAttributeMutabilityPlan[i].deepCopy( sourceValue );
 			}
 		}
 	}
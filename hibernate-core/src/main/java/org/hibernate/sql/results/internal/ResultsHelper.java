@@ -24,6 +24,7 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingResolutionImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
@@ -53,6 +54,10 @@ public static <R> RowReader<R> createRowReader(
 			Class<R> transformedResultJavaType,
 			JdbcValuesMapping jdbcValuesMapping) {
 		final JdbcValuesMappingResolution jdbcValuesMappingResolution = jdbcValuesMapping.resolveAssemblers( sessionFactory );
+		if ( jdbcValuesMappingResolution instanceof JdbcValuesMappingResolutionImpl ) {
+			return ( (JdbcValuesMappingResolutionImpl) jdbcValuesMappingResolution )
+					.acquireRowReader( rowTransformer, transformedResultJavaType );
+		}
 		return new StandardRowReader<>(
 				jdbcValuesMappingResolution,
 				rowTransformer,
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.LockMode;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.entity.EntityFetch;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+
+/**
+ * A {@link RowProcessingState} exposing JDBC values which were previously
+ * copied out of the current row of another processing state.  Allows to
+ * assemble rows which contain no initializers on a different thread than
+ * the one reading the {@link java.sql.ResultSet}.
+ *
+ * @see org.hibernate.cfg.QuerySettings#PARALLEL_ROW_MATERIALIZATION_BATCH_SIZE
+ */
+public class RowSnapshotProcessingState extends BaseExecutionContext implements RowProcessingState {
+	private final RowProcessingState processingState;
+	private Object[] jdbcValues;
+
+	public RowSnapshotProcessingState(RowProcessingState processingState) {
+		super( processingState.getSession() );
+		this.processingState = processingState;
+	}
+
+	/**
+	 * Copy the JDBC values of the current row of the given processing state.
+	 */
+	public static Object[] snapshot(RowProcessingState processingState, int rowSize) {
+		final Object[] jdbcValues = new Object[rowSize];
+		for ( int i = 0; i < rowSize; i++ ) {
+			jdbcValues[i] = processingState.getJdbcValue( i );
+		}
+		return jdbcValues;
+	}
+
+	public void setJdbcValues(Object[] jdbcValues) {
+		this.jdbcValues = jdbcValues;
+	}
+
+	@Override
+	public Object getJdbcValue(int position) {
+		return jdbcValues[position];
+	}
+
+	@Override
+	public void finishRowProcessing(boolean wasAdded) {
+		// the row was already finished when its values were copied
+	}
+
+	@Override
+	public RowProcessingState unwrap() {
+		// the delegate would expose the values of its current row, not of the snapshot
+		return this;
+	}
+
+	// -- delegate the rest
+
+	@Override
+	public <T extends InitializerData> T getInitializerData(int initializerId) {
+		return processingState.getInitializerData( initializerId );
+	}
+
+	@Override
+	public void setInitializerData(int initializerId, InitializerData state) {
+		processingState.setInitializerData( initializerId, state );
+	}
+
+	@Override
+	public JdbcValuesSourceProcessingState getJdbcValuesSourceProcessingState() {
+		return processingState.getJdbcValuesSourceProcessingState();
+	}
+
+	@Override
+	public LockMode determineEffectiveLockMode(String alias) {
+		return processingState.determineEffectiveLockMode( alias );
+	}
+
+	@Override
+	public boolean needsResolveState() {
+		return processingState.needsResolveState();
+	}
+
+	@Override
+	public RowReader<?> getRowReader() {
+		return processingState.getRowReader();
+	}
+
+	@Override
+	public void registerNonExists(EntityFetch fetch) {
+		processingState.registerNonExists( fetch );
+	}
+
+	@Override
+	public boolean isQueryCacheHit() {
+		return processingState.isQueryCacheHit();
+	}
+
+	@Override
+	public QueryOptions getQueryOptions() {
+		return processingState.getQueryOptions();
+	}
+
+	@Override
+	public QueryParameterBindings getQueryParameterBindings() {
+		return processingState.getQueryParameterBindings();
+	}
+
+	@Override
+	public String getQueryIdentifier(String sql) {
+		return processingState.getQueryIdentifier( sql );
+	}
+
+	@Override
+	public boolean isScrollResult() {
+		return processingState.isScrollResult();
+	}
+
+	@Override
+	public Callback getCallback() {
+		return processingState.getCallback();
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.query.RowView;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * Standard implementation of {@link RowView}.  Either assembles the values of
+ * the current row of a {@link RowProcessingState} on demand, or exposes the
+ * values of an already assembled result.
+ */
+public class RowViewImpl implements RowView {
+	private final DomainResultAssembler<?>[] resultAssemblers;
+	private final RowProcessingState rowProcessingState;
+	private final Object[] singleValue = new Object[1];
+	private Object[] values;
+
+	/**
+	 * Creates a view which assembles the values of the current row.
+	 */
+	public RowViewImpl(DomainResultAssembler<?>[] resultAssemblers, RowProcessingState rowProcessingState) {
+		this.resultAssemblers = resultAssemblers;
+		this.rowProcessingState = rowProcessingState;
+	}
+
+	/**
+	 * Creates a view of the results passed to {@link #setResult}.
+	 */
+	public RowViewImpl() {
+		this( null, null );
+	}
+
+	public void setResult(Object result) {
+		if ( result instanceof Object[] array ) {
+			values = array;
+		}
+		else {
+			singleValue[0] = result;
+			values = singleValue;
+		}
+	}
+
+	@Override
+	public int getColumnCount() {
+		return resultAssemblers == null ? values.length : resultAssemblers.length;
+	}
+
+	@Override
+	public Object get(int position) {
+		return resultAssemblers == null
+				? values[position]
+				: resultAssemblers[position].assemble( rowProcessingState );
+	}
+
+	@Override
+	public boolean isNull(int position) {
+		return resultAssemblers != null && resultAssemblers[position] instanceof BasicResultAssembler<?> assembler
+				? assembler.isNull( rowProcessingState )
+				: get( position ) == null;
+	}
+
+	@Override
+	public long getLong(int position) {
+		if ( resultAssemblers != null && resultAssemblers[position] instanceof BasicResultAssembler<?> assembler ) {
+			return assembler.assembleLong( rowProcessingState );
+		}
+		final Object value = get( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	@Override
+	public double getDouble(int position) {
+		if ( resultAssemblers != null && resultAssemblers[position] instanceof BasicResultAssembler<?> assembler ) {
+			return assembler.assembleDouble( rowProcessingState );
+		}
+		final Object value = get( position );
+		return value == null ? 0D : ( (Number) value ).doubleValue();
+	}
+}
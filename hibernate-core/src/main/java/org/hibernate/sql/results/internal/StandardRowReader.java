@@ -6,14 +6,18 @@
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.query.RowView;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerData;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingResolutionImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.sql.results.spi.RowReader;
@@ -40,11 +44,23 @@
 
 	private final ComponentType componentType;
 	private final Class<?> resultElementClass;
+	// The resolution to release this row reader to once it is finished up
+	private final @Nullable JdbcValuesMappingResolutionImpl owner;
+	// Whether this row reader was released since it was last acquired
+	private boolean released;
 
 	public StandardRowReader(
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
 			RowTransformer<T> rowTransformer,
 			Class<T> domainResultJavaType) {
+		this( jdbcValuesMappingResolution, rowTransformer, domainResultJavaType, null );
+	}
+
+	public StandardRowReader(
+			JdbcValuesMappingResolution jdbcValuesMappingResolution,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType,
+			@Nullable JdbcValuesMappingResolutionImpl owner) {
 		this(
 				jdbcValuesMappingResolution.getDomainResultAssemblers(),
 				jdbcValuesMappingResolution.getResultInitializers(),
@@ -52,7 +68,8 @@ public StandardRowReader(
 				jdbcValuesMappingResolution.getSortedForResolveInstance(),
 				jdbcValuesMappingResolution.hasCollectionInitializers(),
 				rowTransformer,
-				domainResultJavaType
+				domainResultJavaType,
+				owner
 		);
 	}
 
@@ -64,6 +81,27 @@ public StandardRowReader(
 			boolean hasCollectionInitializers,
 			RowTransformer<T> rowTransformer,
 			Class<T> domainResultJavaType) {
+		this(
+				resultAssemblers,
+				resultInitializers,
+				initializers,
+				sortedForResolveInitializers,
+				hasCollectionInitializers,
+				rowTransformer,
+				domainResultJavaType,
+				null
+		);
+	}
+
+	private StandardRowReader(
+			DomainResultAssembler<?>[] resultAssemblers,
+			Initializer<?>[] resultInitializers,
+			Initializer<?>[] initializers,
+			Initializer<?>[] sortedForResolveInitializers,
+			boolean hasCollectionInitializers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType,
+			@Nullable JdbcValuesMappingResolutionImpl owner) {
 		this.resultAssemblers = resultAssemblers;
 		this.resultInitializers = (Initializer<InitializerData>[]) resultInitializers;
 		this.resultInitializersData = new InitializerData[resultInitializers.length];
@@ -72,12 +110,9 @@ public StandardRowReader(
 		this.sortedForResolveInstance = (Initializer<InitializerData>[]) sortedForResolveInitializers;
 		this.sortedForResolveInstanceData = new InitializerData[sortedForResolveInstance.length];
 		this.hasCollectionInitializers = hasCollectionInitializers;
-		this.rowTransformer = rowTransformer == RowTransformerArrayImpl.instance() && resultAssemblers.length != 1
-				|| rowTransformer == RowTransformerStandardImpl.instance()
-				|| rowTransformer == RowTransformerSingularReturnImpl.instance() && resultAssemblers.length == 1
-				? null
-				: rowTransformer;
+		this.rowTransformer = effectiveRowTransformer( rowTransformer, resultAssemblers.length );
 		this.domainResultJavaType = domainResultJavaType;
+		this.owner = owner;
 		if ( domainResultJavaType == null
 				|| domainResultJavaType == Object[].class
 				|| domainResultJavaType == Object.class
@@ -93,6 +128,31 @@ public StandardRowReader(
 		}
 	}
 
+	private static <T> @Nullable RowTransformer<T> effectiveRowTransformer(
+			RowTransformer<T> rowTransformer,
+			int resultAssemblerCount) {
+		return rowTransformer == RowTransformerArrayImpl.instance() && resultAssemblerCount != 1
+				|| rowTransformer == RowTransformerStandardImpl.instance()
+				|| rowTransformer == RowTransformerSingularReturnImpl.instance() && resultAssemblerCount == 1
+				? null
+				: rowTransformer;
+	}
+
+	/**
+	 * Reacquire this released row reader for reading rows with the given row
+	 * transformer and result type, if it applies the same row transformation.
+	 *
+	 * @return whether this row reader was reacquired
+	 */
+	public boolean reacquireFor(RowTransformer<?> rowTransformer, Class<?> domainResultJavaType) {
+		if ( this.domainResultJavaType == domainResultJavaType
+				&& this.rowTransformer == effectiveRowTransformer( rowTransformer, resultAssemblers.length ) ) {
+			released = false;
+			return true;
+		}
+		return false;
+	}
+
 	@Override
 	public Class<T> getDomainResultResultJavaType() {
 		return domainResultJavaType;
@@ -160,6 +220,36 @@ public T readRow(RowProcessingState rowProcessingState) {
 		return result;
 	}
 
+	/**
+	 * Read the current row without assembling a result, and pass a view of it,
+	 * created by {@link #createRowView}, to the given action.  The values of the
+	 * row are only assembled when the action accesses them, and the row
+	 * transformer is not applied.
+	 */
+	public void visitRow(RowProcessingState rowProcessingState, RowView rowView, Consumer<? super RowView> action) {
+		coordinateInitializers( rowProcessingState );
+		action.accept( rowView );
+		finishUpRow();
+	}
+
+	/**
+	 * Read the current row, and return the values of its select items,
+	 * without applying the row transformer.
+	 */
+	public Object[] readRowValues(RowProcessingState rowProcessingState) {
+		coordinateInitializers( rowProcessingState );
+		final Object[] values = new Object[resultAssemblers.length];
+		for ( int i = 0; i < resultAssemblers.length; i++ ) {
+			values[i] = resultAssemblers[i].assemble( rowProcessingState );
+		}
+		finishUpRow();
+		return values;
+	}
+
+	public RowViewImpl createRowView(RowProcessingState rowProcessingState) {
+		return new RowViewImpl( resultAssemblers, rowProcessingState );
+	}
+
 	private T readPrimitiveRow(RowProcessingState rowProcessingState) {
 		// The following is ugly, but unfortunately necessary to not hurt performance.
 		// This implementation was micro-benchmarked and discussed with Francesco Nigro,
@@ -263,6 +353,18 @@ public void finishUp(RowProcessingState rowProcessingState) {
 		}
 	}
 
+	@Override
+	public void release() {
+		if ( owner != null && !released ) {
+			released = true;
+			// don't retain the state of this execution
+			Arrays.fill( resultInitializersData, null );
+			Arrays.fill( initializersData, null );
+			Arrays.fill( sortedForResolveInstanceData, null );
+			owner.releaseRowReader( this );
+		}
+	}
+
 	enum ComponentType {
 		BOOLEAN(boolean.class),
 		BYTE(byte.class),
@@ -22,16 +22,24 @@
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.type.SqlTypes;
+
+import static org.hibernate.type.SqlTypes.isNumericType;
+import static org.hibernate.type.SqlTypes.isTemporalType;
 
 /**
  * @author Steve Ebersole
@@ -191,6 +199,9 @@ protected void bindParameters(PreparedStatement preparedStatement) throws SQLExc
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else if ( jdbcSelect.getAdaptedFetchSize() > 0 ) {
+				preparedStatement.setFetchSize( jdbcSelect.getAdaptedFetchSize() );
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
@@ -342,11 +353,44 @@ public int getResultCountEstimate() {
 			return limit.getMaxRows();
 		}
 		if ( jdbcSelect.getLimitParameter() != null ) {
-			return (int) jdbcParameterBindings.getBinding( jdbcSelect.getLimitParameter() ).getBindValue();
+			// with hibernate.query.always_bind_pagination, the limit parameter
+			// may be rendered without max results, and then has no binding
+			final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( jdbcSelect.getLimitParameter() );
+			if ( binding != null ) {
+				return (int) binding.getBindValue();
+			}
 		}
 		if ( resultCountEstimate > 0 ) {
 			return resultCountEstimate;
 		}
 		return super.getResultCountEstimate();
 	}
+
+	@Override
+	public void recordRowCount(int rowCount, JdbcValuesMapping valuesMapping) {
+		final long memoryBudget = getFactory().getSessionFactoryOptions().getAdaptiveFetchSizeMemoryBudget();
+		if ( memoryBudget > 0 ) {
+			jdbcSelect.adaptFetchSize( rowCount, estimateRowSize( valuesMapping ), memoryBudget );
+		}
+	}
+
+	private static int estimateRowSize(JdbcValuesMapping valuesMapping) {
+		int rowSize = 0;
+		for ( SqlSelection sqlSelection : valuesMapping.getSqlSelections() ) {
+			rowSize += estimateValueSize( sqlSelection );
+		}
+		return rowSize;
+	}
+
+	private static int estimateValueSize(SqlSelection sqlSelection) {
+		final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+		if ( expressionType != null && expressionType.getJdbcTypeCount() == 1 ) {
+			final int sqlTypeCode = expressionType.getSingleJdbcMapping().getJdbcType().getDefaultSqlTypeCode();
+			if ( isNumericType( sqlTypeCode ) || isTemporalType( sqlTypeCode ) || sqlTypeCode == SqlTypes.BOOLEAN ) {
+				return 16;
+			}
+		}
+		// strings, binary data, and values of unknown type
+		return 128;
+	}
 }
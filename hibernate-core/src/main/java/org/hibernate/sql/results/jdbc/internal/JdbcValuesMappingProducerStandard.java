@@ -62,9 +62,6 @@ public JdbcValuesMapping resolve(
 		if ( resolvedSelections == null ) {
 			return resolvedMapping;
 		}
-		return new StandardJdbcValuesMapping(
-				resolvedSelections,
-				resolvedMapping.getDomainResults()
-		);
+		return new StandardJdbcValuesMapping( resolvedSelections, resolvedMapping );
 	}
 }
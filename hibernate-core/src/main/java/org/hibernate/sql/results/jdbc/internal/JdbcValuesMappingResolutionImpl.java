@@ -5,11 +5,14 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.internal.InitializersList;
+import org.hibernate.sql.results.internal.StandardRowReader;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
+import org.hibernate.sql.results.spi.RowTransformer;
 
 public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolution {
 
@@ -17,6 +20,9 @@ public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolut
 	private final Initializer<?>[] resultInitializers;
 	private final boolean hasCollectionInitializers;
 	private final InitializersList initializersList;
+	// A row reader which was released after its last use, and may be reused
+	// by the next execution instead of allocating a new one
+	private final AtomicReference<StandardRowReader<?>> releasedRowReader = new AtomicReference<>();
 
 	public JdbcValuesMappingResolutionImpl(
 			DomainResultAssembler<?>[] domainResultAssemblers,
@@ -69,4 +75,24 @@ public Initializer<?>[] getSortedForResolveInstance() {
 		return initializersList.getSortedForResolveInstance();
 	}
 
+	/**
+	 * Obtain a row reader for a single execution, reusing the last released
+	 * row reader if there is one and it applies the same row transformation.
+	 * The returned row reader is {@linkplain #releaseRowReader released}
+	 * when it is {@linkplain StandardRowReader#release released} by the
+	 * consumer of its results.
+	 */
+	public <R> StandardRowReader<R> acquireRowReader(RowTransformer<R> rowTransformer, Class<R> domainResultJavaType) {
+		final StandardRowReader<?> rowReader = releasedRowReader.getAndSet( null );
+		if ( rowReader != null && rowReader.reacquireFor( rowTransformer, domainResultJavaType ) ) {
+			//noinspection unchecked
+			return (StandardRowReader<R>) rowReader;
+		}
+		return new StandardRowReader<>( this, rowTransformer, domainResultJavaType, this );
+	}
+
+	public void releaseRowReader(StandardRowReader<?> rowReader) {
+		releasedRowReader.set( rowReader );
+	}
+
 }
@@ -26,6 +26,10 @@
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -34,6 +38,11 @@
  */
 public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
+	private static final byte OBJECT_VALUE = 0;
+	private static final byte INT_VALUE = 1;
+	private static final byte LONG_VALUE = 2;
+	private static final byte DOUBLE_VALUE = 3;
+
 	private final QueryCachePutManager queryCachePutManager;
 	private final ResultSet resultSet;
 	private final ResultSetAccess resultSetAccess;
@@ -45,12 +54,22 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final SqlSelection[] sqlSelections;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
+	// The kind of primitive value of each index, or null if no value can be read as a primitive.
+	// Primitive values are read into currentRowPrimitiveValues, doubles as their raw long bits,
+	// and are only boxed into currentRowJdbcValues when they are accessed as objects
+	private final byte[] primitiveKinds;
+	private final long[] currentRowPrimitiveValues;
+	private final BitSet primitiveIndexes;
+	private final BitSet nullIndexes;
 	private final int[] valueIndexesToCacheIndexes;
 	// Is only meaningful if valueIndexesToCacheIndexes is not null
 	// Contains the size of the row to cache, or if the value is negative,
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
 	private int resultCount;
+	// The number of rows read by next(), or -1 if the rows were read in any other way
+	private int rowCount;
+	private boolean exhausted;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
@@ -82,6 +101,18 @@ public JdbcValuesResultSetImpl(
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
+		// The query cache needs the boxed values anyway
+		this.primitiveKinds = queryCachePutManager == null ? determinePrimitiveKinds( sqlSelections ) : null;
+		if ( primitiveKinds == null ) {
+			this.currentRowPrimitiveValues = null;
+			this.primitiveIndexes = null;
+			this.nullIndexes = null;
+		}
+		else {
+			this.currentRowPrimitiveValues = new long[rowSize];
+			this.primitiveIndexes = new BitSet( rowSize );
+			this.nullIndexes = new BitSet( rowSize );
+		}
 		if ( queryCachePutManager == null ) {
 			this.valueIndexesToCacheIndexes = null;
 			this.rowToCacheSize = -1;
@@ -104,6 +135,38 @@ public JdbcValuesResultSetImpl(
 		}
 	}
 
+	private static byte[] determinePrimitiveKinds(SqlSelection[] sqlSelections) {
+		byte[] primitiveKinds = null;
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final byte primitiveKind = determinePrimitiveKind( sqlSelections[i] );
+			if ( primitiveKind != OBJECT_VALUE ) {
+				if ( primitiveKinds == null ) {
+					primitiveKinds = new byte[sqlSelections.length];
+				}
+				primitiveKinds[i] = primitiveKind;
+			}
+		}
+		return primitiveKinds;
+	}
+
+	private static byte determinePrimitiveKind(SqlSelection sqlSelection) {
+		// Only values read by the standard extractors may be read through the primitive ResultSet getters
+		if ( sqlSelection != null && sqlSelection.getJdbcValueExtractor() instanceof BasicExtractor<?> extractor ) {
+			final Class<?> javaTypeClass = extractor.getJavaType().getJavaTypeClass();
+			final Class<?> jdbcTypeClass = extractor.getJdbcType().getClass();
+			if ( javaTypeClass == Integer.class && jdbcTypeClass == IntegerJdbcType.class ) {
+				return INT_VALUE;
+			}
+			else if ( javaTypeClass == Long.class && jdbcTypeClass == BigIntJdbcType.class ) {
+				return LONG_VALUE;
+			}
+			else if ( javaTypeClass == Double.class && jdbcTypeClass == DoubleJdbcType.class ) {
+				return DOUBLE_VALUE;
+			}
+		}
+		return OBJECT_VALUE;
+	}
+
 	private int determineResultCountEstimate(
 			ResultSetAccess resultSetAccess,
 			QueryOptions queryOptions,
@@ -145,16 +208,27 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		return advance( advanceNext() );
+		final boolean hasResult = advanceNext();
+		if ( hasResult ) {
+			if ( rowCount >= 0 ) {
+				rowCount++;
+			}
+		}
+		else {
+			exhausted = true;
+		}
+		return advance( hasResult );
 	}
 
 	@Override
 	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		rowCount = -1;
 		return advance( advancePrevious() );
 	}
 
 	@Override
 	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		rowCount = -1;
 		return advance( scrollRows( numberOfRows ) );
 	}
 
@@ -179,6 +253,7 @@ public int getPosition() {
 
 	@Override
 	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		rowCount = -1;
 		return advance( advanceToPosition( position ) );
 	}
 
@@ -203,6 +278,7 @@ public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
 
 	@Override
 	public void beforeFirst(RowProcessingState rowProcessingState) {
+		rowCount = -1;
 		try {
 			resultSet.beforeFirst();
 			Arrays.fill( currentRowJdbcValues, null );
@@ -224,6 +300,7 @@ public boolean isFirst(RowProcessingState rowProcessingState) {
 
 	@Override
 	public boolean first(RowProcessingState rowProcessingState) {
+		rowCount = -1;
 		return advance( advanceToFirst() );
 	}
 
@@ -239,6 +316,7 @@ public boolean isAfterLast(RowProcessingState rowProcessingState) {
 
 	@Override
 	public void afterLast(RowProcessingState rowProcessingState) {
+		rowCount = -1;
 		try {
 			resultSet.afterLast();
 			Arrays.fill( currentRowJdbcValues, null );
@@ -260,6 +338,7 @@ public boolean isLast(RowProcessingState rowProcessingState) {
 
 	@Override
 	public boolean last(RowProcessingState rowProcessingState) {
+		rowCount = -1;
 		return advance( advanceToLast() );
 	}
 
@@ -325,6 +404,9 @@ private ExecutionException makeExecutionException(String message, SQLException c
 
 	public void readCurrentRowValues() {
 		initializedIndexes.clear();
+		if ( primitiveIndexes != null ) {
+			primitiveIndexes.clear();
+		}
 	}
 
 	@Override
@@ -332,6 +414,9 @@ public final void finishUp(SharedSessionContractImplementor session) {
 		if ( queryCachePutManager != null ) {
 			queryCachePutManager.finishUp( resultCount, session );
 		}
+		if ( exhausted && rowCount >= 0 ) {
+			resultSetAccess.recordRowCount( rowCount, valuesMapping );
+		}
 		resultSetAccess.release();
 	}
 
@@ -378,7 +463,12 @@ else if ( rowToCacheSize < 1 ) {
 
 	@Override
 	public Object getCurrentRowValue(int valueIndex) {
-		if ( !initializedIndexes.get( valueIndex ) ) {
+		if ( primitiveIndexes != null && primitiveIndexes.get( valueIndex ) ) {
+			// the value was read as a primitive, and is now needed as an object
+			primitiveIndexes.clear( valueIndex );
+			currentRowJdbcValues[valueIndex] = boxPrimitiveValue( valueIndex );
+		}
+		else if ( !initializedIndexes.get( valueIndex ) ) {
 			initializedIndexes.set( valueIndex );
 			final SqlSelection sqlSelection = sqlSelections[valueIndex];
 			try {
@@ -399,6 +489,76 @@ public Object getCurrentRowValue(int valueIndex) {
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	@Override
+	public long getCurrentRowLongValue(int valueIndex) {
+		if ( readPrimitiveValue( valueIndex ) ) {
+			final long value = currentRowPrimitiveValues[valueIndex];
+			return primitiveKinds[valueIndex] == DOUBLE_VALUE ? (long) Double.longBitsToDouble( value ) : value;
+		}
+		return super.getCurrentRowLongValue( valueIndex );
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		if ( readPrimitiveValue( valueIndex ) ) {
+			final long value = currentRowPrimitiveValues[valueIndex];
+			return primitiveKinds[valueIndex] == DOUBLE_VALUE ? Double.longBitsToDouble( value ) : value;
+		}
+		return super.getCurrentRowDoubleValue( valueIndex );
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int valueIndex) {
+		if ( readPrimitiveValue( valueIndex ) ) {
+			return nullIndexes.get( valueIndex );
+		}
+		return super.isCurrentRowValueNull( valueIndex );
+	}
+
+	/**
+	 * Reads the value at the given index into the primitive slot, unless it was already read.
+	 *
+	 * @return whether the value of the current row is available in the primitive slot
+	 */
+	private boolean readPrimitiveValue(int valueIndex) {
+		if ( primitiveKinds == null || primitiveKinds[valueIndex] == OBJECT_VALUE ) {
+			return false;
+		}
+		else if ( initializedIndexes.get( valueIndex ) ) {
+			return primitiveIndexes.get( valueIndex );
+		}
+		initializedIndexes.set( valueIndex );
+		final int jdbcResultSetIndex = sqlSelections[valueIndex].getJdbcResultSetIndex();
+		try {
+			currentRowPrimitiveValues[valueIndex] = switch ( primitiveKinds[valueIndex] ) {
+				case INT_VALUE -> resultSet.getInt( jdbcResultSetIndex );
+				case LONG_VALUE -> resultSet.getLong( jdbcResultSetIndex );
+				default -> Double.doubleToRawLongBits( resultSet.getDouble( jdbcResultSetIndex ) );
+			};
+			nullIndexes.set( valueIndex, resultSet.wasNull() );
+		}
+		catch ( SQLException e ) {
+			throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not extract column [" + jdbcResultSetIndex + "] from JDBC ResultSet"
+			);
+		}
+		primitiveIndexes.set( valueIndex );
+		return true;
+	}
+
+	private Object boxPrimitiveValue(int valueIndex) {
+		if ( nullIndexes.get( valueIndex ) ) {
+			return null;
+		}
+		final long value = currentRowPrimitiveValues[valueIndex];
+		return switch ( primitiveKinds[valueIndex] ) {
+			case INT_VALUE -> Integer.valueOf( (int) value );
+			case LONG_VALUE -> Long.valueOf( value );
+			default -> Double.valueOf( Double.longBitsToDouble( value ) );
+		};
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
@@ -8,9 +8,11 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.PostLoadEvent;
@@ -128,6 +130,15 @@ public void finishUp(boolean registerSubselects) {
 		// now we can finalize loading collections
 		finishLoadingCollections();
 
+		final Consumer<EntityKey> loadedEntityKeys = executionContext.getLoadedEntityKeyConsumer();
+		if ( loadedEntityKeys != null && loadingEntityHolders != null ) {
+			for ( EntityHolder holder : loadingEntityHolders ) {
+				if ( holder.getEntity() != null ) {
+					loadedEntityKeys.accept( holder.getEntityKey() );
+				}
+			}
+		}
+
 		getSession().getPersistenceContextInternal()
 				.postLoad( this,
 						registerSubselects ? executionContext::registerLoadingEntityHolder : null );
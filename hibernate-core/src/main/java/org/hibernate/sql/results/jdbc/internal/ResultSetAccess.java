@@ -11,6 +11,7 @@
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -38,6 +39,17 @@ default int getResultCountEstimate() {
 		return -1;
 	}
 
+	/**
+	 * Callback after all rows of the result set were read.
+	 *
+	 * @param rowCount The number of rows read
+	 * @param valuesMapping The mapping of the values read from the rows
+	 *
+	 * @since 7.0
+	 */
+	default void recordRowCount(int rowCount, JdbcValuesMapping valuesMapping) {
+	}
+
 	default int getColumnCount() {
 		try {
 			return getResultSet().getMetaData().getColumnCount();
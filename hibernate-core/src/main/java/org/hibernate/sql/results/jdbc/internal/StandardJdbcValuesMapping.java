@@ -45,13 +45,34 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 	// Contains the size of the row to cache, or if the value is negative,
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
+	// The mapping this one was resolved from, which shares the same domain results
+	private final StandardJdbcValuesMapping unresolvedMapping;
 	private JdbcValuesMappingResolutionImpl resolution;
 
 	public StandardJdbcValuesMapping(
 			List<SqlSelection> sqlSelections,
 			List<DomainResult<?>> domainResults) {
+		this( sqlSelections, domainResults, null );
+	}
+
+	/**
+	 * Creates a mapping for the {@linkplain SqlSelection#resolve resolved} selections
+	 * of the given mapping.  Since the assemblers and initializers only depend on the
+	 * domain results, the resolution of the unresolved mapping is reused.
+	 */
+	public StandardJdbcValuesMapping(
+			List<SqlSelection> resolvedSqlSelections,
+			StandardJdbcValuesMapping unresolvedMapping) {
+		this( resolvedSqlSelections, unresolvedMapping.getDomainResults(), unresolvedMapping );
+	}
+
+	private StandardJdbcValuesMapping(
+			List<SqlSelection> sqlSelections,
+			List<DomainResult<?>> domainResults,
+			StandardJdbcValuesMapping unresolvedMapping) {
 		this.sqlSelections = sqlSelections;
 		this.domainResults = domainResults;
+		this.unresolvedMapping = unresolvedMapping;
 
 		final int rowSize = sqlSelections.size();
 		final BitSet valueIndexesToCache = new BitSet( rowSize );
@@ -109,6 +130,9 @@ public boolean needsResolve() {
 
 	@Override
 	public JdbcValuesMappingResolution resolveAssemblers(SessionFactoryImplementor sessionFactory) {
+		if ( unresolvedMapping != null ) {
+			return unresolvedMapping.resolveAssemblers( sessionFactory );
+		}
 		final JdbcValuesMappingResolutionImpl resolution = this.resolution;
 		if ( resolution != null ) {
 			return resolution;
@@ -74,6 +74,39 @@ public interface JdbcValues {
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
+	/**
+	 * Get the JDBC value at the given index for the current row as a {@code long}.
+	 * Implementations may read integral values without boxing them.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 */
+	default long getCurrentRowLongValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Get the JDBC value at the given index for the current row as a {@code double}.
+	 * Implementations may read floating point values without boxing them.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 */
+	default double getCurrentRowDoubleValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0D : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Whether the JDBC value at the given index for the current row is null.
+	 */
+	default boolean isCurrentRowValueNull(int valueIndex) {
+		return getCurrentRowValue( valueIndex ) == null;
+	}
+
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
 	/**
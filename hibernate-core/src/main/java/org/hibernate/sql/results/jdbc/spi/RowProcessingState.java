@@ -56,6 +56,39 @@ default Object getJdbcValue(SqlSelection sqlSelection) {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Retrieve the value corresponding to the given index of the "current JDBC row"
+	 * as a {@code long}, avoiding boxing where the underlying source allows it.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isJdbcValueNull(int)
+	 */
+	default long getJdbcLongValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Retrieve the value corresponding to the given index of the "current JDBC row"
+	 * as a {@code double}, avoiding boxing where the underlying source allows it.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isJdbcValueNull(int)
+	 */
+	default double getJdbcDoubleValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0D : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Whether the value corresponding to the given index of the "current JDBC row" is null.
+	 */
+	default boolean isJdbcValueNull(int position) {
+		return getJdbcValue( position ) == null;
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
@@ -4,10 +4,14 @@
  */
 package org.hibernate.sql.results.spi;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -15,6 +19,7 @@
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.RowSnapshotProcessingState;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
@@ -196,7 +201,11 @@ else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
 				readRows = readUniqueAssert( rowProcessingState, rowReader, results );
 			}
 			else {
-				readRows = read( rowProcessingState, rowReader, results );
+				final int parallelBatchSize = parallelBatchSize( session, rowReader );
+				readRows = parallelBatchSize > 0
+						? readParallel( jdbcValues, rowProcessingState, rowReader, results, parallelBatchSize,
+								session.getFactory().getSessionFactoryOptions().getParallelRowMaterializationExecutor() )
+						: read( rowProcessingState, rowReader, results );
 			}
 
 			rowReader.finishUp( rowProcessingState );
@@ -230,6 +239,7 @@ else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
 				}
 			}
 			finally {
+				rowReader.release();
 				if ( ex != null ) {
 					throw ex;
 				}
@@ -251,6 +261,110 @@ private static <R> int read(
 		return readRows;
 	}
 
+	/**
+	 * Rows can only be assembled in parallel if assembling them doesn't
+	 * involve any initializers, which interact with the persistence context.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_ROW_MATERIALIZATION_BATCH_SIZE
+	 */
+	private static int parallelBatchSize(SharedSessionContractImplementor session, RowReader<?> rowReader) {
+		return rowReader.getInitializerCount() == 0
+				? session.getFactory().getSessionFactoryOptions().getParallelRowMaterializationBatchSize()
+				: 0;
+	}
+
+	/**
+	 * Reads the JDBC values of the rows on the current thread, and assembles
+	 * batches of rows on the given {@link Executor}, so that reading the next
+	 * batch overlaps with assembling the previous ones. Assembling a row calls
+	 * the converters and transformers of the query, which therefore must be
+	 * thread-safe.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_ROW_MATERIALIZATION_EXECUTOR
+	 */
+	private static <R> int readParallel(
+			JdbcValues jdbcValues,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			Results<R> results,
+			int batchSize,
+			Executor executor) {
+		final int rowSize = jdbcValues.getValuesMapping().getRowSize();
+		final int maxPendingBatches = Math.max( 2, Runtime.getRuntime().availableProcessors() * 2 );
+		final ArrayDeque<CompletableFuture<Object[]>> pendingBatches = new ArrayDeque<>( maxPendingBatches );
+		try {
+			int readRows = 0;
+			Object[][] batch = new Object[batchSize][];
+			int batchRows = 0;
+			while ( rowProcessingState.next() ) {
+				batch[batchRows++] = RowSnapshotProcessingState.snapshot( rowProcessingState, rowSize );
+				rowProcessingState.finishRowProcessing( true );
+				readRows++;
+				if ( batchRows == batchSize ) {
+					if ( pendingBatches.size() == maxPendingBatches ) {
+						addBatch( join( pendingBatches.poll() ), results );
+					}
+					final Object[][] rows = batch;
+					pendingBatches.add( CompletableFuture.supplyAsync(
+							() -> assembleBatch( rows, rows.length, rowProcessingState, rowReader ),
+							executor
+					) );
+					batch = new Object[batchSize][];
+					batchRows = 0;
+				}
+			}
+			while ( !pendingBatches.isEmpty() ) {
+				addBatch( join( pendingBatches.poll() ), results );
+			}
+			// the incomplete last batch is not worth handing off
+			addBatch( assembleBatch( batch, batchRows, rowProcessingState, rowReader ), results );
+			return readRows;
+		}
+		catch (RuntimeException e) {
+			for ( CompletableFuture<Object[]> pendingBatch : pendingBatches ) {
+				pendingBatch.cancel( false );
+			}
+			throw e;
+		}
+	}
+
+	private static Object[] join(CompletableFuture<Object[]> batch) {
+		try {
+			return batch.join();
+		}
+		catch (CompletionException e) {
+			// rethrow the failure of a converter or transformer as is
+			if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( e.getCause() instanceof Error error ) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	private static Object[] assembleBatch(
+			Object[][] rows,
+			int rowCount,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<?> rowReader) {
+		final RowSnapshotProcessingState snapshotProcessingState = new RowSnapshotProcessingState( rowProcessingState );
+		final Object[] assembled = new Object[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			snapshotProcessingState.setJdbcValues( rows[i] );
+			assembled[i] = rowReader.readRow( snapshotProcessingState );
+		}
+		return assembled;
+	}
+
+	private static <R> void addBatch(Object[] assembled, Results<R> results) {
+		for ( Object result : assembled ) {
+			//noinspection unchecked
+			results.add( (R) result );
+		}
+	}
+
 	private static <R> int readUniqueAssert(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
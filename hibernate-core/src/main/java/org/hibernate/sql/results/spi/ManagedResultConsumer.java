@@ -63,6 +63,7 @@ public Void consume(
 				}
 			}
 			finally {
+				rowReader.release();
 				if ( ex != null ) {
 					throw ex;
 				}
@@ -50,6 +50,18 @@
 	 */
 	void finishUp(RowProcessingState processingState);
 
+	/**
+	 * Called once the rows read have been completely processed, including
+	 * the {@linkplain org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState#finishUp
+	 * post-processing} of the loaded entities, after which this row reader
+	 * is not used by the current execution anymore. Calling this method
+	 * again has no effect.
+	 *
+	 * @since 7.0
+	 */
+	default void release() {
+	}
+
 	@Nullable EntityKey resolveSingleResultEntityKey(RowProcessingState rowProcessingState);
 
 	boolean hasCollectionInitializers();
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.RowView;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.RowViewImpl;
+import org.hibernate.sql.results.internal.StandardRowReader;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+/**
+ * Passes a reusable {@link RowView} of each row to an action, instead of producing a result.
+ * <p>
+ * Rows which contain no entities, embeddables or collections are exposed by a view which
+ * assembles values only when they are accessed. Otherwise, the values of the row are read
+ * and the loading of its entities is finished before the action is called, exactly as when
+ * the results are scrolled, and rows which only add elements to a fetched collection of the
+ * previous result are combined with it.
+ *
+ * @see org.hibernate.query.SelectionQuery#forEachRow
+ *
+ * @since 7.0
+ */
+@Incubating
+public class RowViewResultsConsumer<R> implements ResultsConsumer<Void, R> {
+
+	private final Consumer<? super RowView> action;
+
+	public RowViewResultsConsumer(Consumer<? super RowView> action) {
+		this.action = action;
+	}
+
+	@Override
+	public Void consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		if ( !( rowReader instanceof StandardRowReader<R> standardRowReader ) ) {
+			throw new IllegalArgumentException( "Unsupported row reader: " + rowReader );
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		RuntimeException ex = null;
+		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+		try {
+			rowReader.startLoading( rowProcessingState );
+			if ( rowReader.getInitializerCount() == 0 ) {
+				visitScalarRows( rowProcessingState, standardRowReader );
+			}
+			else {
+				visitRows( persistenceContext, jdbcValuesSourceProcessingState, rowProcessingState, standardRowReader );
+			}
+			rowReader.finishUp( rowProcessingState );
+			return null;
+		}
+		catch (RuntimeException e) {
+			ex = e;
+		}
+		finally {
+			try {
+				jdbcValues.finishUp( session );
+				persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+				persistenceContext.initializeNonLazyCollections();
+			}
+			catch (RuntimeException e) {
+				if ( ex != null ) {
+					ex.addSuppressed( e );
+				}
+				else {
+					ex = e;
+				}
+			}
+			finally {
+				rowReader.release();
+				if ( ex != null ) {
+					throw ex;
+				}
+			}
+		}
+		throw new IllegalStateException( "Should not reach this" );
+	}
+
+	/**
+	 * Rows without initializers don't load anything, so their values may be
+	 * assembled lazily, while the action accesses them.
+	 */
+	private void visitScalarRows(RowProcessingStateStandardImpl rowProcessingState, StandardRowReader<R> rowReader) {
+		final RowViewImpl rowView = rowReader.createRowView( rowProcessingState );
+		while ( rowProcessingState.next() ) {
+			rowReader.visitRow( rowProcessingState, rowView, action );
+			rowProcessingState.finishRowProcessing( true );
+		}
+	}
+
+	/**
+	 * Reads each row, and finishes loading its entities before passing it to the
+	 * action, like {@link org.hibernate.internal.ScrollableResultsImpl} and, for
+	 * collection fetches, {@link org.hibernate.internal.FetchingScrollableResultsImpl}.
+	 */
+	private void visitRows(
+			PersistenceContext persistenceContext,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			StandardRowReader<R> rowReader) {
+		final boolean combineRows = rowReader.hasCollectionInitializers();
+		final RowViewImpl rowView = new RowViewImpl();
+		boolean hasRow = rowProcessingState.next();
+		while ( hasRow ) {
+			final EntityKey entityKey =
+					combineRows ? rowReader.resolveSingleResultEntityKey( rowProcessingState ) : null;
+			final Object[] values;
+			persistenceContext.beforeLoad();
+			try {
+				values = rowReader.readRowValues( rowProcessingState );
+				rowProcessingState.finishRowProcessing( true );
+				hasRow = rowProcessingState.next();
+				// the following rows of the same result only add elements to fetched collections
+				while ( hasRow && entityKey != null
+						&& entityKey.equals( rowReader.resolveSingleResultEntityKey( rowProcessingState ) ) ) {
+					rowReader.readRowValues( rowProcessingState );
+					rowProcessingState.finishRowProcessing( false );
+					hasRow = rowProcessingState.next();
+				}
+				jdbcValuesSourceProcessingState.finishUp( false );
+			}
+			finally {
+				persistenceContext.afterLoad();
+			}
+			persistenceContext.initializeNonLazyCollections();
+			rowView.setResult( values );
+			action.accept( rowView );
+		}
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
@@ -70,6 +70,7 @@ public T consume(
 				}
 			}
 			finally {
+				rowReader.release();
 				if ( ex != null ) {
 					throw ex;
 				}
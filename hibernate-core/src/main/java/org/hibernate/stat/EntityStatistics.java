@@ -48,4 +48,17 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) the dirty check
+	 * of this entity was skipped during flush because its state was
+	 * unchanged.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SHORT_CIRCUIT_DIRTY_CHECK
+	 *
+	 * @since 7.0
+	 */
+	default long getDirtyCheckSkipCount() {
+		return 0;
+	}
 }
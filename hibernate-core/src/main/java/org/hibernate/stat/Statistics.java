@@ -161,6 +161,18 @@ public interface Statistics {
 	 */
 	long getEntityUpsertCount();
 
+	/**
+	 * The global number of entities whose attribute-by-attribute dirty check
+	 * was skipped during flush because their state was unchanged.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SHORT_CIRCUIT_DIRTY_CHECK
+	 *
+	 * @since 7.0
+	 */
+	default long getEntityDirtyCheckSkipCount() {
+		return 0;
+	}
+
 	/**
 	 * The global number of executed queries.
 	 */
@@ -406,4 +418,72 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from the query plan cache
+	 * because the cache was full.
+	 *
+	 * @since 7.0
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of HQL interpretations successfully retrieved from cache.
+	 *
+	 * @since 7.0
+	 */
+	default long getHqlInterpretationCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of HQL interpretation lookups <em>not</em> found in cache.
+	 *
+	 * @since 7.0
+	 */
+	default long getHqlInterpretationCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of HQL interpretations evicted from cache because
+	 * the cache was full.
+	 *
+	 * @since 7.0
+	 */
+	default long getHqlInterpretationCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of native query parameter interpretations successfully
+	 * retrieved from cache.
+	 *
+	 * @since 7.0
+	 */
+	default long getNativeQueryParameterCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of native query parameter interpretation lookups
+	 * <em>not</em> found in cache.
+	 *
+	 * @since 7.0
+	 */
+	default long getNativeQueryParameterCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of native query parameter interpretations evicted
+	 * from cache because the cache was full.
+	 *
+	 * @since 7.0
+	 */
+	default long getNativeQueryParameterCacheEvictionCount() {
+		return 0;
+	}
 }
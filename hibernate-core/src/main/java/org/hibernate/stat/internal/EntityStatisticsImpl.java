@@ -25,6 +25,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LongAdder dirtyCheckSkipCount = new LongAdder();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -63,6 +64,10 @@ public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
 
+	public long getDirtyCheckSkipCount() {
+		return dirtyCheckSkipCount.sum();
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -91,6 +96,10 @@ void incrementOptimisticFailureCount() {
 		optimisticFailureCount.increment();
 	}
 
+	void incrementDirtyCheckSkipCount() {
+		dirtyCheckSkipCount.increment();
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -101,7 +110,8 @@ public String toString() {
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",dirtyCheckSkipCount=" ).append( this.dirtyCheckSkipCount );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
@@ -66,6 +66,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
+	private final LongAdder entityDirtyCheckSkipCount = new LongAdder();
 	private final LongAdder entityUpsertCount = new LongAdder();
 	private final LongAdder entityInsertCount = new LongAdder();
 	private final LongAdder entityDeleteCount = new LongAdder();
@@ -97,6 +98,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+
+	private final LongAdder hqlInterpretationCacheHitCount = new LongAdder();
+	private final LongAdder hqlInterpretationCacheMissCount = new LongAdder();
+	private final LongAdder hqlInterpretationCacheEvictionCount = new LongAdder();
+
+	private final LongAdder nativeQueryParameterCacheHitCount = new LongAdder();
+	private final LongAdder nativeQueryParameterCacheMissCount = new LongAdder();
+	private final LongAdder nativeQueryParameterCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -175,6 +185,7 @@ public void clear() {
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
 		entityUpdateCount.reset();
+		entityDirtyCheckSkipCount.reset();
 		entityUpsertCount.reset();
 		entityLoadCount.reset();
 		entityFetchCount.reset();
@@ -209,6 +220,15 @@ public void clear() {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+
+		hqlInterpretationCacheHitCount.reset();
+		hqlInterpretationCacheMissCount.reset();
+		hqlInterpretationCacheEvictionCount.reset();
+
+		nativeQueryParameterCacheHitCount.reset();
+		nativeQueryParameterCacheMissCount.reset();
+		nativeQueryParameterCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -287,6 +307,11 @@ public long getEntityUpsertCount() {
 		return entityUpsertCount.sum();
 	}
 
+	@Override
+	public long getEntityDirtyCheckSkipCount() {
+		return entityDirtyCheckSkipCount.sum();
+	}
+
 	@Override
 	public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
@@ -310,6 +335,12 @@ public void updateEntity(String entityName) {
 		getEntityStatistics( entityName ).incrementUpdateCount();
 	}
 
+	@Override
+	public void skipEntityDirtyCheck(String entityName) {
+		entityDirtyCheckSkipCount.increment();
+		getEntityStatistics( entityName ).incrementDirtyCheckSkipCount();
+	}
+
 	@Override
 	public void upsertEntity(String entityName) {
 		entityUpsertCount.increment();
@@ -778,6 +809,41 @@ public long getQueryPlanCacheMissCount() {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public long getHqlInterpretationCacheHitCount() {
+		return hqlInterpretationCacheHitCount.sum();
+	}
+
+	@Override
+	public long getHqlInterpretationCacheMissCount() {
+		return hqlInterpretationCacheMissCount.sum();
+	}
+
+	@Override
+	public long getHqlInterpretationCacheEvictionCount() {
+		return hqlInterpretationCacheEvictionCount.sum();
+	}
+
+	@Override
+	public long getNativeQueryParameterCacheHitCount() {
+		return nativeQueryParameterCacheHitCount.sum();
+	}
+
+	@Override
+	public long getNativeQueryParameterCacheMissCount() {
+		return nativeQueryParameterCacheMissCount.sum();
+	}
+
+	@Override
+	public long getNativeQueryParameterCacheEvictionCount() {
+		return nativeQueryParameterCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -805,6 +871,41 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
+	@Override
+	public void hqlInterpretationCacheHit() {
+		hqlInterpretationCacheHitCount.increment();
+	}
+
+	@Override
+	public void hqlInterpretationCacheMiss() {
+		hqlInterpretationCacheMissCount.increment();
+	}
+
+	@Override
+	public void hqlInterpretationCacheEviction() {
+		hqlInterpretationCacheEvictionCount.increment();
+	}
+
+	@Override
+	public void nativeQueryParameterCacheHit() {
+		nativeQueryParameterCacheHitCount.increment();
+	}
+
+	@Override
+	public void nativeQueryParameterCacheMiss() {
+		nativeQueryParameterCacheMissCount.increment();
+	}
+
+	@Override
+	public void nativeQueryParameterCacheEviction() {
+		nativeQueryParameterCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -958,6 +1059,7 @@ public String toString() {
 				",second level cache misses=" + secondLevelCacheMissCount +
 				",entities loaded=" + entityLoadCount +
 				",entities updated=" + entityUpdateCount +
+				",entity dirty checks skipped=" + entityDirtyCheckSkipCount +
 				",entities upserted=" + entityUpsertCount +
 				",entities inserted=" + entityInsertCount +
 				",entities deleted=" + entityDeleteCount +
@@ -982,6 +1084,13 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
+				",HQL interpretation cache hits=" + hqlInterpretationCacheHitCount +
+				",HQL interpretation cache misses=" + hqlInterpretationCacheMissCount +
+				",HQL interpretation cache evictions=" + hqlInterpretationCacheEvictionCount +
+				",native query parameter cache hits=" + nativeQueryParameterCacheHitCount +
+				",native query parameter cache misses=" + nativeQueryParameterCacheMissCount +
+				",native query parameter cache evictions=" + nativeQueryParameterCacheEvictionCount +
 				']';
 	}
 
@@ -108,6 +108,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void optimisticFailure(String entityName);
 
+	/**
+	 * Callback about the dirty check of an entity being skipped during flush,
+	 * because its state was unchanged.
+	 *
+	 * @param entityName The name of the entity.
+	 */
+	default void skipEntityDirtyCheck(String entityName) {
+	}
+
 	/**
 	 * Callback about a collection loading.  This might indicate a lazy collection or an initialized collection being
 	 * created, but in either case it means without a separate SQL query being needed.
@@ -276,6 +285,50 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that a query plan was evicted from the query plan cache.
+	 */
+	default void queryPlanCacheEviction() {
+	}
+
+	/**
+	 * Callback indicating a get from the HQL interpretation cache resulted in a hit.
+	 */
+	default void hqlInterpretationCacheHit() {
+	}
+
+	/**
+	 * Callback indicating a get from the HQL interpretation cache resulted in a miss.
+	 */
+	default void hqlInterpretationCacheMiss() {
+	}
+
+	/**
+	 * Callback indicating that an HQL interpretation was evicted from the HQL
+	 * interpretation cache.
+	 */
+	default void hqlInterpretationCacheEviction() {
+	}
+
+	/**
+	 * Callback indicating a get from the native query parameter cache resulted in a hit.
+	 */
+	default void nativeQueryParameterCacheHit() {
+	}
+
+	/**
+	 * Callback indicating a get from the native query parameter cache resulted in a miss.
+	 */
+	default void nativeQueryParameterCacheMiss() {
+	}
+
+	/**
+	 * Callback indicating that the parameter interpretation of a native query was
+	 * evicted from the native query parameter cache.
+	 */
+	default void nativeQueryParameterCacheEviction() {
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.dialect.H2Dialect;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the adaptation of the batch size of a role to the keys pending by previous batches.
+ */
+public class AdaptiveBatchSizeTest {
+
+	@Test
+	public void testGrowsWhenKeysAreLeftBehind() {
+		final AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize( 4, new H2Dialect() );
+		assertThat( adaptiveBatchSize.getBatchSize() ).isEqualTo( 4 );
+
+		adaptiveBatchSize.recordBatch( 20, 4, 4 );
+		assertThat( adaptiveBatchSize.getBatchSize() ).isEqualTo( 32 );
+	}
+
+	@Test
+	public void testNeverShrinksBelowConfiguredBatchSize() {
+		final AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize( 16, new H2Dialect() );
+		adaptiveBatchSize.recordBatch( 100, 16, 16 );
+		assertThat( adaptiveBatchSize.getBatchSize() ).isEqualTo( 128 );
+
+		// no keys are pending anymore
+		for ( int i = 0; i < 10; i++ ) {
+			adaptiveBatchSize.recordBatch( 0, adaptiveBatchSize.getBatchSize( 0 ), 1 );
+		}
+		assertThat( adaptiveBatchSize.getBatchSize() ).isEqualTo( 16 );
+		// but there is no room for more keys than are pending
+		assertThat( adaptiveBatchSize.getBatchSize( 0 ) ).isEqualTo( 1 );
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@value CacheSettings#COALESCE_CONCURRENT_LOADS} lets concurrent
+ * sessions loading the same cacheable entity share a single SQL query.
+ */
+@DomainModel(annotatedClasses = {
+		ConcurrentLoadCoalescingTest.Product.class,
+		ConcurrentLoadCoalescingTest.Note.class,
+		ConcurrentLoadCoalescingTest.Shelf.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.COALESCE_CONCURRENT_LOADS, value = "true"),
+		@Setting(name = CacheSettings.COALESCE_CONCURRENT_LOADS_TIMEOUT, value = "30000")
+})
+@SessionFactory(statementInspectorClass = ConcurrentLoadCoalescingTest.BlockingProductSelectInspector.class)
+public class ConcurrentLoadCoalescingTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1, "Product nr 1" ) );
+			session.persist( new Note( 1, "Note nr 1" ) );
+			session.persist( new Shelf( 1, session.getReference( Product.class, 1 ) ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void evictCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+		BlockingProductSelectInspector.reset();
+	}
+
+	@Test
+	public void testLoaderIsOnlyUsedForCacheableEntities(SessionFactoryScope scope) {
+		assertThat( persister( scope, Product.class ).getSingleIdLoader() )
+				.isInstanceOf( SingleIdEntityLoaderCoalescingImpl.class );
+		assertThat( persister( scope, Note.class ).getSingleIdLoader() )
+				.isNotInstanceOf( SingleIdEntityLoaderCoalescingImpl.class );
+		assertThat( scope.getSessionFactory().getSessionFactoryOptions().getCoalesceConcurrentLoadsTimeout() )
+				.isEqualTo( 30_000 );
+	}
+
+	@Test
+	public void testConcurrentLoadsAreCoalesced(SessionFactoryScope scope) throws Exception {
+		final SingleIdEntityLoaderCoalescingImpl<?> loader =
+				(SingleIdEntityLoaderCoalescingImpl<?>) persister( scope, Product.class ).getSingleIdLoader();
+		final CountDownLatch leaderQuerying = new CountDownLatch( 1 );
+		final CountDownLatch releaseLeader = new CountDownLatch( 1 );
+		BlockingProductSelectInspector.leaderQuerying = leaderQuerying;
+		BlockingProductSelectInspector.releaseLeader = releaseLeader;
+		final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			final Future<Product> leader = executor.submit( () -> scope.fromTransaction(
+					session -> session.find( Product.class, 1 )
+			) );
+			assertThat( leaderQuerying.await( 10, TimeUnit.SECONDS ) ).isTrue();
+			final Future<Product> follower = executor.submit( () -> scope.fromTransaction( session -> {
+				final Product product = session.find( Product.class, 1 );
+				assertThat( session.contains( product ) ).isTrue();
+				return product;
+			} ) );
+
+			// the leader only completes its query once the follower waits for it
+			awaitWaitingLoad( loader );
+			releaseLeader.countDown();
+
+			final Product leaderProduct = leader.get( 10, TimeUnit.SECONDS );
+			final Product followerProduct = follower.get( 10, TimeUnit.SECONDS );
+			assertThat( leaderProduct.name ).isEqualTo( "Product nr 1" );
+			assertThat( followerProduct.name ).isEqualTo( "Product nr 1" );
+			assertThat( followerProduct ).isNotSameAs( leaderProduct );
+			assertThat( BlockingProductSelectInspector.productSelects.get() ).isEqualTo( 1 );
+			assertThat( loader.getInFlightLoadCount() ).isZero();
+			assertThat( loader.getWaitingLoadCount() ).isZero();
+		}
+		finally {
+			releaseLeader.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLoadingThreadDoesNotWaitForOtherThreads(SessionFactoryScope scope) throws Exception {
+		final CountDownLatch leaderQuerying = new CountDownLatch( 1 );
+		final CountDownLatch releaseLeader = new CountDownLatch( 1 );
+		BlockingProductSelectInspector.leaderQuerying = leaderQuerying;
+		BlockingProductSelectInspector.releaseLeader = releaseLeader;
+		final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			final Future<Product> leader = executor.submit( () -> scope.fromTransaction(
+					session -> session.find( Product.class, 1 )
+			) );
+			assertThat( leaderQuerying.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+			// loads the product while loading the shelf, and must not wait for the
+			// leader, which might in turn be waiting for the load of the shelf
+			final Future<Shelf> follower = executor.submit( () -> scope.fromTransaction(
+					session -> session.find( Shelf.class, 1 )
+			) );
+			final Shelf shelf = follower.get( 10, TimeUnit.SECONDS );
+			assertThat( shelf.item.name ).isEqualTo( "Product nr 1" );
+			assertThat( leader.isDone() ).isFalse();
+
+			releaseLeader.countDown();
+			assertThat( leader.get( 10, TimeUnit.SECONDS ).name ).isEqualTo( "Product nr 1" );
+			assertThat( BlockingProductSelectInspector.productSelects.get() ).isEqualTo( 2 );
+		}
+		finally {
+			releaseLeader.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private static void awaitWaitingLoad(SingleIdEntityLoaderCoalescingImpl<?> loader) {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( loader.getWaitingLoadCount() == 0 ) {
+			assertThat( System.nanoTime() ).as( "follower waiting for the leader" ).isLessThan( deadline );
+			Thread.yield();
+		}
+	}
+
+	private static AbstractEntityPersister persister(SessionFactoryScope scope, Class<?> entityClass) {
+		return (AbstractEntityPersister) scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( entityClass );
+	}
+
+	/**
+	 * Blocks the first query loading a {@link Product} until the test releases it,
+	 * so that a concurrent session loads the same product while the first query is
+	 * still executing.
+	 */
+	public static class BlockingProductSelectInspector implements StatementInspector {
+		static final AtomicInteger productSelects = new AtomicInteger();
+		static volatile CountDownLatch leaderQuerying;
+		static volatile CountDownLatch releaseLeader;
+
+		static void reset() {
+			productSelects.set( 0 );
+			leaderQuerying = null;
+			releaseLeader = null;
+		}
+
+		@Override
+		public String inspect(String sql) {
+			final String lowerCaseSql = sql.toLowerCase( Locale.ROOT );
+			if ( lowerCaseSql.startsWith( "select" ) && lowerCaseSql.contains( "product" ) ) {
+				final CountDownLatch querying = leaderQuerying;
+				final CountDownLatch release = releaseLeader;
+				if ( productSelects.incrementAndGet() == 1 && querying != null ) {
+					querying.countDown();
+					try {
+						release.await( 10, TimeUnit.SECONDS );
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Shelf {
+		@Id
+		private Integer id;
+		@ManyToOne
+		@Fetch(FetchMode.SELECT)
+		@JoinColumn(name = "item_id")
+		private Product item;
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id, Product item) {
+			this.id = id;
+			this.item = item;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		private Integer id;
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@value FetchSettings#ADAPTIVE_BATCH_FETCH} grows the batch size
+ * of a role when a batch load leaves pending keys behind.
+ */
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Department.class,
+		AdaptiveBatchFetchTest.Employee.class
+})
+@ServiceRegistry(settings = @Setting(name = FetchSettings.ADAPTIVE_BATCH_FETCH, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class AdaptiveBatchFetchTest {
+	private static final int COUNT = 20;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Department department = new Department( i, "Department nr " + i );
+				session.persist( department );
+				session.persist( new Employee( i, "Employee nr " + i, department ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntityBatches(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Department> departments = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				departments.add( session.getReference( Department.class, i ) );
+			}
+			statementInspector.clear();
+			for ( Department department : departments ) {
+				assertThat( department.getName() ).isEqualTo( "Department nr " + department.getId() );
+			}
+			assertThat( departments ).allMatch( Hibernate::isInitialized );
+			assertThat( statementInspector.getSqlQueries() ).hasSize( expectedStatements( scope ) );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatches(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Department> departments =
+					session.createSelectionQuery( "from Department order by id", Department.class ).getResultList();
+			statementInspector.clear();
+			for ( Department department : departments ) {
+				assertThat( department.employees ).hasSize( 1 );
+				assertThat( department.employees.get( 0 ).id ).isEqualTo( department.id );
+			}
+			assertThat( statementInspector.getSqlQueries() ).hasSize( expectedStatements( scope ) );
+		} );
+	}
+
+	private static int expectedStatements(SessionFactoryScope scope) {
+		if ( MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) ) {
+			// the first batch leaves pending keys behind, the second one covers all of them
+			return 2;
+		}
+		else {
+			// the size of IN predicate batches is fixed
+			return COUNT / 4;
+		}
+	}
+
+	@Entity(name = "Department")
+	@BatchSize(size = 4)
+	public static class Department {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "department")
+		@BatchSize(size = 4)
+		private List<Employee> employees;
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, Department department) {
+			this.id = id;
+			this.name = name;
+			this.department = department;
+		}
+	}
+}
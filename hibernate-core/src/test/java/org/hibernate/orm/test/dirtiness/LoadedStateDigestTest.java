@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.Arrays;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.LoadedValueDigest;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.descriptor.java.PrimitiveCharacterArrayJavaType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@value AvailableSettings#LOADED_STATE_DIGEST_THRESHOLD} keeps digests
+ * of large values in the loaded state, without missing any update.
+ */
+@DomainModel(annotatedClasses = LoadedStateDigestTest.Document.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.LOADED_STATE_DIGEST_THRESHOLD, value = "64"))
+@SessionFactory(generateStatistics = true)
+public class LoadedStateDigestTest {
+	private static final int SIZE = 1000;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final byte[] content = new byte[SIZE];
+			Arrays.fill( content, (byte) 1 );
+			final char[] text = new char[SIZE];
+			Arrays.fill( text, 'a' );
+			session.persist( new Document( 1, content, text, new byte[] { 1, 2, 3 } ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLoadedStateHoldsDigestsOfLargeValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final EntityEntry entry = entry( session, session.find( Document.class, 1 ) );
+			assertThat( entry.getLoadedValue( "content" ) ).isInstanceOf( LoadedValueDigest.class );
+			assertThat( entry.getLoadedValue( "text" ) ).isInstanceOf( LoadedValueDigest.class );
+			assertThat( entry.getLoadedValue( "thumbnail" ) ).isEqualTo( new byte[] { 1, 2, 3 } );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isZero();
+	}
+
+	@Test
+	public void testEqualValuesAreNotUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			document.content = document.content.clone();
+			document.text = document.text.clone();
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isZero();
+	}
+
+	@Test
+	public void testValuesModifiedInPlaceAreUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.find( Document.class, 1 ).content[SIZE - 1] = 2;
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			session.find( Document.class, 1 ).text[0] = 'b';
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.content[SIZE - 1] ).isEqualTo( (byte) 2 );
+			assertThat( document.text[0] ).isEqualTo( 'b' );
+		} );
+	}
+
+	@Test
+	public void testReplacedValuesAreUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			document.content = Arrays.copyOf( document.content, SIZE + 1 );
+			document.text = null;
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.content ).hasSize( SIZE + 1 );
+			assertThat( document.text ).isNull();
+		} );
+	}
+
+	@Test
+	public void testDeletedStateHoldsDatabaseValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			// modified in place, but never written to the database
+			document.content[0] = 2;
+			session.remove( document );
+			final EntityEntry entry = entry( session, document );
+			final Object[] deletedState = entry.getDeletedState();
+			for ( Object value : deletedState ) {
+				assertThat( value ).isNotInstanceOf( LoadedValueDigest.class );
+			}
+			final byte[] content = new byte[SIZE];
+			Arrays.fill( content, (byte) 1 );
+			final int contentIndex = Arrays.asList( entry.getPersister().getPropertyNames() ).indexOf( "content" );
+			assertThat( (byte[]) deletedState[contentIndex] ).isEqualTo( content );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isZero();
+		assertThat( scope.getSessionFactory().getStatistics().getEntityDeleteCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReadOnlyEntitiesAreNotDigested(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final Document document = session.find( Document.class, 1 );
+			assertThat( entry( session, document ).getLoadedState() ).isNull();
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isZero();
+	}
+
+	@Test
+	public void testDigestOfLongCharacterValues() {
+		final char[] text = new char[5 * SIZE];
+		Arrays.fill( text, 'a' );
+		final LoadedValueDigest digest =
+				LoadedValueDigest.digest( text, PrimitiveCharacterArrayJavaType.INSTANCE, 64 );
+		assertThat( digest ).isNotNull();
+		assertThat( digest.matches( text.clone(), PrimitiveCharacterArrayJavaType.INSTANCE ) ).isTrue();
+		// characters are digested a chunk at a time
+		final char[] modified = text.clone();
+		modified[modified.length - 1] = 'b';
+		assertThat( digest.matches( modified, PrimitiveCharacterArrayJavaType.INSTANCE ) ).isFalse();
+		assertThat( digest.matches( Arrays.copyOf( text, text.length - 1 ), PrimitiveCharacterArrayJavaType.INSTANCE ) )
+				.isFalse();
+	}
+
+	private static EntityEntry entry(SessionImplementor session, Object entity) {
+		return session.getPersistenceContextInternal().getEntry( entity );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+		@Column(length = 2 * SIZE)
+		private byte[] content;
+		@Column(length = 2 * SIZE)
+		private char[] text;
+		private byte[] thumbnail;
+
+		public Document() {
+		}
+
+		public Document(Integer id, byte[] content, char[] text, byte[] thumbnail) {
+			this.id = id;
+			this.content = content;
+			this.text = text;
+			this.thumbnail = thumbnail;
+		}
+	}
+}
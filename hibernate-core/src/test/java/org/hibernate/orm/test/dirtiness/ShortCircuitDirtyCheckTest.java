@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.Date;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@value AvailableSettings#SHORT_CIRCUIT_DIRTY_CHECK} skips the dirty
+ * check of unchanged entities at flush time, without missing any update.
+ */
+@DomainModel(annotatedClasses = {
+		ShortCircuitDirtyCheckTest.Author.class,
+		ShortCircuitDirtyCheckTest.Book.class,
+		ShortCircuitDirtyCheckTest.Event.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.SHORT_CIRCUIT_DIRTY_CHECK, value = "true"))
+@SessionFactory(generateStatistics = true)
+public class ShortCircuitDirtyCheckTest {
+	private static final int COUNT = 5;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Author nr 1" );
+			session.persist( author );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Book( i, "Book nr " + i, author ) );
+				session.persist( new Event( i, "Event nr " + i, new Date() ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testUnchangedEntitiesAreSkipped(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			session.find( Author.class, 1 );
+		} );
+		assertThat( statistics.getEntityDirtyCheckSkipCount() ).isEqualTo( COUNT + 1 );
+		assertThat( statistics.getEntityStatistics( "Book" ).getDirtyCheckSkipCount() ).isEqualTo( COUNT );
+		assertThat( statistics.getEntityStatistics( "Author" ).getDirtyCheckSkipCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityUpdateCount() ).isZero();
+	}
+
+	@Test
+	public void testChangedEntitiesAreUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			session.find( Book.class, 1 ).title = "Changed title";
+			session.find( Book.class, 2 ).author = null;
+		} );
+		assertThat( statistics.getEntityDirtyCheckSkipCount() ).isEqualTo( COUNT - 2 );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Changed title" );
+			assertThat( session.find( Book.class, 2 ).author ).isNull();
+		} );
+	}
+
+	@Test
+	public void testUnchangedEntitiesWithMutableAttributesAreSkipped(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Event", Event.class ).getResultList();
+		} );
+		assertThat( statistics.getEntityStatistics( "Event" ).getDirtyCheckSkipCount() ).isEqualTo( COUNT );
+		assertThat( statistics.getEntityUpdateCount() ).isZero();
+	}
+
+	@Test
+	public void testMutableAttributesModifiedInPlaceAreUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Event order by id", Event.class ).getResultList()
+					.get( 0 ).date.setTime( 0 );
+		} );
+		assertThat( statistics.getEntityStatistics( "Event" ).getDirtyCheckSkipCount() ).isEqualTo( COUNT - 1 );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			final Event event = session.find( Event.class, 1 );
+			assertThat( event.date.getTime() ).isZero();
+			// restore the test data
+			event.date = new Date();
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Integer id;
+		private String name;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date date;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String name, Date date) {
+			this.id = id;
+			this.name = name;
+			this.date = date;
+		}
+	}
+}
@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.spi;
+
+import java.io.Serializable;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the lookup of managed entities by identifier in the persistence context,
+ * for integral, non-integral and composite identifiers.
+ */
+@DomainModel(annotatedClasses = {
+		EntityHolderLookupTest.Animal.class,
+		EntityHolderLookupTest.Dog.class,
+		EntityHolderLookupTest.Tag.class,
+		EntityHolderLookupTest.Line.class
+})
+@SessionFactory
+public class EntityHolderLookupTest {
+	private static final int COUNT = 100;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLookupByIdentifier(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= COUNT; i++ ) {
+				session.persist( i % 2 == 0 ? new Dog( i ) : new Animal( i ) );
+				session.persist( new Tag( "tag-" + i ) );
+				session.persist( new Line( new LineId( "order-" + i, (int) i ) ) );
+			}
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 3 * COUNT );
+			for ( long i = 1; i <= COUNT; i++ ) {
+				assertThat( holder( session, Animal.class, i ).getEntity() )
+						.isInstanceOf( i % 2 == 0 ? Dog.class : Animal.class );
+				// subclasses share the identifiers of their hierarchy
+				assertThat( holder( session, Dog.class, i ) ).isSameAs( holder( session, Animal.class, i ) );
+				assertThat( holder( session, Tag.class, "tag-" + i ) ).isNotNull();
+				assertThat( holder( session, Line.class, new LineId( "order-" + i, (int) i ) ) ).isNotNull();
+			}
+			assertThat( holder( session, Animal.class, COUNT + 1L ) ).isNull();
+			assertThat( holder( session, Tag.class, "tag-0" ) ).isNull();
+			assertThat( holder( session, Line.class, new LineId( "order-1", 2 ) ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testLookupByIdentifierOfOtherType(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Animal( 1L ) );
+
+			final EntityPersister persister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( Animal.class );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getEntityHolder( persister, 1L ) ).isNotNull();
+			// an identifier of another integral type does not match, as with Type.isEqual()
+			assertThat( persistenceContext.getEntityHolder( persister, 1 ) ).isNull();
+			assertThat( persistenceContext.getEntityHolder( persister, (short) 1 ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testLookupAfterEviction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= COUNT; i++ ) {
+				session.persist( new Animal( i ) );
+				session.persist( new Tag( "tag-" + i ) );
+			}
+			session.flush();
+
+			for ( long i = 1; i <= COUNT; i += 3 ) {
+				session.detach( session.getReference( Animal.class, i ) );
+				session.detach( session.getReference( Tag.class, "tag-" + i ) );
+			}
+			for ( long i = 1; i <= COUNT; i++ ) {
+				final boolean evicted = i % 3 == 1;
+				assertThat( holder( session, Animal.class, i ) == null ).isEqualTo( evicted );
+				assertThat( holder( session, Tag.class, "tag-" + i ) == null ).isEqualTo( evicted );
+			}
+
+			// evicted entities are managed again when they are read
+			for ( long i = 1; i <= COUNT; i += 3 ) {
+				assertThat( session.find( Animal.class, i ) ).isNotNull();
+				assertThat( holder( session, Animal.class, i ) ).isNotNull();
+			}
+
+			session.clear();
+			assertThat( session.getPersistenceContextInternal().getEntityHoldersByKey() ).isEmpty();
+			assertThat( holder( session, Animal.class, 1L ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testLookupAfterDeserialization(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= COUNT; i++ ) {
+				session.persist( new Animal( i ) );
+			}
+		} );
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			for ( long i = 1; i <= COUNT; i++ ) {
+				session.find( Animal.class, i );
+			}
+			// the connection is released at the end of the transaction
+			session.getTransaction().commit();
+			final SessionImplementor copy =
+					(SessionImplementor) SerializationHelper.deserialize( SerializationHelper.serialize( session ) );
+			try {
+				for ( long i = 1; i <= COUNT; i++ ) {
+					assertThat( holder( copy, Animal.class, i ) ).isNotNull();
+				}
+			}
+			finally {
+				copy.close();
+			}
+		} );
+	}
+
+	@Test
+	public void testIteratorRemoval(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			for ( long i = 1; i <= COUNT; i++ ) {
+				session.persist( new Animal( i ) );
+				session.persist( new Tag( "tag-" + i ) );
+			}
+
+			final Map<EntityKey, EntityHolder> holders =
+					session.getPersistenceContextInternal().getEntityHoldersByKey();
+			final Set<EntityKey> visited = new HashSet<>();
+			final Iterator<EntityKey> iterator = holders.keySet().iterator();
+			while ( iterator.hasNext() ) {
+				final EntityKey key = iterator.next();
+				assertThat( visited.add( key ) ).isTrue();
+				if ( !( key.getIdentifier() instanceof Long id ) || id % 2 == 0 ) {
+					iterator.remove();
+				}
+			}
+			// every holder is visited exactly once, even when holders are shifted by a removal
+			assertThat( visited ).hasSize( 2 * COUNT );
+			assertThat( holders ).hasSize( COUNT / 2 );
+			for ( long i = 1; i <= COUNT; i++ ) {
+				assertThat( holder( session, Animal.class, i ) == null ).isEqualTo( i % 2 == 0 );
+				assertThat( holder( session, Tag.class, "tag-" + i ) ).isNull();
+			}
+			assertThat( holders.keySet() ).allMatch( key -> key.getIdentifier() instanceof Long id && id % 2 == 1 );
+			session.clear();
+		} );
+	}
+
+	@Test
+	public void testIterationIsFailFast(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			for ( long i = 1; i <= COUNT; i++ ) {
+				session.persist( new Animal( i ) );
+			}
+
+			final Iterator<EntityHolder> iterator =
+					session.getPersistenceContextInternal().getEntityHoldersByKey().values().iterator();
+			iterator.next();
+			session.persist( new Animal( COUNT + 1L ) );
+			assertThatThrownBy( iterator::next ).isInstanceOf( ConcurrentModificationException.class );
+			session.clear();
+		} );
+	}
+
+	private static EntityHolder holder(SessionImplementor session, Class<?> entityClass, Object id) {
+		final EntityPersister persister =
+				session.getFactory().getMappingMetamodel().getEntityDescriptor( entityClass );
+		final EntityHolder holder = session.getPersistenceContextInternal().getEntityHolder( persister, id );
+		assertThat( holder ).isSameAs(
+				session.getPersistenceContextInternal().getEntityHolder( session.generateEntityKey( id, persister ) )
+		);
+		return holder;
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Animal {
+		@Id
+		private Long id;
+
+		public Animal() {
+		}
+
+		public Animal(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Long id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Line")
+	public static class Line {
+		@EmbeddedId
+		private LineId id;
+
+		public Line() {
+		}
+
+		public Line(LineId id) {
+			this.id = id;
+		}
+	}
+
+	@Embeddable
+	public static class LineId implements Serializable {
+		private String orderNumber;
+		private Integer lineNumber;
+
+		public LineId() {
+		}
+
+		public LineId(String orderNumber, Integer lineNumber) {
+			this.orderNumber = orderNumber;
+			this.lineNumber = lineNumber;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof LineId lineId
+				&& Objects.equals( orderNumber, lineId.orderNumber )
+				&& Objects.equals( lineNumber, lineId.lineNumber );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( orderNumber, lineNumber );
+		}
+	}
+}
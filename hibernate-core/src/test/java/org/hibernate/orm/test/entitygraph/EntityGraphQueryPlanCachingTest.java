@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that query plans are cached for queries with an applied entity graph,
+ * keyed by the structure of the graph.
+ */
+@DomainModel(annotatedClasses = {
+		EntityGraphQueryPlanCachingTest.Author.class,
+		EntityGraphQueryPlanCachingTest.Book.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class EntityGraphQueryPlanCachingTest {
+
+	private static final String QUERY = "select b from Book b";
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			session.persist( author );
+			session.persist( new Book( 1L, "Hibernate in Action", author ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testStructurallyEqualGraphsShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			final RootGraph<Book> graph = session.createEntityGraph( Book.class );
+			graph.addAttributeNode( "author" );
+			final List<Book> books = session.createQuery( QUERY, Book.class )
+					.setEntityGraph( graph, GraphSemantic.FETCH )
+					.getResultList();
+			assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isTrue();
+		} );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		scope.inTransaction( session -> {
+			final RootGraph<Book> graph = session.createEntityGraph( Book.class );
+			graph.addAttributeNode( "author" );
+			final List<Book> books = session.createQuery( QUERY, Book.class )
+					.setEntityGraph( graph, GraphSemantic.FETCH )
+					.getResultList();
+			assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isTrue();
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+	}
+
+	@Test
+	public void testDifferentGraphsDoNotShareThePlan(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final RootGraph<Book> graph = session.createEntityGraph( Book.class );
+			graph.addAttributeNode( "author" );
+			final List<Book> books = session.createQuery( QUERY, Book.class )
+					.setEntityGraph( graph, GraphSemantic.FETCH )
+					.getResultList();
+			assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isTrue();
+		} );
+
+		scope.inTransaction( session -> {
+			final RootGraph<Book> graph = session.createEntityGraph( Book.class );
+			final List<Book> books = session.createQuery( QUERY, Book.class )
+					.setEntityGraph( graph, GraphSemantic.FETCH )
+					.getResultList();
+			assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isFalse();
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createQuery( QUERY, Book.class ).getResultList();
+			assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isFalse();
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "graph_plan_author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "graph_plan_book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
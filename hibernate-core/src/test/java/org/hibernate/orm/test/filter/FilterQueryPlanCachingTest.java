@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.filter;
+
+import java.util.List;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that query plans are cached for sessions with enabled filters,
+ * and that filter parameter values are bound per execution.
+ */
+@DomainModel(annotatedClasses = FilterQueryPlanCachingTest.Account.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class FilterQueryPlanCachingTest {
+
+	private static final String QUERY = "select a.name from Account a order by a.name";
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Account( 1, "a1", "EU" ) );
+			session.persist( new Account( 2, "a2", "EU" ) );
+			session.persist( new Account( 3, "a3", "US" ) );
+			session.persist( new Account( 4, "a4", "APAC" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testPlanReusedWithDifferentFilterValues(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			session.enableFilter( "region" ).setParameter( "region", "EU" );
+			assertThat( session.createQuery( QUERY, String.class ).getResultList() )
+					.containsExactly( "a1", "a2" );
+		} );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		scope.inTransaction( session -> {
+			session.enableFilter( "region" ).setParameter( "region", "US" );
+			assertThat( session.createQuery( QUERY, String.class ).getResultList() )
+					.containsExactly( "a3" );
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( 0 );
+	}
+
+	@Test
+	public void testPlanNotSharedAcrossFilters(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.enableFilter( "region" ).setParameter( "region", "EU" );
+			assertThat( session.createQuery( QUERY, String.class ).getResultList() )
+					.containsExactly( "a1", "a2" );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createQuery( QUERY, String.class ).getResultList() )
+					.containsExactly( "a1", "a2", "a3", "a4" );
+		} );
+
+		scope.inTransaction( session -> {
+			session.enableFilter( "regions" ).setParameterList( "regions", List.of( "US", "APAC" ) );
+			assertThat( session.createQuery( QUERY, String.class ).getResultList() )
+					.containsExactly( "a3", "a4" );
+		} );
+	}
+
+	@Test
+	public void testMultiValuedFilterParameterShape(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			session.enableFilter( "regions" ).setParameterList( "regions", List.of( "EU", "US" ) );
+			assertThat( session.createQuery( QUERY, String.class ).getResultList() )
+					.containsExactly( "a1", "a2", "a3" );
+		} );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		scope.inTransaction( session -> {
+			session.enableFilter( "regions" ).setParameterList( "regions", List.of( "APAC", "US" ) );
+			assertThat( session.createQuery( QUERY, String.class ).getResultList() )
+					.containsExactly( "a3", "a4" );
+		} );
+		// same number of values, so the same plan is used
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+
+		scope.inTransaction( session -> {
+			session.enableFilter( "regions" ).setParameterList( "regions", List.of( "APAC" ) );
+			assertThat( session.createQuery( QUERY, String.class ).getResultList() )
+					.containsExactly( "a4" );
+		} );
+		// a different number of values renders different SQL
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isGreaterThan( misses );
+	}
+
+	@Entity(name = "Account")
+	@Table(name = "filter_plan_account")
+	@FilterDef(name = "region", parameters = @ParamDef(name = "region", type = String.class))
+	@FilterDef(name = "regions", parameters = @ParamDef(name = "regions", type = String.class))
+	@Filter(name = "region", condition = "region = :region")
+	@Filter(name = "regions", condition = "region in (:regions)")
+	public static class Account {
+		@Id
+		private Integer id;
+		private String name;
+		private String region;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String name, String region) {
+			this.id = id;
+			this.name = name;
+			this.region = region;
+		}
+	}
+}
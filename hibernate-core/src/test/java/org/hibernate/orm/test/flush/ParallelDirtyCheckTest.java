@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@value AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD} detects
+ * exactly the modified entities, and keeps interceptor and callback semantics, and
+ * that the dirty check runs on the {@value AvailableSettings#PARALLEL_DIRTY_CHECK_EXECUTOR}.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Category.class,
+		ParallelDirtyCheckTest.Item.class,
+		ParallelDirtyCheckTest.Label.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECK_THRESHOLD, value = "10"),
+		@Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECK_EXECUTOR,
+				value = "org.hibernate.orm.test.flush.ParallelDirtyCheckTest$CountingExecutor")
+})
+@SessionFactory(generateStatistics = true, interceptorClass = ParallelDirtyCheckTest.FlushDirtyCounter.class)
+public class ParallelDirtyCheckTest {
+	private static final int COUNT = 50;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category first = new Category( 1, "First" );
+			final Category second = new Category( 2, "Second" );
+			session.persist( first );
+			session.persist( second );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Item( i, "Item nr " + i, new Date( 1_000_000L * i ), first ) );
+				session.persist( new Label( i, "Label nr " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		FlushDirtyCounter.count.set( 0 );
+		FlushDirtyCounter.modifiedOnFlush = null;
+		Label.readingThreads.clear();
+		Label.readCount.set( 0 );
+		CountingExecutor.count.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testModifiedEntitiesAreUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			for ( int i = 0; i < 5; i++ ) {
+				items.get( i ).name = "Changed item nr " + ( i + 1 );
+			}
+			// modified in place
+			items.get( 5 ).date.setTime( 0 );
+			// an association, which is dirty checked sequentially
+			items.get( 6 ).category = session.getReference( Category.class, 2 );
+		} );
+
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isEqualTo( 7 );
+		assertThat( FlushDirtyCounter.count.get() ).isEqualTo( 7 );
+		scope.inTransaction( session -> {
+			final List<Item> items =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			for ( Item item : items ) {
+				final boolean changed = item.id <= 7;
+				assertThat( item.updateCount ).isEqualTo( changed ? 1 : 0 );
+				assertThat( item.name ).isEqualTo( ( item.id <= 5 ? "Changed item nr " : "Item nr " ) + item.id );
+			}
+			assertThat( items.get( 5 ).date.getTime() ).isZero();
+			assertThat( session.createSelectionQuery( "select category.id from Item where id = 7", Integer.class )
+					.getSingleResult() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testUnmodifiedEntitiesAreNotUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item", Item.class ).getResultList();
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isZero();
+		assertThat( FlushDirtyCounter.count.get() ).isZero();
+	}
+
+	@Test
+	public void testValueModifiedInPlaceDuringFlushIsUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			items.get( 0 ).name = "Changed item nr 1";
+			// modified in place by the interceptor when the first item is flushed
+			FlushDirtyCounter.modifiedOnFlush = items.get( COUNT - 1 );
+		} );
+
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isEqualTo( 2 );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, COUNT ).date.getTime() ).isZero();
+		} );
+	}
+
+	@Test
+	public void testValuesAreReadByTheFlushingThread(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Label> labels =
+					session.createSelectionQuery( "from Label order by id", Label.class ).getResultList();
+			labels.get( 0 ).setText( "Changed label nr 1" );
+			Label.readingThreads.clear();
+		} );
+
+		assertThat( Label.readingThreads ).containsExactly( Thread.currentThread() );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testValuesAreReadOncePerFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Label> labels =
+					session.createSelectionQuery( "from Label order by id", Label.class ).getResultList();
+			labels.get( 0 ).setText( "Changed label nr 1" );
+			Label.readCount.set( 0 );
+		} );
+
+		// the values read for the parallel dirty check are reused by the flush of each entity
+		assertThat( Label.readCount.get() ).isEqualTo( COUNT );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityUpdateCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testConfiguredExecutorIsUsed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item", Item.class ).getResultList();
+		} );
+		assertThat( CountingExecutor.count.get() ).isPositive();
+	}
+
+	public static class CountingExecutor implements Executor {
+		static final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			count.incrementAndGet();
+			ForkJoinPool.commonPool().execute( command );
+		}
+	}
+
+	public static class FlushDirtyCounter implements Interceptor {
+		static final AtomicInteger count = new AtomicInteger();
+		static volatile Item modifiedOnFlush;
+
+		@Override
+		public boolean onFlushDirty(
+				Object entity,
+				Object id,
+				Object[] currentState,
+				Object[] previousState,
+				String[] propertyNames,
+				Type[] types) {
+			count.incrementAndGet();
+			final Item item = modifiedOnFlush;
+			if ( item != null && entity instanceof Item flushed && flushed.id == 1 ) {
+				item.date.setTime( 0 );
+			}
+			return false;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date date;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Category category;
+		private int updateCount;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, Date date, Category category) {
+			this.id = id;
+			this.name = name;
+			this.date = date;
+			this.category = category;
+		}
+
+		@PreUpdate
+		void preUpdate() {
+			updateCount++;
+		}
+	}
+
+	@Entity(name = "Label")
+	@Access(AccessType.PROPERTY)
+	public static class Label {
+		static final Set<Thread> readingThreads = ConcurrentHashMap.newKeySet();
+		static final AtomicInteger readCount = new AtomicInteger();
+
+		private Integer id;
+		private String text;
+
+		public Label() {
+		}
+
+		public Label(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			readingThreads.add( Thread.currentThread() );
+			readCount.incrementAndGet();
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the inserts of a self-referencing entity are grouped together, and
+ * before the inserts of the entities depending on them.
+ */
+public class InsertOrderingWithSelfReferencingDependency extends BaseInsertOrderingTest {
+	private static final int COUNT = 9;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Category.class, Product.class };
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			Category parent = null;
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Category category = new Category();
+				category.parent = parent;
+				session.persist( category );
+
+				final Product product = new Product();
+				product.category = category;
+				session.persist( product );
+
+				parent = category;
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Category (name,parent_id,id) values (?,?,?)", COUNT ),
+				new Batch( "insert into Product (category_id,name,id) values (?,?,?)", COUNT )
+		);
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Category parent;
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Category category;
+	}
+}
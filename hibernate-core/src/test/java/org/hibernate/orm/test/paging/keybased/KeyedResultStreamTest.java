@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.paging.keybased;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@link org.hibernate.query.SelectionQuery#getKeyedResultStream}
+ * streams the results of all pages, reusing a single query plan for the pages
+ * following the first one.
+ */
+@DomainModel(annotatedClasses = KeyedResultStreamTest.Person.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class KeyedResultStreamTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 17; i++ ) {
+				final Person person = new Person();
+				person.id = i;
+				person.ssn = 1000 + i * 7 + "-" + i;
+				person.lastName = "Person nr " + ( i % 3 );
+				person.dob = LocalDate.of( 1970, 2, i );
+				session.persist( person );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testStreamAllPages(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final SelectionQuery<Person> query = session.createSelectionQuery( "from Person", Person.class );
+			final Statistics statistics = scope.getSessionFactory().getStatistics();
+			statistics.clear();
+			final List<Integer> ids;
+			try (Stream<Person> stream =
+						query.getKeyedResultStream( Page.first( 4 ).keyedBy( Order.asc( Person.class, "ssn" ) ) )) {
+				ids = stream.map( person -> person.id ).toList();
+			}
+			assertThat( ids ).hasSize( 17 ).isSorted();
+			// the entities of each page were evicted before the following page
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+			// the four following pages share a single plan
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 3 );
+		} );
+	}
+
+	@Test
+	public void testModifiedEntityStaysManaged(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final Person modified = session.find( Person.class, 2 );
+			modified.lastName = "Modified";
+			final List<Integer> ids;
+			try (Stream<Person> stream = session.createSelectionQuery( "from Person", Person.class )
+					.getKeyedResultStream( Page.first( 4 ).keyedBy( Order.asc( Person.class, "id" ) ) )) {
+				ids = stream.map( person -> person.id ).toList();
+			}
+			assertThat( ids ).hasSize( 17 );
+			// the entity was managed before the stream was read, so it was not evicted
+			assertThat( session.contains( modified ) ).isTrue();
+			assertThat( modified.lastName ).isEqualTo( "Modified" );
+			assertThat( session.isDirty() ).isTrue();
+			// the entities loaded by the last page are still managed
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testCompositeKeyAndParameters(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Person> people = session.createSelectionQuery( "from Person where dob > :minDate", Person.class )
+					.setParameter( "minDate", LocalDate.of( 1970, 2, 3 ) )
+					.getKeyedResultStream( Page.first( 3 ).keyedBy( List.of(
+							Order.asc( Person.class, "lastName" ),
+							Order.desc( Person.class, "dob" )
+					) ) )
+					.toList();
+			assertThat( people ).extracting( person -> person.id )
+					.containsExactly( 15, 12, 9, 6, 16, 13, 10, 7, 4, 17, 14, 11, 8, 5 );
+		} );
+	}
+
+	@Test
+	public void testPartiallyConsumedStream(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Integer> ids = session.createSelectionQuery( "from Person", Person.class )
+					.getKeyedResultStream( Page.first( 5 ).keyedBy( Order.desc( Person.class, "id" ) ) )
+					.limit( 7 )
+					.map( person -> person.id )
+					.toList();
+			assertThat( ids ).containsExactly( 17, 16, 15, 14, 13, 12, 11 );
+		} );
+	}
+
+	@Test
+	public void testLastPageFull(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final long count = session.createSelectionQuery( "from Person where id <= 12", Person.class )
+					.getKeyedResultStream( Page.first( 4 ).keyedBy( Order.asc( Person.class, "id" ) ) )
+					.count();
+			assertThat( count ).isEqualTo( 12 );
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String ssn;
+		private String lastName;
+		private LocalDate dob;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.SybaseDialect;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SkipForDialect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that all pages of a query execute the same SQL statement
+ * when {@value AvailableSettings#ALWAYS_BIND_PAGINATION} is enabled.
+ */
+@DomainModel(annotatedClasses = AlwaysBindPaginationTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.ALWAYS_BIND_PAGINATION, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@SkipForDialect(dialectClass = DB2Dialect.class, matchSubTypes = true, reason = "Older versions of DB2 render limit and offset as literals")
+@SkipForDialect(dialectClass = SybaseDialect.class, matchSubTypes = true, reason = "Sybase renders limit and offset as literals")
+public class AlwaysBindPaginationTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "Item nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testAllPagesShareSql(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statementInspector.clear();
+
+		assertThat( page( scope, 0, 3 ) ).containsExactly( 1, 2, 3 );
+		assertThat( page( scope, 3, 3 ) ).containsExactly( 4, 5, 6 );
+		assertThat( page( scope, null, 2 ) ).containsExactly( 1, 2 );
+		assertThat( page( scope, 8, null ) ).containsExactly( 9, 10 );
+		assertThat( page( scope, 0, 3 ) ).containsExactly( 1, 2, 3 );
+
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 5 );
+		assertThat( statementInspector.getSqlQueries() ).containsOnly( statementInspector.getSqlQueries().get( 0 ) );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUnpaginatedQuery(SessionFactoryScope scope) {
+		final List<Integer> ids = scope.fromTransaction( session -> session
+				.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class )
+				.getResultList() );
+		assertThat( ids ).hasSize( 10 );
+	}
+
+	private static List<Integer> page(SessionFactoryScope scope, Integer firstResult, Integer maxResults) {
+		return scope.fromTransaction( session -> {
+			final SelectionQuery<Integer> query =
+					session.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class );
+			if ( firstResult != null ) {
+				query.setFirstResult( firstResult );
+			}
+			if ( maxResults != null ) {
+				query.setMaxResults( maxResults );
+			}
+			return query.getResultList();
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the plans of criteria queries are shared between
+ * distinct criteria queries of the same structure.
+ */
+@DomainModel(annotatedClasses = CriteriaQueryPlanCachingTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.CRITERIA_VALUE_HANDLING_MODE, value = "bind"),
+		@Setting(name = AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, value = "true")
+})
+@SessionFactory
+public class CriteriaQueryPlanCachingTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "Item nr " + i, i * 10 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testPlanSharedForBoundValues(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( namesCheaperThan( scope, 25 ) ).containsExactly( "Item nr 1", "Item nr 2" );
+		assertThat( namesCheaperThan( scope, 45 ) )
+				.containsExactly( "Item nr 1", "Item nr 2", "Item nr 3", "Item nr 4" );
+		assertThat( namesCheaperThan( scope, 5 ) ).isEmpty();
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testPlanSharedForUnnamedParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final int min = i * 10;
+			final List<Integer> ids = scope.fromTransaction( session -> {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Integer> query = cb.createQuery( Integer.class );
+				final JpaRoot<Item> root = query.from( Item.class );
+				final JpaParameterExpression<Integer> lower = cb.parameter( Integer.class );
+				final JpaParameterExpression<Integer> upper = cb.parameter( Integer.class );
+				query.select( root.get( "id" ) )
+						.where( cb.between( root.<Integer>get( "price" ), lower, upper ) )
+						.orderBy( cb.asc( root.get( "id" ) ) );
+				return session.createQuery( query )
+						.setParameter( lower, min )
+						.setParameter( upper, min + 10 )
+						.getResultList();
+			} );
+			assertThat( ids ).containsExactly( i, i + 1 );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testPlanSharedForDifferentlyNamedParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		final String[] names = { "max", "limit", "upper" };
+		for ( int i = 0; i < names.length; i++ ) {
+			final String name = names[i];
+			final int max = ( i + 1 ) * 10;
+			final List<Integer> ids = scope.fromTransaction( session -> {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Integer> query = cb.createQuery( Integer.class );
+				final JpaRoot<Item> root = query.from( Item.class );
+				query.select( root.get( "id" ) )
+						.where( cb.le( root.get( "price" ), cb.parameter( Integer.class, name ) ) )
+						.orderBy( cb.asc( root.get( "id" ) ) );
+				return session.createQuery( query )
+						.setParameter( name, max )
+						.getResultList();
+			} );
+			assertThat( ids ).hasSize( i + 1 );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testPlanNotSharedForDifferentStructure(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( namesCheaperThan( scope, 25 ) ).containsExactly( "Item nr 1", "Item nr 2" );
+		final List<String> names = scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Item> root = query.from( Item.class );
+			query.select( root.get( "name" ) )
+					.where( cb.gt( root.get( "price" ), 25 ) )
+					.orderBy( cb.asc( root.get( "id" ) ) );
+			return session.createQuery( query ).getResultList();
+		} );
+		assertThat( names ).containsExactly( "Item nr 3", "Item nr 4", "Item nr 5" );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isZero();
+	}
+
+	private static List<String> namesCheaperThan(SessionFactoryScope scope, int price) {
+		return scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Item> root = query.from( Item.class );
+			query.select( root.get( "name" ) )
+					.where( cb.lt( root.get( "price" ), price ) )
+					.orderBy( cb.asc( root.get( "id" ) ) );
+			return session.createQuery( query ).getResultList();
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		private int price;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
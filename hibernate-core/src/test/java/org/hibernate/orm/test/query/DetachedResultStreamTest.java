@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import org.hibernate.FlushMode;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that detached result streams and result publishers do not
+ * retain the entities they have emitted in the persistence context,
+ * leave entities which were already managed alone, and that publishers
+ * only read as many results as were requested.
+ */
+@DomainModel(annotatedClasses = DetachedResultStreamTest.Item.class)
+@SessionFactory
+public class DetachedResultStreamTest {
+
+	private static final int ITEM_COUNT = 50;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, "Item nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testDetachedResultStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Integer> ids = new ArrayList<>();
+			try (Stream<Item> stream = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getDetachedResultStream()) {
+				stream.forEach( item -> {
+					assertThat( managedEntities( session ) ).isLessThanOrEqualTo( 1 );
+					assertThat( session.contains( item ) ).isTrue();
+					ids.add( item.id );
+				} );
+			}
+			assertThat( ids ).hasSize( ITEM_COUNT ).startsWith( 1, 2, 3 );
+			assertThat( managedEntities( session ) ).isZero();
+		} );
+	}
+
+	@Test
+	public void testDetachedResultStreamOfTuples(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (Stream<Object[]> stream = session.createSelectionQuery(
+					"select i, i.name from Item i order by i.id",
+					Object[].class
+			).getDetachedResultStream()) {
+				assertThat( stream.peek( tuple -> assertThat( managedEntities( session ) ).isLessThanOrEqualTo( 1 ) )
+									.count() ).isEqualTo( ITEM_COUNT );
+			}
+			assertThat( managedEntities( session ) ).isZero();
+		} );
+	}
+
+	@Test
+	public void testPreviouslyManagedEntityStaysManaged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item managed = session.find( Item.class, 2 );
+			managed.name = "Renamed item";
+			try (Stream<Item> stream = session.createSelectionQuery( "from Item order by id", Item.class )
+					.setHibernateFlushMode( FlushMode.MANUAL )
+					.getDetachedResultStream()) {
+				final List<Item> items = new ArrayList<>();
+				stream.forEach( items::add );
+				assertThat( items ).hasSize( ITEM_COUNT ).contains( managed );
+			}
+			assertThat( session.contains( managed ) ).isTrue();
+			assertThat( managedEntities( session ) ).isEqualTo( 1 );
+		} );
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 2 );
+			assertThat( item.name ).isEqualTo( "Renamed item" );
+			item.name = "Item nr 2";
+		} );
+	}
+
+	@Test
+	public void testResultPublisher(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Flow.Publisher<Item> publisher =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultPublisher();
+			final CollectingSubscriber subscriber = new CollectingSubscriber();
+			publisher.subscribe( subscriber );
+			assertThat( subscriber.ids ).isEmpty();
+
+			subscriber.subscription.request( 3 );
+			assertThat( subscriber.ids ).containsExactly( 1, 2, 3 );
+			assertThat( managedEntities( session ) ).isLessThanOrEqualTo( 1 );
+
+			subscriber.subscription.request( 2 );
+			assertThat( subscriber.ids ).containsExactly( 1, 2, 3, 4, 5 );
+
+			subscriber.subscription.request( Long.MAX_VALUE );
+			assertThat( subscriber.ids ).hasSize( ITEM_COUNT );
+			assertThat( subscriber.completed ).isTrue();
+			assertThat( subscriber.failure ).isNull();
+			assertThat( managedEntities( session ) ).isZero();
+		} );
+	}
+
+	@Test
+	public void testResultPublisherCancellation(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Flow.Publisher<Item> publisher =
+					session.createSelectionQuery( "from Item order by id", Item.class ).getResultPublisher();
+			final CollectingSubscriber subscriber = new CollectingSubscriber();
+			publisher.subscribe( subscriber );
+			subscriber.subscription.request( 2 );
+			subscriber.subscription.cancel();
+			subscriber.subscription.request( 2 );
+			assertThat( subscriber.ids ).containsExactly( 1, 2 );
+			assertThat( subscriber.completed ).isFalse();
+			assertThat( managedEntities( session ) ).isZero();
+
+			final CollectingSubscriber secondSubscriber = new CollectingSubscriber();
+			publisher.subscribe( secondSubscriber );
+			assertThat( secondSubscriber.failure ).isInstanceOf( IllegalStateException.class );
+		} );
+	}
+
+	private static int managedEntities(SessionImplementor session) {
+		return session.getPersistenceContextInternal().getNumberOfManagedEntities();
+	}
+
+	private static class CollectingSubscriber implements Flow.Subscriber<Item> {
+		private final List<Integer> ids = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private boolean completed;
+		private Throwable failure;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Item item) {
+			ids.add( item.id );
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			failure = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.query.RowView;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Transient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@link org.hibernate.query.SelectionQuery#forEachRow}
+ * visits every row of a result through a reusable view, exposing the select
+ * items, and the fully loaded entities of the row.
+ */
+@DomainModel(annotatedClasses = ForEachRowTest.Item.class)
+@SessionFactory
+public class ForEachRowTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Item item = new Item( i, "Item nr " + i, i * 10L, i * 0.5, new Code( "C" + i ) );
+				item.tags.add( "tag" + i );
+				item.tags.add( "other" + i );
+				session.persist( item );
+			}
+			session.persist( new Item( 6, null, null, null, null ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPrimitiveAccess(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final long[] sums = new long[2];
+			final double[] weight = new double[1];
+			final Set<RowView> views = new HashSet<>();
+			session.createSelectionQuery( "select i.id, i.price, i.weight from Item i order by i.id", Object[].class )
+					.forEachRow( row -> {
+						views.add( row );
+						assertThat( row.getColumnCount() ).isEqualTo( 3 );
+						sums[0] += row.getInt( 0 );
+						if ( row.isNull( 1 ) ) {
+							assertThat( row.getInt( 0 ) ).isEqualTo( 6 );
+							assertThat( row.getLong( 1 ) ).isZero();
+							assertThat( row.get( 2 ) ).isNull();
+						}
+						else {
+							sums[1] += row.getLong( 1 );
+							weight[0] += row.getDouble( 2 );
+						}
+					} );
+			assertThat( views ).hasSize( 1 );
+			assertThat( sums[0] ).isEqualTo( 21 );
+			assertThat( sums[1] ).isEqualTo( 150 );
+			assertThat( weight[0] ).isEqualTo( 7.5 );
+		} );
+	}
+
+	@Test
+	public void testConvertedValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> codes = new ArrayList<>();
+			session.createSelectionQuery( "select i.code, i.name from Item i where i.id <= 3 order by i.id", Object[].class )
+					.setMaxResults( 2 )
+					.forEachRow( row -> codes.add( row.get( 0, Code.class ).value + "/" + row.get( 1, String.class ) ) );
+			assertThat( codes ).containsExactly( "C1/Item nr 1", "C2/Item nr 2" );
+		} );
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = new ArrayList<>();
+			session.createQuery( "from Item i order by i.id", Item.class )
+					.forEachRow( row -> items.add( row.get( 0, Item.class ) ) );
+			assertThat( items ).hasSize( 6 );
+			assertThat( items ).allMatch( session::contains );
+			assertThat( items.get( 0 ).name ).isEqualTo( "Item nr 1" );
+		} );
+	}
+
+	@Test
+	public void testEntitiesLoadedBeforeAction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object> names = new ArrayList<>();
+			session.createQuery( "select i, i.name from Item i where i.id <= 3 order by i.id", Object[].class )
+					.setTupleTransformer( (tuple, aliases) -> tuple[1] )
+					.forEachRow( row -> {
+						final Item item = row.get( 0, Item.class );
+						assertThat( item.postLoaded ).isTrue();
+						assertThat( session.getPersistenceContextInternal().getEntry( item ).getStatus() )
+								.isEqualTo( Status.MANAGED );
+						// the select items, not the transformed result
+						assertThat( row.getColumnCount() ).isEqualTo( 2 );
+						names.add( row.get( 1 ) );
+					} );
+			assertThat( names ).containsExactly( "Item nr 1", "Item nr 2", "Item nr 3" );
+		} );
+	}
+
+	@Test
+	public void testCollectionFetch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = new ArrayList<>();
+			session.createQuery( "from Item i join fetch i.tags where i.id <= 2 order by i.id", Item.class )
+					.forEachRow( row -> {
+						final Item item = row.get( 0, Item.class );
+						assertThat( Hibernate.isInitialized( item.tags ) ).isTrue();
+						assertThat( item.tags ).hasSize( 2 );
+						items.add( item );
+					} );
+			assertThat( items ).extracting( item -> item.id ).containsExactly( 1, 2 );
+		} );
+	}
+
+	@Test
+	public void testNativeQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> names = new ArrayList<>();
+			session.createNativeQuery( "select name from Item where id < 3 order by id", String.class )
+					.forEachRow( row -> names.add( (String) row.get( 0 ) ) );
+			assertThat( names ).containsExactly( "Item nr 1", "Item nr 2" );
+		} );
+	}
+
+	@Test
+	public void testNoRows(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object> values = new ArrayList<>();
+			session.createSelectionQuery( "select i.id from Item i", Integer.class )
+					.setMaxResults( 0 )
+					.forEachRow( row -> values.add( row.get( 0 ) ) );
+			session.createSelectionQuery( "select i.id from Item i where i.id > 100", Integer.class )
+					.forEachRow( row -> values.add( row.get( 0 ) ) );
+			assertThat( values ).isEmpty();
+		} );
+	}
+
+	public static class Code {
+		private final String value;
+
+		public Code(String value) {
+			this.value = value;
+		}
+	}
+
+	public static class CodeConverter implements AttributeConverter<Code, String> {
+		@Override
+		public String convertToDatabaseColumn(Code attribute) {
+			return attribute == null ? null : attribute.value;
+		}
+
+		@Override
+		public Code convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : new Code( dbData );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		private Long price;
+		private Double weight;
+		@Convert(converter = CodeConverter.class)
+		private Code code;
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+		@Transient
+		private boolean postLoaded;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, Long price, Double weight, Code code) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.weight = weight;
+			this.code = code;
+		}
+
+		@PostLoad
+		void postLoad() {
+			postLoaded = true;
+		}
+	}
+}
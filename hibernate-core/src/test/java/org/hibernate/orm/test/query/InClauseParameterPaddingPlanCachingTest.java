@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that query plans for queries with multi-valued parameters
+ * are cached per padded number of bound values.
+ */
+@DomainModel(annotatedClasses = InClauseParameterPaddingPlanCachingTest.Person.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true")
+})
+@SessionFactory
+public class InClauseParameterPaddingPlanCachingTest {
+
+	private static final String QUERY = "select p.id from Person p where p.id in :ids order by p.id";
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Person( i, "Person nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testPlanCachedPerPaddingBucket(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( select( scope, 1, 2, 3, 4, 5 ) ).containsExactly( 1, 2, 3, 4, 5 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		// 6, 7 and 8 values are padded to 8, like 5 values
+		assertThat( select( scope, 2, 4, 6, 8, 10, 9 ) ).containsExactly( 2, 4, 6, 8, 9, 10 );
+		assertThat( select( scope, 1, 3, 5, 7, 9, 10, 2 ) ).containsExactly( 1, 2, 3, 5, 7, 9, 10 );
+		assertThat( select( scope, 1, 2, 3, 4, 5, 6, 7, 8 ) ).containsExactly( 1, 2, 3, 4, 5, 6, 7, 8 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+
+		// 3 values are padded to 4
+		assertThat( select( scope, 7, 8, 9 ) ).containsExactly( 7, 8, 9 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses + 1 );
+
+		assertThat( select( scope, 10 ) ).containsExactly( 10 );
+	}
+
+	@Test
+	public void testSameQueryWithDifferentNumberOfValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var query = session.createQuery( QUERY, Integer.class );
+			assertThat( query.setParameter( "ids", List.of( 1, 2, 3, 4, 5 ) ).getResultList() )
+					.containsExactly( 1, 2, 3, 4, 5 );
+			assertThat( query.setParameter( "ids", List.of( 6, 7 ) ).getResultList() )
+					.containsExactly( 6, 7 );
+			assertThat( query.setParameter( "ids", List.of( 3, 4, 5, 6, 7, 8 ) ).getResultList() )
+					.containsExactly( 3, 4, 5, 6, 7, 8 );
+		} );
+	}
+
+	@Test
+	public void testUnpaddedExpansionsCachedPerNumberOfValues(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		// the parameter is not the only element of the in list, so it can't be padded
+		final String query = "select p.id from Person p where p.id in (:ids, 0) order by p.id";
+
+		assertThat( select( scope, query, 1, 2, 3 ) ).containsExactly( 1, 2, 3 );
+		assertThat( select( scope, query, 1, 2, 3, 4 ) ).containsExactly( 1, 2, 3, 4 );
+		assertThat( select( scope, query, 7, 8, 9 ) ).containsExactly( 7, 8, 9 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+
+		// once known to be unpadded, each number of values has its own plan
+		assertThat( select( scope, query, 5, 6, 7, 8 ) ).containsExactly( 5, 6, 7, 8 );
+		assertThat( select( scope, query, 4, 5, 6 ) ).containsExactly( 4, 5, 6 );
+		assertThat( select( scope, query, 1, 3, 5, 7 ) ).containsExactly( 1, 3, 5, 7 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+	}
+
+	@Test
+	public void testMutationPlanRetranslatedForUnpaddedExpansions(SessionFactoryScope scope) {
+		final String update = "update Person p set p.name = p.name where p.id in (:ids, 0)";
+		assertThat( update( scope, update, 1, 2, 3 ) ).isEqualTo( 3 );
+		assertThat( update( scope, update, 1, 2, 3, 4 ) ).isEqualTo( 4 );
+		assertThat( update( scope, update, 5, 6, 7 ) ).isEqualTo( 3 );
+		assertThat( update( scope, update, 5, 6, 7, 8 ) ).isEqualTo( 4 );
+	}
+
+	private static int update(SessionFactoryScope scope, String update, Integer... ids) {
+		return scope.fromTransaction( session -> session.createMutationQuery( update )
+				.setParameter( "ids", List.of( ids ) )
+				.executeUpdate() );
+	}
+
+	private static List<Integer> select(SessionFactoryScope scope, Integer... ids) {
+		return select( scope, QUERY, ids );
+	}
+
+	private static List<Integer> select(SessionFactoryScope scope, String query, Integer... ids) {
+		return scope.fromTransaction( session -> session.createQuery( query, Integer.class )
+				.setParameter( "ids", List.of( ids ) )
+				.getResultList() );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the plans of single-table update, delete and insert
+ * statements are cached, and reused with different parameter values.
+ */
+@DomainModel(annotatedClasses = {
+		NonSelectQueryPlanCachingTest.Item.class,
+		NonSelectQueryPlanCachingTest.Vehicle.class,
+		NonSelectQueryPlanCachingTest.Car.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class NonSelectQueryPlanCachingTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "Item nr " + i, i * 10 ) );
+			}
+			session.persist( new Car( 1, "Car nr 1", 4 ) );
+		} );
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUpdatePlanCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final int id = i;
+			final int updated = scope.fromTransaction( session -> session
+					.createMutationQuery( "update Item i set i.price = i.price + :delta where i.id = :id" )
+					.setParameter( "delta", id )
+					.setParameter( "id", id )
+					.executeUpdate() );
+			assertThat( updated ).isEqualTo( 1 );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+		assertThat( prices( scope ) ).containsExactly( 11, 22, 33, 40, 50 );
+	}
+
+	@Test
+	public void testDeletePlanCachedWithMultiValuedParameter(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		final int deleted = scope.fromTransaction( session -> session
+				.createMutationQuery( "delete from Item i where i.id in :ids" )
+				.setParameterList( "ids", List.of( 1, 2 ) )
+				.executeUpdate() );
+		assertThat( deleted ).isEqualTo( 2 );
+		final int deletedAgain = scope.fromTransaction( session -> session
+				.createMutationQuery( "delete from Item i where i.id in :ids" )
+				.setParameterList( "ids", List.of( 3, 4 ) )
+				.executeUpdate() );
+		assertThat( deletedAgain ).isEqualTo( 2 );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		assertThat( prices( scope ) ).containsExactly( 50 );
+	}
+
+	@Test
+	public void testInsertPlanCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 6; i <= 7; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> session
+					.createMutationQuery( "insert into Item (id, name, price) values (:id, :name, :price)" )
+					.setParameter( "id", id )
+					.setParameter( "name", "Item nr " + id )
+					.setParameter( "price", id * 10 )
+					.executeUpdate() );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		assertThat( prices( scope ) ).containsExactly( 10, 20, 30, 40, 50, 60, 70 );
+	}
+
+	@Test
+	public void testMultiTablePlanNotCached(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+
+		for ( int i = 0; i < 2; i++ ) {
+			final int updated = scope.fromTransaction( session -> session
+					.createMutationQuery( "update Car c set c.name = :name where c.wheels = 4" )
+					.setParameter( "name", "Renamed car" )
+					.executeUpdate() );
+			assertThat( updated ).isEqualTo( 1 );
+		}
+
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isZero();
+	}
+
+	private static List<Integer> prices(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select i.price from Item i order by i.id", Integer.class )
+				.getResultList() );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		private int price;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		private int wheels;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, int wheels) {
+			super( id, name );
+			this.wheels = wheels;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that scalar results assembled in parallel, on the configured
+ * executor, preserve the order of the rows, and that other results are
+ * still read correctly.
+ */
+@DomainModel(annotatedClasses = ParallelRowMaterializationTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PARALLEL_ROW_MATERIALIZATION_BATCH_SIZE, value = "4"),
+		@Setting(name = AvailableSettings.PARALLEL_ROW_MATERIALIZATION_EXECUTOR,
+				value = "org.hibernate.orm.test.query.ParallelRowMaterializationTest$CountingExecutor")
+})
+@SessionFactory
+public class ParallelRowMaterializationTest {
+	private static final int ITEM_COUNT = 103;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, "Item nr " + i, new Code( "C" + i ) ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSingleScalar(SessionFactoryScope scope) {
+		final List<Integer> ids = scope.fromTransaction( session -> session
+				.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class )
+				.getResultList() );
+		assertThat( ids ).hasSize( ITEM_COUNT );
+		for ( int i = 0; i < ITEM_COUNT; i++ ) {
+			assertThat( ids.get( i ) ).isEqualTo( i + 1 );
+		}
+	}
+
+	@Test
+	public void testConfiguredExecutor(SessionFactoryScope scope) {
+		final int executions = CountingExecutor.EXECUTIONS.get();
+		final List<String> names = scope.fromTransaction( session -> session
+				.createSelectionQuery( "select i.name from Item i order by i.id", String.class )
+				.getResultList() );
+		assertThat( names ).hasSize( ITEM_COUNT ).startsWith( "Item nr 1", "Item nr 2" );
+		// all complete batches of four rows were handed off
+		assertThat( CountingExecutor.EXECUTIONS.get() - executions ).isEqualTo( ITEM_COUNT / 4 );
+	}
+
+	@Test
+	public void testConvertedTuple(SessionFactoryScope scope) {
+		final List<Object[]> rows = scope.fromTransaction( session -> session
+				.createSelectionQuery( "select i.id, i.name, i.code from Item i order by i.id", Object[].class )
+				.getResultList() );
+		assertThat( rows ).hasSize( ITEM_COUNT );
+		for ( int i = 0; i < ITEM_COUNT; i++ ) {
+			final Object[] row = rows.get( i );
+			assertThat( row[0] ).isEqualTo( i + 1 );
+			assertThat( row[1] ).isEqualTo( "Item nr " + ( i + 1 ) );
+			assertThat( ( (Code) row[2] ).value ).isEqualTo( "C" + ( i + 1 ) );
+		}
+	}
+
+	@Test
+	public void testInstantiation(SessionFactoryScope scope) {
+		final List<Summary> summaries = scope.fromTransaction( session -> session
+				.createSelectionQuery(
+						"select new " + Summary.class.getName() + "(i.id, i.code) from Item i order by i.id desc",
+						Summary.class
+				)
+				.getResultList() );
+		assertThat( summaries ).hasSize( ITEM_COUNT );
+		for ( int i = 0; i < ITEM_COUNT; i++ ) {
+			assertThat( summaries.get( i ).id ).isEqualTo( ITEM_COUNT - i );
+			assertThat( summaries.get( i ).code.value ).isEqualTo( "C" + ( ITEM_COUNT - i ) );
+		}
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = session
+					.createSelectionQuery( "from Item i order by i.id", Item.class )
+					.getResultList();
+			assertThat( items ).hasSize( ITEM_COUNT );
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				assertThat( items.get( i ).id ).isEqualTo( i + 1 );
+				assertThat( session.contains( items.get( i ) ) ).isTrue();
+			}
+		} );
+	}
+
+	public static class CountingExecutor implements Executor {
+		private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			EXECUTIONS.incrementAndGet();
+			ForkJoinPool.commonPool().execute( command );
+		}
+	}
+
+	public static class Code {
+		private final String value;
+
+		public Code(String value) {
+			this.value = value;
+		}
+	}
+
+	public static class CodeConverter implements AttributeConverter<Code, String> {
+		@Override
+		public String convertToDatabaseColumn(Code attribute) {
+			return attribute == null ? null : attribute.value;
+		}
+
+		@Override
+		public Code convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : new Code( dbData );
+		}
+	}
+
+	public static class Summary {
+		private final Integer id;
+		private final Code code;
+
+		public Summary(Integer id, Code code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		@Convert(converter = CodeConverter.class)
+		private Code code;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, Code code) {
+			this.id = id;
+			this.name = name;
+			this.code = code;
+		}
+	}
+}
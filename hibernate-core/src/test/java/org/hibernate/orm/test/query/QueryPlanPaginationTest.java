@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that a cached query plan renders its SQL correctly when it is
+ * executed alternately with and without limit, offset, and lock mode.
+ */
+@DomainModel(annotatedClasses = QueryPlanPaginationTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"))
+@SessionFactory
+public class QueryPlanPaginationTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "Item nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testAlternatingPages(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int round = 0; round < 2; round++ ) {
+			assertThat( page( scope, 0, 3 ) ).containsExactly( 1, 2, 3 );
+			assertThat( page( scope, 3, 3 ) ).containsExactly( 4, 5, 6 );
+			assertThat( page( scope, 9, 3 ) ).containsExactly( 10 );
+			assertThat( page( scope, 0, Integer.MAX_VALUE ) ).hasSize( 10 );
+			assertThat( page( scope, 8, Integer.MAX_VALUE ) ).containsExactly( 9, 10 );
+		}
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testAlternatingLockModes(SessionFactoryScope scope) {
+		for ( int round = 0; round < 2; round++ ) {
+			for ( LockMode lockMode : new LockMode[] { LockMode.NONE, LockMode.PESSIMISTIC_WRITE } ) {
+				final List<Integer> ids = scope.fromTransaction( session -> session
+						.createSelectionQuery( "select i.id from Item i where i.id <= :max order by i.id", Integer.class )
+						.setParameter( "max", 2 )
+						.setHibernateLockMode( lockMode )
+						.getResultList() );
+				assertThat( ids ).containsExactly( 1, 2 );
+			}
+		}
+	}
+
+	private static List<Integer> page(SessionFactoryScope scope, int firstResult, int maxResults) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class )
+				.setFirstResult( firstResult )
+				.setMaxResults( maxResults )
+				.getResultList() );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.query.internal.TinyLfuBoundedCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuBoundedCacheTest {
+
+	@Test
+	public void testBoundedSize() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final TinyLfuBoundedCache<Integer, String> cache = new TinyLfuBoundedCache<>( 50, evictions::incrementAndGet );
+		for ( int i = 0; i < 200; i++ ) {
+			cache.put( i, "value " + i );
+			assertThat( cache.size() ).isLessThanOrEqualTo( 50 );
+		}
+		assertThat( cache.size() ).isEqualTo( 50 );
+		assertThat( evictions.get() ).isEqualTo( 150 );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final TinyLfuBoundedCache<Integer, String> cache = new TinyLfuBoundedCache<>( 100, null );
+		for ( int hot = 0; hot < 10; hot++ ) {
+			cache.put( hot, "hot " + hot );
+		}
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int hot = 0; hot < 10; hot++ ) {
+				assertThat( cache.get( hot ) ).isEqualTo( "hot " + hot );
+			}
+			// a write drains the recorded reads
+			cache.put( 1000 + round, "warm " + round );
+		}
+
+		// a scan of entries which are used only once
+		for ( int cold = 10_000; cold < 11_000; cold++ ) {
+			cache.put( cold, "cold " + cold );
+		}
+
+		for ( int hot = 0; hot < 10; hot++ ) {
+			assertThat( cache.get( hot ) ).isEqualTo( "hot " + hot );
+		}
+		assertThat( cache.size() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void testComputeIfAbsent() {
+		final TinyLfuBoundedCache<String, String> cache = new TinyLfuBoundedCache<>( 10, null );
+		assertThat( cache.computeIfAbsent( "a", String::toUpperCase ) ).isEqualTo( "A" );
+		assertThat( cache.computeIfAbsent( "a", key -> "other" ) ).isEqualTo( "A" );
+		assertThat( cache.computeIfAbsent( "b", key -> null ) ).isNull();
+		assertThat( cache.get( "b" ) ).isNull();
+		assertThat( cache.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReplaceAndClear() {
+		final TinyLfuBoundedCache<String, String> cache = new TinyLfuBoundedCache<>( 10, null );
+		cache.put( "a", "1" );
+		cache.put( "a", "2" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "2" );
+		assertThat( cache.size() ).isEqualTo( 1 );
+
+		cache.clear();
+		assertThat( cache.size() ).isZero();
+		assertThat( cache.get( "a" ) ).isNull();
+
+		for ( int i = 0; i < 20; i++ ) {
+			cache.put( "key " + i, "value " + i );
+		}
+		assertThat( cache.size() ).isEqualTo( 10 );
+	}
+}
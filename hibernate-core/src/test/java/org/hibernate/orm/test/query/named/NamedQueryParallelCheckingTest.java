@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.named;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that named HQL queries parsed in parallel during startup
+ * are added to the HQL interpretation cache, and that errors are reported.
+ */
+@DomainModel(annotatedClasses = NamedQueryParallelCheckingTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, value = "4")
+})
+@org.hibernate.testing.orm.junit.SessionFactory
+public class NamedQueryParallelCheckingTest {
+
+	@Test
+	public void testNamedQueriesParsedAtStartup(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+							.getNumberOfCachedHqlInterpretations() ).isGreaterThanOrEqualTo( 5 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			session.createNamedQuery( "Book.byTitle", Book.class ).setParameter( "title", "x" ).getResultList();
+			session.createNamedQuery( "Book.byIsbn", Book.class ).setParameter( "isbn", "x" ).getResultList();
+			session.createNamedQuery( "Book.count", Long.class ).getSingleResult();
+		} );
+		assertThat( statistics.getHqlInterpretationCacheHitCount() ).isGreaterThanOrEqualTo( 3 );
+		assertThat( statistics.getHqlInterpretationCacheMissCount() ).isZero();
+	}
+
+	@Test
+	public void testErrorsReported() {
+		final Configuration cfg = new Configuration()
+				.setProperty( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, "4" )
+				.addAnnotatedClass( Book.class )
+				.addAnnotatedClass( BrokenBook.class );
+		ServiceRegistryUtil.applySettings( cfg.getStandardServiceRegistryBuilder() );
+		final NamedQueryValidationException exception = assertThrows(
+				NamedQueryValidationException.class,
+				() -> {
+					try (SessionFactory ignored = cfg.buildSessionFactory()) {
+						// expected to fail
+					}
+				}
+		);
+		assertThat( exception.getErrors() ).containsOnlyKeys( "BrokenBook.unknownEntity", "BrokenBook.unknownPath" );
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	@NamedQuery(name = "Book.byIsbn", query = "from Book where isbn = :isbn")
+	@NamedQuery(name = "Book.count", query = "select count(*) from Book")
+	@NamedQuery(name = "Book.titles", query = "select title from Book order by title")
+	@NamedQuery(name = "Book.isbns", query = "select isbn from Book order by isbn")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private String isbn;
+	}
+
+	@Entity(name = "BrokenBook")
+	@NamedQuery(name = "BrokenBook.unknownEntity", query = "from NoSuchEntity")
+	@NamedQuery(name = "BrokenBook.unknownPath", query = "select b.noSuchAttribute from BrokenBook b")
+	@NamedQuery(name = "BrokenBook.valid", query = "from BrokenBook")
+	public static class BrokenBook {
+		@Id
+		private Long id;
+	}
+}
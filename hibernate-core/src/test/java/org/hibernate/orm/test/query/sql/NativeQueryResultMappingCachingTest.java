@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.sql;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.hibernate.engine.spi.EffectiveEntityGraph;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.query.results.ResultBuilderEntityValued;
+import org.hibernate.query.results.ResultSetMapping;
+import org.hibernate.query.sql.internal.CachingJdbcValuesMappingProducer;
+import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that the result mapping of a native query resolved from the
+ * {@link java.sql.ResultSetMetaData} is reused by subsequent executions.
+ */
+@DomainModel(annotatedClasses = NativeQueryResultMappingCachingTest.Person.class)
+@SessionFactory
+public class NativeQueryResultMappingCachingTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Person( i, "Person nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testResolvedMappingIsReused() throws SQLException {
+		final JdbcValuesMapping mapping = mappingWithRowSize( 2 );
+		final JdbcValuesMappingProducer delegate = mock( JdbcValuesMappingProducer.class );
+		when( delegate.resolve( any(), any(), any() ) ).thenReturn( mapping );
+		final ResultSetAccess resultSetAccess = resultSetAccess(
+				new String[] { "id", "name" },
+				new int[] { Types.INTEGER, Types.VARCHAR }
+		);
+		final LoadQueryInfluencers influencers = influencers( false );
+
+		final CachingJdbcValuesMappingProducer producer = new CachingJdbcValuesMappingProducer( delegate );
+		assertThat( producer.resolve( resultSetAccess, influencers, null ) ).isSameAs( mapping );
+		assertThat( producer.resolve( resultSetAccess, influencers, null ) ).isSameAs( mapping );
+		assertThat( producer.getResolvedMappingCount() ).isEqualTo( 1 );
+		verify( delegate, times( 1 ) ).resolve( any(), any(), any() );
+
+		// a different shape of result set is resolved again
+		producer.resolve(
+				resultSetAccess( new String[] { "id", "name", "age" }, new int[] { Types.INTEGER, Types.VARCHAR, Types.INTEGER } ),
+				influencers,
+				null
+		);
+		verify( delegate, times( 2 ) ).resolve( any(), any(), any() );
+	}
+
+	@Test
+	public void testMappingIsNotReusedForDifferentColumns() throws SQLException {
+		final JdbcValuesMappingProducer delegate = mock( JdbcValuesMappingProducer.class );
+		when( delegate.resolve( any(), any(), any() ) ).thenReturn( mappingWithRowSize( 1 ) );
+		final LoadQueryInfluencers influencers = influencers( false );
+
+		final CachingJdbcValuesMappingProducer producer = new CachingJdbcValuesMappingProducer( delegate );
+		producer.resolve( resultSetAccess( new String[] { "value" }, new int[] { Types.INTEGER } ), influencers, null );
+		verify( delegate, times( 1 ) ).resolve( any(), any(), any() );
+
+		// same column count, different type
+		producer.resolve( resultSetAccess( new String[] { "value" }, new int[] { Types.VARCHAR } ), influencers, null );
+		verify( delegate, times( 2 ) ).resolve( any(), any(), any() );
+
+		// same column count and type, different label
+		producer.resolve( resultSetAccess( new String[] { "other" }, new int[] { Types.VARCHAR } ), influencers, null );
+		verify( delegate, times( 3 ) ).resolve( any(), any(), any() );
+
+		producer.resolve( resultSetAccess( new String[] { "other" }, new int[] { Types.VARCHAR } ), influencers, null );
+		verify( delegate, times( 3 ) ).resolve( any(), any(), any() );
+	}
+
+	@Test
+	public void testAlternatingColumnsAreBothReused() throws SQLException {
+		final JdbcValuesMappingProducer delegate = mock( JdbcValuesMappingProducer.class );
+		when( delegate.resolve( any(), any(), any() ) ).thenReturn( mappingWithRowSize( 1 ) );
+		final LoadQueryInfluencers influencers = influencers( false );
+
+		final CachingJdbcValuesMappingProducer producer = new CachingJdbcValuesMappingProducer( delegate );
+		for ( int i = 0; i < 3; i++ ) {
+			producer.resolve( resultSetAccess( new String[] { "value" }, new int[] { Types.INTEGER } ), influencers, null );
+			producer.resolve( resultSetAccess( new String[] { "value" }, new int[] { Types.VARCHAR } ), influencers, null );
+		}
+		assertThat( producer.getResolvedMappingCount() ).isEqualTo( 2 );
+		verify( delegate, times( 2 ) ).resolve( any(), any(), any() );
+	}
+
+	@Test
+	public void testEntityResultsAreKeyedByColumnCount() throws SQLException {
+		final JdbcValuesMapping mapping = mappingWithRowSize( 2 );
+		final ResultSetMapping delegate = mock( ResultSetMapping.class );
+		when( delegate.getNumberOfResultBuilders() ).thenReturn( 1 );
+		when( delegate.getResultBuilders() ).thenReturn( List.of( mock( ResultBuilderEntityValued.class ) ) );
+		when( delegate.resolve( any(), any(), any() ) ).thenReturn( mapping );
+		final LoadQueryInfluencers influencers = influencers( false );
+
+		final CachingJdbcValuesMappingProducer producer = new CachingJdbcValuesMappingProducer( delegate );
+		producer.resolve(
+				resultSetAccess( new String[] { "id", "name" }, new int[] { Types.INTEGER, Types.VARCHAR } ),
+				influencers,
+				null
+		);
+		final ResultSetAccess resultSetAccess = resultSetAccess(
+				new String[] { "id", "name" },
+				new int[] { Types.INTEGER, Types.VARCHAR }
+		);
+		assertThat( producer.resolve( resultSetAccess, influencers, null ) ).isSameAs( mapping );
+		verify( delegate, times( 1 ) ).resolve( any(), any(), any() );
+		// the metadata of the columns is not read again
+		verify( resultSetAccess.getResultSet(), never() ).getMetaData();
+
+		// a different number of columns is resolved again
+		producer.resolve( resultSetAccess( new String[] { "id" }, new int[] { Types.INTEGER } ), influencers, null );
+		verify( delegate, times( 2 ) ).resolve( any(), any(), any() );
+	}
+
+	@Test
+	public void testMappingIsNotReusedWhenNotCacheable() throws SQLException {
+		final JdbcValuesMapping mapping = mappingWithRowSize( 2 );
+		final JdbcValuesMappingProducer delegate = mock( JdbcValuesMappingProducer.class );
+		when( delegate.resolve( any(), any(), any() ) ).thenReturn( mapping );
+		final ResultSetAccess resultSetAccess = resultSetAccess(
+				new String[] { "id", "name" },
+				new int[] { Types.INTEGER, Types.VARCHAR }
+		);
+		final JdbcValuesMetadata cachedMetadata = mock( JdbcValuesMetadata.class );
+		when( cachedMetadata.getColumnCount() ).thenReturn( 2 );
+
+		final CachingJdbcValuesMappingProducer producer = new CachingJdbcValuesMappingProducer( delegate );
+		producer.resolve( resultSetAccess, influencers( true ), null );
+		producer.resolve( resultSetAccess, influencers( true ), null );
+		producer.resolve( cachedMetadata, influencers( false ), null );
+		producer.resolve( cachedMetadata, influencers( false ), null );
+		assertThat( producer.getResolvedMappingCount() ).isZero();
+		verify( delegate, times( 4 ) ).resolve( any(), any(), any() );
+	}
+
+	@Test
+	public void testRepeatedExecution(SessionFactoryScope scope) {
+		for ( int round = 0; round < 3; round++ ) {
+			scope.inTransaction( session -> {
+				final List<Person> people = session
+						.createNativeQuery( "select * from Person order by id", Person.class )
+						.getResultList();
+				assertThat( people ).extracting( person -> person.name )
+						.containsExactly( "Person nr 1", "Person nr 2", "Person nr 3" );
+
+				final List<Object[]> tuples = session
+						.createNativeQuery( "select id, name from Person where id > :id order by id", Object[].class )
+						.setParameter( "id", 1 )
+						.getResultList();
+				assertThat( tuples ).hasSize( 2 );
+				assertThat( tuples.get( 0 )[1] ).isEqualTo( "Person nr 2" );
+			} );
+		}
+	}
+
+	private static ResultSetAccess resultSetAccess(String[] labels, int[] types) throws SQLException {
+		final ResultSetMetaData metaData = mock( ResultSetMetaData.class );
+		when( metaData.getColumnCount() ).thenReturn( labels.length );
+		for ( int i = 0; i < labels.length; i++ ) {
+			when( metaData.getColumnLabel( i + 1 ) ).thenReturn( labels[i] );
+			when( metaData.getColumnType( i + 1 ) ).thenReturn( types[i] );
+		}
+		final ResultSet resultSet = mock( ResultSet.class );
+		when( resultSet.getMetaData() ).thenReturn( metaData );
+		final ResultSetAccess resultSetAccess = mock( ResultSetAccess.class );
+		when( resultSetAccess.getColumnCount() ).thenReturn( labels.length );
+		when( resultSetAccess.getResultSet() ).thenReturn( resultSet );
+		return resultSetAccess;
+	}
+
+	private static JdbcValuesMapping mappingWithRowSize(int rowSize) {
+		final JdbcValuesMapping mapping = mock( JdbcValuesMapping.class );
+		when( mapping.getRowSize() ).thenReturn( rowSize );
+		return mapping;
+	}
+
+	private static LoadQueryInfluencers influencers(boolean fetchProfilesEnabled) {
+		final LoadQueryInfluencers influencers = mock( LoadQueryInfluencers.class );
+		when( influencers.hasEnabledFetchProfiles() ).thenReturn( fetchProfilesEnabled );
+		when( influencers.getEffectiveEntityGraph() ).thenReturn( new EffectiveEntityGraph() );
+		return influencers;
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies how the fetch size adapts to the row counts of previous executions.
+ */
+@DomainModel(annotatedClasses = AdaptiveFetchSizeTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.ADAPTIVE_FETCH_SIZE_MEMORY_BUDGET, value = "1024"))
+@SessionFactory
+public class AdaptiveFetchSizeTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new Item( i, "Item nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testFetchSizeAdaptation() {
+		final JdbcOperationQuerySelect jdbcSelect = new JdbcOperationQuerySelect(
+				"select 1",
+				Collections.emptyList(),
+				null,
+				Collections.emptySet()
+		);
+		assertThat( jdbcSelect.getAdaptedFetchSize() ).isZero();
+
+		jdbcSelect.adaptFetchSize( 99, 16, 1024 * 1024 );
+		assertThat( jdbcSelect.getAdaptedFetchSize() ).isEqualTo( 100 );
+
+		// shrinks gradually
+		jdbcSelect.adaptFetchSize( 9, 16, 1024 * 1024 );
+		assertThat( jdbcSelect.getAdaptedFetchSize() ).isEqualTo( 55 );
+
+		// grows immediately
+		jdbcSelect.adaptFetchSize( 499, 16, 1024 * 1024 );
+		assertThat( jdbcSelect.getAdaptedFetchSize() ).isEqualTo( 500 );
+
+		// bounded by the memory budget
+		jdbcSelect.adaptFetchSize( 1_000_000, 16, 1024 * 1024 );
+		assertThat( jdbcSelect.getAdaptedFetchSize() ).isEqualTo( 65536 );
+		jdbcSelect.adaptFetchSize( 1_000_000, 1024 * 1024 * 2, 1024 * 1024 );
+		assertThat( jdbcSelect.getAdaptedFetchSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testRepeatedExecution(SessionFactoryScope scope) {
+		for ( int round = 0; round < 3; round++ ) {
+			final List<String> names = scope.fromTransaction( session -> session
+					.createSelectionQuery( "select i.name from Item i order by i.id", String.class )
+					.getResultList() );
+			assertThat( names ).hasSize( 20 ).startsWith( "Item nr 1", "Item nr 2" );
+
+			final List<Integer> ids = scope.fromTransaction( session -> session
+					.createSelectionQuery( "select i.id from Item i where i.id <= :max order by i.id", Integer.class )
+					.setParameter( "max", 3 )
+					.getResultList() );
+			assertThat( ids ).containsExactly( 1, 2, 3 );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
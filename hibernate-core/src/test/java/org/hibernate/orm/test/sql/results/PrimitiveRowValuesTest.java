@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that integral and floating point values, which are read into
+ * primitive slots of the row buffer, are assembled correctly, including nulls.
+ */
+@DomainModel(annotatedClasses = PrimitiveRowValuesTest.Measurement.class)
+@SessionFactory
+public class PrimitiveRowValuesTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1, 10L, 1.5, Integer.MAX_VALUE ) );
+			session.persist( new Measurement( 2, Long.MIN_VALUE, -0.25, null ) );
+			session.persist( new Measurement( 3, null, null, -7 ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testScalarProjections(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select m.counter from Measurement m order by m.id", Long.class )
+								.getResultList() ).containsExactly( 10L, Long.MIN_VALUE, null );
+			assertThat( session.createSelectionQuery( "select m.reading from Measurement m order by m.id", Double.class )
+								.getResultList() ).containsExactly( 1.5, -0.25, null );
+			assertThat( session.createSelectionQuery( "select m.gauge from Measurement m order by m.id", Integer.class )
+								.getResultList() ).containsExactly( Integer.MAX_VALUE, null, -7 );
+		} );
+	}
+
+	@Test
+	public void testTuples(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Tuple> tuples = session.createSelectionQuery(
+					"select m.id, m.counter, m.reading, m.gauge from Measurement m order by m.id",
+					Tuple.class
+			).getResultList();
+			assertThat( tuples ).hasSize( 3 );
+			assertThat( tuples.get( 0 ).toArray() ).containsExactly( 1, 10L, 1.5, Integer.MAX_VALUE );
+			assertThat( tuples.get( 1 ).toArray() ).containsExactly( 2, Long.MIN_VALUE, -0.25, null );
+			assertThat( tuples.get( 2 ).toArray() ).containsExactly( 3, null, null, -7 );
+		} );
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Measurement measurement = session.find( Measurement.class, 3 );
+			assertThat( measurement.counter ).isNull();
+			assertThat( measurement.reading ).isNull();
+			assertThat( measurement.gauge ).isEqualTo( -7 );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+		private Long counter;
+		private Double reading;
+		private Integer gauge;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, Long counter, Double reading, Integer gauge) {
+			this.id = id;
+			this.counter = counter;
+			this.reading = reading;
+			this.gauge = gauge;
+		}
+	}
+}
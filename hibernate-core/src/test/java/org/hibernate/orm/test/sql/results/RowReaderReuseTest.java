@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.internal.InitializersList;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.internal.StandardRowReader;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingResolutionImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that row readers are reused by subsequent executions of a query,
+ * but never shared by executions which overlap.
+ */
+@DomainModel(annotatedClasses = { RowReaderReuseTest.Author.class, RowReaderReuseTest.Book.class })
+@SessionFactory
+public class RowReaderReuseTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Author author = new Author( i, "Author nr " + i );
+				session.persist( author );
+				session.persist( new Book( i * 10, "Book nr " + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testReleasedRowReaderIsReused() {
+		final JdbcValuesMappingResolutionImpl resolution = new JdbcValuesMappingResolutionImpl(
+				new DomainResultAssembler<?>[0],
+				false,
+				new InitializersList.Builder().build()
+		);
+
+		final StandardRowReader<Object> first =
+				resolution.acquireRowReader( RowTransformerStandardImpl.instance(), Object.class );
+		final StandardRowReader<Object> overlapping =
+				resolution.acquireRowReader( RowTransformerStandardImpl.instance(), Object.class );
+		assertThat( overlapping ).isNotSameAs( first );
+
+		// a row reader is not released before its results are completely processed
+		first.finishUp( null );
+		assertThat( resolution.acquireRowReader( RowTransformerStandardImpl.instance(), Object.class ) )
+				.isNotSameAs( first );
+
+		first.release();
+		assertThat( resolution.acquireRowReader( RowTransformerStandardImpl.instance(), Object.class ) )
+				.isSameAs( first );
+
+		overlapping.release();
+		assertThat( resolution.acquireRowReader( RowTransformerArrayImpl.instance(), Object[].class ) )
+				.isNotSameAs( overlapping );
+	}
+
+	@Test
+	public void testReleaseIsIdempotent() {
+		final JdbcValuesMappingResolutionImpl resolution = new JdbcValuesMappingResolutionImpl(
+				new DomainResultAssembler<?>[0],
+				false,
+				new InitializersList.Builder().build()
+		);
+
+		final StandardRowReader<Object> rowReader =
+				resolution.acquireRowReader( RowTransformerStandardImpl.instance(), Object.class );
+		final StandardRowReader<Object> other =
+				resolution.acquireRowReader( RowTransformerStandardImpl.instance(), Object.class );
+		rowReader.release();
+		other.release();
+		// releasing it again does not replace the row reader released since
+		rowReader.release();
+		assertThat( resolution.acquireRowReader( RowTransformerStandardImpl.instance(), Object.class ) )
+				.isSameAs( other );
+	}
+
+	@Test
+	public void testRepeatedExecution(SessionFactoryScope scope) {
+		for ( int round = 0; round < 3; round++ ) {
+			scope.inTransaction( session -> {
+				final List<Book> books = session
+						.createSelectionQuery( "from Book b join fetch b.author order by b.id", Book.class )
+						.getResultList();
+				assertThat( books ).extracting( book -> book.author.name )
+						.containsExactly( "Author nr 1", "Author nr 2", "Author nr 3" );
+			} );
+		}
+	}
+
+	@Test
+	public void testOverlappingExecutions(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String hql = "from Book b join fetch b.author order by b.id";
+			final List<String> results = new ArrayList<>();
+			try (ScrollableResults<Book> outer = session.createSelectionQuery( hql, Book.class )
+					.scroll( ScrollMode.FORWARD_ONLY )) {
+				while ( outer.next() ) {
+					try (ScrollableResults<Book> inner = session.createSelectionQuery( hql, Book.class )
+							.scroll( ScrollMode.FORWARD_ONLY )) {
+						while ( inner.next() ) {
+							results.add( outer.get().title + "/" + inner.get().author.name );
+						}
+					}
+				}
+			}
+			assertThat( results ).hasSize( 9 );
+			assertThat( results.get( 0 ) ).isEqualTo( "Book nr 1/Author nr 1" );
+			assertThat( results.get( 4 ) ).isEqualTo( "Book nr 2/Author nr 2" );
+			assertThat( results.get( 8 ) ).isEqualTo( "Book nr 3/Author nr 3" );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the hit, miss and eviction counts of the caches maintained by the
+ * {@link org.hibernate.query.spi.QueryInterpretationCache}, which are sized
+ * separately.
+ */
+@DomainModel(annotatedClasses = QueryInterpretationCacheStatisticsTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "2"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_HQL_MAX_SIZE, value = "3")
+})
+@SessionFactory
+public class QueryInterpretationCacheStatisticsTest {
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@Test
+	public void testEvictions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.createSelectionQuery( "from Product p where p.id = " + i, Product.class )
+						.getResultList();
+			}
+		} );
+
+		assertThat( statistics.getHqlInterpretationCacheMissCount() ).isEqualTo( 5 );
+		assertThat( statistics.getHqlInterpretationCacheHitCount() ).isZero();
+		assertThat( statistics.getHqlInterpretationCacheEvictionCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isEqualTo( 3 );
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+							.getNumberOfCachedHqlInterpretations() ).isEqualTo( 3 );
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+							.getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session
+				.createSelectionQuery( "from Product p where p.id = 5", Product.class )
+				.getResultList() );
+		assertThat( statistics.getHqlInterpretationCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testNativeQueryParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			session.createNativeQuery( "select count(*) from Product where id > :id" );
+			session.createNativeQuery( "select count(*) from Product where id > :id" );
+		} );
+
+		assertThat( statistics.getNativeQueryParameterCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getNativeQueryParameterCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getNativeQueryParameterCacheEvictionCount() ).isZero();
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
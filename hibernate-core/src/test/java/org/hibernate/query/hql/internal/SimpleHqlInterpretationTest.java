@@ -0,0 +1,309 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.hql.internal;
+
+import java.util.List;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.hql.spi.SqmCreationOptions;
+import org.hibernate.query.sqm.internal.SqmCreationOptionsStandard;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Verifies that simple queries, which are interpreted without the help of
+ * the ANTLR parser, have the same interpretation as when they are parsed,
+ * and that every other query is left to the parser.
+ */
+@DomainModel(annotatedClasses = SimpleHqlInterpretationTest.Book.class)
+@ServiceRegistry(settings = @Setting(name = QuerySettings.SIMPLE_HQL_INTERPRETATION, value = "true"))
+@SessionFactory
+public class SimpleHqlInterpretationTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Hibernate in Action", "1932394-15-X", 2004 ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", "1932394-88-5", 2006 ) );
+			session.persist( new Book( 3L, "Java Persistence with Hibernate", "9781617290459", 2015 ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSameInterpretation(SessionFactoryScope scope) {
+		final String[] queries = {
+				"from Book",
+				"from Book b",
+				"FROM Book AS b",
+				"from Book this",
+				"from Book where title = :title",
+				"from Book b where b.title = :title and b.published >= :published",
+				"from Book b where b.title=:title and b.published<>:published and b.isbn != :title",
+				"from Book b where b.id = :id",
+				"from Book order by published desc, title",
+				"from Book b where b.published < :published order by b.published asc, b.id desc",
+				"from\n\tBook\n\tb\nwhere\n\tb . title = :title",
+		};
+		for ( String query : queries ) {
+			assertThat( interpretDirectly( scope, query, null ) ).as( query ).isNotNull();
+			assertSameInterpretation( scope, query, null );
+			assertSameInterpretation( scope, query, Book.class );
+		}
+	}
+
+	@Test
+	public void testQueriesOutsideSubset(SessionFactoryScope scope) {
+		final String[] queries = {
+				"select b from Book b",
+				"from Book b where b.title = 'Hibernate in Action'",
+				"from Book b where b.title = :title or b.isbn = :isbn",
+				"from Book b where lower(b.title) = :title",
+				"from Book b where b.published = ?1",
+				"from Book b order by b.title nulls first",
+				"from Book b order by 1",
+				"from Book b /* comment */ where b.title = :title",
+				"from Book where id = :id",
+		};
+		for ( String query : queries ) {
+			assertThat( interpretDirectly( scope, query, null ) ).as( query ).isNull();
+			assertThat( scope.getSessionFactory().getQueryEngine().getHqlTranslator().translate( query, null ) )
+					.as( query ).isNotNull();
+		}
+	}
+
+	@Test
+	public void testDisabled(SessionFactoryScope scope) {
+		final SqmCreationOptions creationOptions = new SqmCreationOptions() {
+			@Override
+			public boolean isSimpleHqlInterpretationEnabled() {
+				return false;
+			}
+		};
+		assertThat( SimpleHqlInterpreter.interpret(
+				"from Book where title = :title",
+				Book.class,
+				creationOptions,
+				scope.getSessionFactory().getQueryEngine().getCriteriaBuilder()
+		) ).isNull();
+	}
+
+	@Test
+	public void testExecution(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createQuery(
+							"from Book b where b.title = :title and b.published > :published order by b.published desc",
+							Book.class
+					)
+					.setParameter( "title", "Java Persistence with Hibernate" )
+					.setParameter( "published", 2000 )
+					.getResultList();
+			assertThat( books ).extracting( book -> book.isbn ).containsExactly( "9781617290459", "1932394-88-5" );
+
+			final List<Book> all = session.createQuery( "from Book order by id", Book.class ).getResultList();
+			assertThat( all ).extracting( book -> book.id ).containsExactly( 1L, 2L, 3L );
+		} );
+	}
+
+	private static SqmSelectStatement<?> interpretDirectly(SessionFactoryScope scope, String query, Class<?> resultType) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		return SimpleHqlInterpreter.interpret(
+				query,
+				resultType,
+				new SqmCreationOptionsStandard( factory.getSessionFactoryOptions() ),
+				factory.getQueryEngine().getCriteriaBuilder()
+		);
+	}
+
+	private static void assertSameInterpretation(SessionFactoryScope scope, String query, Class<?> resultType) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final SqmStatement<?> interpreted =
+				factory.getQueryEngine().getHqlTranslator().translate( query, resultType );
+		final HqlParser parser = HqlParseTreeBuilder.INSTANCE.buildHqlParser(
+				query,
+				HqlParseTreeBuilder.INSTANCE.buildHqlLexer( query )
+		);
+		final SqmStatement<?> parsed = SemanticQueryBuilder.buildSemanticModel(
+				parser.statement(),
+				resultType,
+				new SqmCreationOptionsStandard( factory.getSessionFactoryOptions() ),
+				factory.getQueryEngine().getCriteriaBuilder(),
+				query
+		);
+		assertThat( interpreted.toHqlString() ).as( query ).isEqualTo( parsed.toHqlString() );
+		assertSameStatement( query, (SqmSelectStatement<?>) interpreted, (SqmSelectStatement<?>) parsed );
+		assertSameParameters( query, interpreted, parsed );
+	}
+
+	private static void assertSameStatement(String query, SqmSelectStatement<?> interpreted, SqmSelectStatement<?> parsed) {
+		assertThat( interpreted.getResultType() ).as( query ).isEqualTo( parsed.getResultType() );
+		final SqmQuerySpec<?> interpretedSpec = interpreted.getQuerySpec();
+		final SqmQuerySpec<?> parsedSpec = parsed.getQuerySpec();
+
+		final List<SqmRoot<?>> interpretedRoots = interpretedSpec.getFromClause().getRoots();
+		final List<SqmRoot<?>> parsedRoots = parsedSpec.getFromClause().getRoots();
+		assertThat( interpretedRoots ).as( query ).hasSameSizeAs( parsedRoots );
+		for ( int i = 0; i < interpretedRoots.size(); i++ ) {
+			assertSameExpression( query, interpretedRoots.get( i ), parsedRoots.get( i ) );
+			assertThat( interpretedRoots.get( i ).getExplicitAlias() ).as( query )
+					.isEqualTo( parsedRoots.get( i ).getExplicitAlias() );
+		}
+
+		final List<SqmSelection<?>> interpretedSelections = interpretedSpec.getSelectClause().getSelections();
+		final List<SqmSelection<?>> parsedSelections = parsedSpec.getSelectClause().getSelections();
+		assertThat( interpretedSelections ).as( query ).hasSameSizeAs( parsedSelections );
+		for ( int i = 0; i < interpretedSelections.size(); i++ ) {
+			assertThat( interpretedSelections.get( i ).getAlias() ).as( query )
+					.isEqualTo( parsedSelections.get( i ).getAlias() );
+			assertSameExpression(
+					query,
+					(SqmExpression<?>) interpretedSelections.get( i ).getSelectableNode(),
+					(SqmExpression<?>) parsedSelections.get( i ).getSelectableNode()
+			);
+		}
+
+		assertSamePredicate( query, interpretedSpec.getRestriction(), parsedSpec.getRestriction() );
+
+		final List<SqmSortSpecification> interpretedSorts = interpretedSpec.getSortSpecifications();
+		final List<SqmSortSpecification> parsedSorts = parsedSpec.getSortSpecifications();
+		assertThat( interpretedSorts ).as( query ).hasSameSizeAs( parsedSorts );
+		for ( int i = 0; i < interpretedSorts.size(); i++ ) {
+			final SqmSortSpecification interpretedSort = interpretedSorts.get( i );
+			final SqmSortSpecification parsedSort = parsedSorts.get( i );
+			assertThat( interpretedSort.getSortDirection() ).as( query ).isEqualTo( parsedSort.getSortDirection() );
+			assertThat( interpretedSort.getNullPrecedence() ).as( query ).isEqualTo( parsedSort.getNullPrecedence() );
+			assertThat( interpretedSort.isIgnoreCase() ).as( query ).isEqualTo( parsedSort.isIgnoreCase() );
+			assertSameExpression( query, interpretedSort.getSortExpression(), parsedSort.getSortExpression() );
+		}
+	}
+
+	private static void assertSamePredicate(String query, SqmPredicate interpreted, SqmPredicate parsed) {
+		if ( interpreted == null || parsed == null ) {
+			assertThat( interpreted ).as( query ).isSameAs( parsed );
+			return;
+		}
+		assertThat( interpreted ).as( query ).hasSameClassAs( parsed );
+		assertThat( interpreted.isNegated() ).as( query ).isEqualTo( parsed.isNegated() );
+		assertThat( interpreted.getNodeType() ).as( query ).isEqualTo( parsed.getNodeType() );
+		if ( interpreted instanceof SqmComparisonPredicate interpretedComparison ) {
+			final SqmComparisonPredicate parsedComparison = (SqmComparisonPredicate) parsed;
+			assertThat( interpretedComparison.getSqmOperator() ).as( query )
+					.isEqualTo( parsedComparison.getSqmOperator() );
+			assertSameExpression(
+					query,
+					interpretedComparison.getLeftHandExpression(),
+					parsedComparison.getLeftHandExpression()
+			);
+			assertSameExpression(
+					query,
+					interpretedComparison.getRightHandExpression(),
+					parsedComparison.getRightHandExpression()
+			);
+		}
+		else if ( interpreted instanceof SqmJunctionPredicate interpretedJunction ) {
+			final SqmJunctionPredicate parsedJunction = (SqmJunctionPredicate) parsed;
+			assertThat( interpretedJunction.getOperator() ).as( query ).isEqualTo( parsedJunction.getOperator() );
+			final List<SqmPredicate> interpretedPredicates = interpretedJunction.getPredicates();
+			final List<SqmPredicate> parsedPredicates = parsedJunction.getPredicates();
+			assertThat( interpretedPredicates ).as( query ).hasSameSizeAs( parsedPredicates );
+			for ( int i = 0; i < interpretedPredicates.size(); i++ ) {
+				assertSamePredicate( query, interpretedPredicates.get( i ), parsedPredicates.get( i ) );
+			}
+		}
+		else {
+			fail( "Unexpected predicate " + interpreted + " in: " + query );
+		}
+	}
+
+	private static void assertSameExpression(String query, SqmExpression<?> interpreted, SqmExpression<?> parsed) {
+		assertThat( interpreted ).as( query ).hasSameClassAs( parsed );
+		assertThat( interpreted.getNodeType() ).as( query ).isEqualTo( parsed.getNodeType() );
+		assertThat( interpreted.getJavaType() ).as( query ).isEqualTo( parsed.getJavaType() );
+		if ( interpreted instanceof SqmPath<?> interpretedPath ) {
+			assertThat( interpretedPath.getNavigablePath() ).as( query )
+					.isEqualTo( ( (SqmPath<?>) parsed ).getNavigablePath() );
+		}
+		else if ( interpreted instanceof SqmNamedParameter<?> interpretedParameter ) {
+			assertSameParameter( query, interpretedParameter, (SqmNamedParameter<?>) parsed );
+		}
+		else {
+			fail( "Unexpected expression " + interpreted + " in: " + query );
+		}
+	}
+
+	private static void assertSameParameters(String query, SqmStatement<?> interpreted, SqmStatement<?> parsed) {
+		final List<SqmParameter<?>> interpretedParameters = sortedParameters( interpreted );
+		final List<SqmParameter<?>> parsedParameters = sortedParameters( parsed );
+		assertThat( interpretedParameters ).as( query ).hasSameSizeAs( parsedParameters );
+		for ( int i = 0; i < interpretedParameters.size(); i++ ) {
+			assertSameParameter( query, interpretedParameters.get( i ), parsedParameters.get( i ) );
+		}
+	}
+
+	private static List<SqmParameter<?>> sortedParameters(SqmStatement<?> statement) {
+		return statement.getSqmParameters().stream()
+				.sorted()
+				.toList();
+	}
+
+	private static void assertSameParameter(String query, SqmParameter<?> interpreted, SqmParameter<?> parsed) {
+		assertThat( interpreted.getName() ).as( query ).isEqualTo( parsed.getName() );
+		assertThat( interpreted.getPosition() ).as( query ).isEqualTo( parsed.getPosition() );
+		assertThat( interpreted.allowMultiValuedBinding() ).as( query ).isEqualTo( parsed.allowMultiValuedBinding() );
+		assertThat( interpreted.getNodeType() ).as( query ).isEqualTo( parsed.getNodeType() );
+		assertThat( interpreted.getAnticipatedType() ).as( query ).isEqualTo( parsed.getAnticipatedType() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private String isbn;
+		private int published;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, String isbn, int published) {
+			this.id = id;
+			this.title = title;
+			this.isbn = isbn;
+			this.published = published;
+		}
+	}
+}